@@ -0,0 +1,96 @@
+package dev.rafandoo.gitwit.emoji;
+
+import net.fellbaum.jemoji.Emoji;
+import net.fellbaum.jemoji.EmojiManager;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build-time generator of the emoji table bundled with GitWit.
+ * <p>
+ * Reads the emoji data shipped with jemoji and writes a compact binary table restricted to
+ * GitHub aliases, read at runtime by <code>dev.rafandoo.gitwit.util.EmojiIndex</code>.
+ * All values are big-endian, strings are written with {@link DataOutputStream#writeUTF(String)}:
+ * <pre>
+ * int    magic        "GWEM"
+ * byte   version      1
+ * int    emojiCount
+ * int    aliasCount
+ * emojiCount x { utf emoji, short aliasIndex }   sorted by emoji, -1 when it has no GitHub alias
+ * aliasCount x { utf alias, short emojiIndex }   sorted by alias, e.g. <code>:bug:</code>
+ * </pre>
+ * The alias of an emoji is its first GitHub alias. When several qualifications of an emoji share
+ * an alias, the alias resolves to the fully qualified (longest) one.
+ * </p>
+ */
+public final class EmojiTableGenerator {
+
+    static final int MAGIC = 0x4757454D;
+    static final int VERSION = 1;
+
+    private EmojiTableGenerator() {
+    }
+
+    /**
+     * Writes the emoji table.
+     *
+     * @param args the output file path.
+     * @throws IOException if the table cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: EmojiTableGenerator <output file>");
+        }
+
+        Map<String, String> aliasByEmoji = new TreeMap<>();
+        Map<String, String> emojiByAlias = new TreeMap<>();
+
+        List<Emoji> emojis = new ArrayList<>(EmojiManager.getAllEmojis());
+        emojis.sort((a, b) -> a.getEmoji().compareTo(b.getEmoji()));
+        for (Emoji emoji : emojis) {
+            String unicode = emoji.getEmoji();
+            List<String> aliases = emoji.getGithubAliases();
+            String firstAlias = aliases.isEmpty() ? null : aliases.getFirst();
+
+            if (aliasByEmoji.get(unicode) == null) {
+                aliasByEmoji.put(unicode, firstAlias);
+            }
+            for (String alias : aliases) {
+                emojiByAlias.merge(alias, unicode, (current, candidate) -> candidate.length() > current.length() ? candidate : current);
+            }
+        }
+
+        List<String> emojiKeys = new ArrayList<>(aliasByEmoji.keySet());
+        List<String> aliasKeys = new ArrayList<>(emojiByAlias.keySet());
+        if (emojiKeys.size() > Short.MAX_VALUE || aliasKeys.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Emoji table does not fit 16-bit indexes.");
+        }
+
+        Path output = Path.of(args[0]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(emojiKeys.size());
+            out.writeInt(aliasKeys.size());
+            for (String emoji : emojiKeys) {
+                String alias = aliasByEmoji.get(emoji);
+                out.writeUTF(emoji);
+                out.writeShort(alias == null ? -1 : Collections.binarySearch(aliasKeys, alias));
+            }
+            for (String alias : aliasKeys) {
+                out.writeUTF(alias);
+                out.writeShort(Collections.binarySearch(emojiKeys, emojiByAlias.get(alias)));
+            }
+        }
+    }
+}
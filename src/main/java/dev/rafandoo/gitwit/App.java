@@ -10,6 +10,7 @@ import dev.rafandoo.gitwit.di.GuiceFactory;
 import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.service.MessageService;
 import dev.rafandoo.gitwit.service.TerminalService;
+import dev.rafandoo.gitwit.service.git.GitSession;
 import dev.rafandoo.gitwit.util.EncodingUtil;
 import dev.rafandoo.gitwit.util.EnvironmentUtil;
 import lombok.Getter;
@@ -35,6 +36,7 @@ import java.util.logging.Logger;
         Hook.class,
         Lint.class,
         Changelog.class,
+        Index.class,
     },
     resourceBundle = "i18n.commands.app",
     sortOptions = false
@@ -134,6 +136,7 @@ public class App extends BaseCommand {
             CommandLine cmd = getCommandLine(factory, injector);
             ec = cmd.execute(args);
         } finally {
+            injector.getInstance(GitSession.class).close();
             injector.getInstance(TerminalService.class).close();
         }
         return ec;
@@ -0,0 +1,45 @@
+package dev.rafandoo.gitwit.cli;
+
+import com.google.inject.Inject;
+import dev.rafandoo.gitwit.service.git.GitIndexService;
+import picocli.CommandLine;
+
+/**
+ * <h2>index</h2>
+ * <p>
+ * Command used to maintain the auxiliary indexes of the current repository.
+ * </p>
+ *
+ * <p>
+ * With {@code --commit-graph}, the commit-graph file is written or refreshed so that history
+ * walks take the topology from it instead of parsing every commit.
+ * </p>
+ */
+@CommandLine.Command(
+    name = "index",
+    resourceBundle = "i18n.commands.index",
+    sortOptions = false
+)
+public class Index extends BaseCommand {
+
+    @CommandLine.Option(
+        names = {"-cg", "--commit-graph"},
+        descriptionKey = "index.option.commit-graph"
+    )
+    private boolean commitGraph;
+
+    @Inject
+    private GitIndexService gitIndexService;
+
+    @Override
+    public void run() {
+        if (!this.commitGraph) {
+            super.run();
+            return;
+        }
+
+        messageService.info("index.commit_graph.start");
+        int commits = this.gitIndexService.writeCommitGraph();
+        messageService.success("index.commit_graph.success", commits);
+    }
+}
@@ -15,6 +15,7 @@ import picocli.CommandLine;
  * You may choose to:
  *  <ul>
  *      <li>Install the interactive commit wizard hook via {@code --hook}</li>
+ *      <li>Install the pre-push hook linting the commits about to be pushed via {@code --pre-push}</li>
  *      <li>Register a Git alias to use GitWit as a CLI tool via {@code --global} or local configuration</li>
  * </ul>
  */
@@ -31,6 +32,12 @@ public class Install extends BaseCommand {
     )
     private boolean hook;
 
+    @CommandLine.Option(
+        names = {"-pp", "--pre-push"},
+        descriptionKey = "install.option.pre-push"
+    )
+    private boolean prePush;
+
     @CommandLine.Option(
         names = {"-f", "--force"},
         descriptionKey = "install.option.force"
@@ -51,13 +58,18 @@ public class Install extends BaseCommand {
 
     @Override
     public void run() {
-        if (this.hook && this.global) {
+        if ((this.hook || this.prePush) && this.global) {
             throw new GitWitException("install.error.conflict", true);
         }
 
-        if (this.hook) {
+        if (this.hook || this.prePush) {
             messageService.info("install.hook.start");
-            this.gitHookService.setupCommitWizardHook(this.force);
+            if (this.hook) {
+                this.gitHookService.setupCommitWizardHook(this.force);
+            }
+            if (this.prePush) {
+                this.gitHookService.setupPrePushHook(this.force);
+            }
             messageService.success("install.hook.success");
             return;
         }
@@ -2,9 +2,16 @@ package dev.rafandoo.gitwit.cli;
 
 import com.google.inject.Inject;
 import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.LintLimits;
 import dev.rafandoo.gitwit.service.LintService;
+import dev.rafandoo.gitwit.service.git.PushUpdate;
 import picocli.CommandLine;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
 /**
  * <h2>lint</h2>
  * <p>
@@ -15,6 +22,16 @@ import picocli.CommandLine;
  * If no range is provided, the most recent commit (HEAD) is checked. If a range is provided,
  * all commits in the interval will be validated.
  * </p>
+ *
+ * <p>
+ * The violations of each commit are printed as soon as they are found. The validation can stop at the
+ * first failing commit, or once a number of violations is reached.
+ * </p>
+ *
+ * <p>
+ * With {@code --pre-push <remote> --push-url <url>}, the ref updates passed by Git to the <code>pre-push</code>
+ * hook are read from the standard input and only the commits not yet on the remote are validated.
+ * </p>
  */
 @CommandLine.Command(
     name = "lint",
@@ -44,6 +61,30 @@ public class Lint extends BaseCommand {
     )
     private String[] messageParts;
 
+    @CommandLine.Option(
+        names = {"-ff", "--fail-fast"},
+        descriptionKey = "lint.option.fail-fast"
+    )
+    private boolean failFast;
+
+    @CommandLine.Option(
+        names = {"-mv", "--max-violations"},
+        descriptionKey = "lint.option.max-violations"
+    )
+    private int maxViolations;
+
+    @CommandLine.Option(
+        names = {"-pp", "--pre-push"},
+        descriptionKey = "lint.option.pre-push"
+    )
+    private String remote;
+
+    @CommandLine.Option(
+        names = {"-pu", "--push-url"},
+        descriptionKey = "lint.option.push-url"
+    )
+    private String url;
+
     @CommandLine.Parameters(
         index = "0",
         arity = "0..1",
@@ -56,13 +97,31 @@ public class Lint extends BaseCommand {
 
     @Override
     public void run() {
+        if (this.remote != null
+            && (this.revSpec != null || this.messageParts != null || this.from != null || this.to != null)) {
+            throw new GitWitException("lint.error.conflict", true);
+        }
+
         GitWitConfig config = loadConfig();
         messageService.info("lint.start");
+        if (this.remote != null) {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            this.lintService.lintPush(
+                this.remote,
+                this.url,
+                PushUpdate.readAll(input),
+                new LintLimits(this.failFast, this.maxViolations),
+                config
+            );
+            messageService.success("lint.success");
+            return;
+        }
         this.lintService.lint(
             this.revSpec,
             this.from,
             this.to,
             this.messageParts,
+            new LintLimits(this.failFast, this.maxViolations),
             config
         );
         messageService.success("lint.success");
@@ -24,6 +24,12 @@ public class Uninstall extends BaseCommand {
     )
     private boolean hook;
 
+    @CommandLine.Option(
+        names = {"-pp", "--pre-push"},
+        descriptionKey = "uninstall.option.pre-push"
+    )
+    private boolean prePush;
+
     @CommandLine.Option(
         names = {"-g", "--global"},
         descriptionKey = "uninstall.option.global"
@@ -38,13 +44,18 @@ public class Uninstall extends BaseCommand {
 
     @Override
     public void run() {
-        if (this.hook && this.global) {
+        if ((this.hook || this.prePush) && this.global) {
             throw new GitWitException("uninstall.error.conflict", true);
         }
 
-        if (this.hook) {
+        if (this.hook || this.prePush) {
             messageService.info("uninstall.hook.start");
-            this.gitHookService.uninstallCommitWizardHook();
+            if (this.hook) {
+                this.gitHookService.uninstallCommitWizardHook();
+            }
+            if (this.prePush) {
+                this.gitHookService.uninstallPrePushHook();
+            }
             messageService.success("uninstall.hook.success");
             return;
         }
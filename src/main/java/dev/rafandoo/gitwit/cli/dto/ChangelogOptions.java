@@ -79,6 +79,12 @@ public class ChangelogOptions {
             descriptionKey = "changelog.option.stdout"
         )
         private boolean stdout = false;
+
+        @CommandLine.Option(
+            names = {"-i", "--incremental"},
+            descriptionKey = "changelog.option.incremental"
+        )
+        private boolean incremental = false;
     }
 
     @NoArgsConstructor
@@ -97,6 +103,12 @@ public class ChangelogOptions {
             descriptionKey = "changelog.option.for-tag"
         )
         private String forTag;
+
+        @CommandLine.Option(
+            names = {"--all-releases"},
+            descriptionKey = "changelog.option.all-releases"
+        )
+        private boolean allReleases;
     }
 
     @NoArgsConstructor
@@ -155,6 +155,11 @@ public class GitWitConfig {
          */
         private List<String> ignored = List.of("Merge", "Revert", "Pull request", "fixup!", "squash!");
 
+        /**
+         * Whether the ignored patterns are matched against the full commit message instead of the subject line.
+         */
+        private boolean matchIgnoredInBody = false;
+
         /**
          * Formatting preferences for rendering each commit entry.
          */
@@ -209,6 +214,11 @@ public class GitWitConfig {
          * List of commit messages to ignore during linting.
          */
         private List<String> ignored = List.of("Merge", "Revert", "Pull request", "fixup!", "squash!");
+
+        /**
+         * Whether the ignored patterns are matched against the full commit message instead of the subject line.
+         */
+        private boolean matchIgnoredInBody = false;
     }
 
     /**
@@ -1,20 +1,16 @@
 package dev.rafandoo.gitwit.entity;
 
 import dev.rafandoo.gitwit.cli.wiz.CommitWizard;
+import dev.rafandoo.gitwit.parser.CommitMessageScanner;
+import dev.rafandoo.gitwit.parser.ParsedCommit;
+import dev.rafandoo.gitwit.parser.RawCommitMessage;
 import dev.rafandoo.gitwit.service.CommitMessageService;
 import dev.rafandoo.cup.utils.StringUtils;
 import dev.rafandoo.gitwit.util.EmojiUtil;
-import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.revwalk.RevCommit;
 
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Immutable value object representing a Conventional Commit.
  * <pre>
@@ -25,7 +21,8 @@ import java.util.regex.Pattern;
  *   BREAKING CHANGE: description
  * </pre>
  * Instances are created by {@link CommitWizard} and validated by
- * {@link CommitMessageService}.
+ * {@link CommitMessageService}. Commits read from history are usually exposed
+ * through {@link LazyCommitMessage} instead.
  *
  * @param type                commit type, e.g. <code>feat</code>, <code>fix</code>.
  * @param scope               scope affected by the change.
@@ -45,7 +42,7 @@ public record CommitMessage(
     String breakingChangesDesc,
     ObjectId hash,
     PersonIdent authorIdent
-) {
+) implements CommitMessageView {
 
     /**
      * Formats this message following the Conventional Commits specification.
@@ -75,125 +72,30 @@ public record CommitMessage(
         return sb.toString();
     }
 
-    /**
-     * Formats this commit message as an entry in a changelog.
-     *
-     * <p>
-     * A template is selected based on the provided changelog format and scope,
-     * and placeholders are replaced with commit-specific values.
-     * </p>
-     *
-     * @param template changelog entry template.
-     * @return formatted changelog entry.
-     */
-    public String formatForChangelog(String template) {
-        String formattedDate = "";
-        if (template.contains("{date}") && authorIdent != null) {
-            Instant instant = authorIdent.getWhenAsInstant();
-            if (instant != null) {
-                LocalDateTime dateTime = LocalDateTime.ofInstant(instant, authorIdent.getZoneId());
-                formattedDate = dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            }
-        }
-
-        return template
-            .replace("{type}", StringUtils.isNullOrBlank(this.type) ? "" : this.type.trim())
-            .replace("{scope}", StringUtils.isNullOrBlank(this.scope) ? "" : this.scope.trim())
-            .replace("{description}", StringUtils.isNullOrBlank(shortDescription) ? "" : shortDescription.trim())
-            .replace("{hash}", hash != null && !StringUtils.isNullOrBlank(hash.name()) ? hash.name() : "")
-            .replace("{shortHash}", hash != null && !StringUtils.isNullOrBlank(hash.name()) ? hash.abbreviate(Constants.OBJECT_ID_ABBREV_STRING_LENGTH).name() : "")
-            .replace("{breakingChanges}", breakingChanges ? "!" : "")
-            .replace("{author}", authorIdent == null || StringUtils.isNullOrBlank(authorIdent.getName()) ? "" : authorIdent.getName())
-            .replace("{date}", formattedDate)
-            .replaceAll("\\s?\\(\\)", "")
-            .replaceAll("^:\\s+", "")
-            .replaceAll("^\\s+", "");
-    }
-
-    /**
-     * Internal representation of a parsed commit message.
-     * <p>
-     * This record exists solely to decouple parsing logic from
-     * {@link CommitMessage} construction.
-     * </p>
-     */
-    private record ParsedCommit(
-        String type,
-        String scope,
-        String subject,
-        String description,
-        boolean breaking,
-        String breakingDesc
-    ) {
-    }
-
     /**
      * Parses a raw commit message into structured components.
      *
      * @param fullMessage raw commit message.
      * @return parsed commit data.
+     * @see CommitMessageScanner
      */
-    private static ParsedCommit parse(String fullMessage) {
-        if (StringUtils.isNullOrBlank(fullMessage)) {
-            return new ParsedCommit(null, null, null, null, false, null);
-        }
-
-        String message = EmojiUtil.replaceEmojiWithAlias(fullMessage);
-
-        String[] parts = message.split("\n\n", 2);
-        String header = parts[0].replace('\n', ' ').trim();
-        String body = parts.length > 1 ? parts[1] : null;
-
-        String type = null;
-        String scope = null;
-        boolean breaking = false;
-        String subject;
-
-        Pattern pattern = Pattern.compile(
-            "^(?<type>\\w+|:\\w+:)\\s?(?:\\((?<scope>[^)]*)\\))?(?<breaking>!)?:?\\s*(?<desc>.*)$"
-        );
-
-        Matcher matcher = pattern.matcher(header);
-
-        if (matcher.matches()) {
-            type = matcher.group("type");
-            scope = matcher.group("scope");
-            subject = matcher.group("desc");
-            breaking = matcher.group("breaking") != null;
-        } else {
-            subject = header.trim();
-        }
-
-        String description = body;
-        String breakingDesc = null;
-
-        if (body != null && body.contains("BREAKING CHANGE:")) {
-            String[] bodyParts = body.split("(?m)^BREAKING CHANGE:\\s*", 2);
-            description = bodyParts[0].trim();
-            if (bodyParts.length > 1) {
-                breakingDesc = bodyParts[1].trim();
-                breaking = true;
-            }
-        }
-
-        return new ParsedCommit(
-            normalize(type),
-            normalize(scope),
-            normalize(subject),
-            normalize(description),
-            breaking,
-            normalize(breakingDesc)
-        );
+    private static ParsedCommit parse(CharSequence fullMessage) {
+        return CommitMessageScanner.scan(fullMessage);
     }
 
     /**
      * Creates a {@link CommitMessage} from a {@link RevCommit}.
+     * <p>
+     * The message is read from the raw commit buffer, so only the parsed fields are decoded.
+     * </p>
      *
      * @param commit Git commit to parse.
      * @return parsed commit message representation.
+     * @see RawCommitMessage
      */
     public static CommitMessage of(RevCommit commit) {
-        if (commit == null || StringUtils.isNullOrBlank(commit.getFullMessage())) {
+        CharSequence fullMessage = commit == null ? null : RawCommitMessage.of(commit);
+        if (CommitMessageScanner.isBlank(fullMessage)) {
             return new CommitMessage(
                 null,
                 null,
@@ -206,7 +108,7 @@ public record CommitMessage(
             );
         }
 
-        ParsedCommit parsed = parse(commit.getFullMessage());
+        ParsedCommit parsed = parse(fullMessage);
 
         return new CommitMessage(
             parsed.type(),
@@ -240,14 +142,4 @@ public record CommitMessage(
             null
         );
     }
-
-    /**
-     * Normalizes a string by trimming whitespace and converting empty values to null.
-     *
-     * @param value the string to normalize.
-     * @return the normalized string, or null if the input is null or blank.
-     */
-    private static String normalize(String value) {
-        return StringUtils.isNullOrBlank(value) ? null : value.trim();
-    }
 }
@@ -0,0 +1,126 @@
+package dev.rafandoo.gitwit.entity;
+
+import dev.rafandoo.cup.utils.StringUtils;
+import dev.rafandoo.gitwit.parser.CommitMessageScanner;
+import dev.rafandoo.gitwit.parser.Trailers;
+import dev.rafandoo.gitwit.service.changelog.ChangelogEntryTemplate;
+import dev.rafandoo.gitwit.util.DateFormatUtil;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+
+/**
+ * Read-only view of a Conventional Commit.
+ * <p>
+ * Implemented by {@link CommitMessage}, the fully materialized value object, and by
+ * {@link LazyCommitMessage}, which defers the body, the footers, the author and the
+ * formatted date until they are first requested. Consumers that only read commits
+ * (changelog generation, linting) should depend on this type.
+ * </p>
+ */
+public interface CommitMessageView {
+
+    /**
+     * Returns the commit type.
+     *
+     * @return commit type, e.g. <code>feat</code>, <code>fix</code>.
+     */
+    String type();
+
+    /**
+     * Returns the scope affected by the change.
+     *
+     * @return commit scope, or {@code null} if absent.
+     */
+    String scope();
+
+    /**
+     * Returns the imperative, present‑tense summary.
+     *
+     * @return short description.
+     */
+    String shortDescription();
+
+    /**
+     * Returns the detailed explanation of the commit.
+     *
+     * @return long description, or {@code null} if absent.
+     */
+    String longDescription();
+
+    /**
+     * Indicates whether the commit contains breaking changes.
+     *
+     * @return {@code true} if the commit contains breaking changes.
+     */
+    boolean breakingChanges();
+
+    /**
+     * Returns the description of the breaking changes.
+     *
+     * @return breaking changes description, or {@code null} if absent.
+     */
+    String breakingChangesDesc();
+
+    /**
+     * Returns the commit hash.
+     *
+     * @return commit hash, or {@code null} if the message does not come from a commit.
+     */
+    ObjectId hash();
+
+    /**
+     * Returns the commit author data as well as the commit date.
+     *
+     * @return author identity, or {@code null} if unknown.
+     */
+    PersonIdent authorIdent();
+
+    /**
+     * Returns the footers (git trailers) of the commit, such as <code>Refs</code> or <code>Co-authored-by</code>.
+     * <p>
+     * The default implementation rebuilds the footer section from {@link #longDescription()} and
+     * {@link #breakingChangesDesc()} on every call.
+     * </p>
+     *
+     * @return the footer index, never {@code null}.
+     */
+    default Trailers trailers() {
+        String longDescription = this.longDescription();
+        String breakingChangesDesc = this.breakingChangesDesc();
+
+        StringBuilder body = new StringBuilder();
+        if (!StringUtils.isNullOrBlank(longDescription)) {
+            body.append(longDescription);
+        }
+        if (!StringUtils.isNullOrBlank(breakingChangesDesc)) {
+            body.append("\n\n").append(CommitMessageScanner.BREAKING_CHANGE).append(' ').append(breakingChangesDesc);
+        }
+        return body.isEmpty() ? Trailers.EMPTY : Trailers.parse(body, 0);
+    }
+
+    /**
+     * Formats the author date of the commit.
+     *
+     * @return the date as <code>yyyy-MM-dd HH:mm:ss</code> in the author time zone,
+     * or an empty string if unknown.
+     */
+    default String formattedDate() {
+        return DateFormatUtil.format(this.authorIdent(), DateFormatUtil.formatter(DateFormatUtil.DEFAULT_PATTERN));
+    }
+
+    /**
+     * Formats this commit message as an entry in a changelog.
+     *
+     * <p>
+     * A template is selected based on the provided changelog format and scope,
+     * and placeholders are replaced with commit-specific values. Callers rendering many
+     * entries should compile the template once with {@link ChangelogEntryTemplate#compile(String)}.
+     * </p>
+     *
+     * @param template changelog entry template.
+     * @return formatted changelog entry.
+     */
+    default String formatForChangelog(String template) {
+        return ChangelogEntryTemplate.compile(template).render(this);
+    }
+}
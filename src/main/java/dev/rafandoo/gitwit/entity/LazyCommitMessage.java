@@ -0,0 +1,206 @@
+package dev.rafandoo.gitwit.entity;
+
+import dev.rafandoo.gitwit.parser.CommitMessageScanner;
+import dev.rafandoo.gitwit.parser.MessageIndex;
+import dev.rafandoo.gitwit.parser.RawCommitMessage;
+import dev.rafandoo.gitwit.parser.Trailers;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.util.RawParseUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lazily evaluated {@link CommitMessageView} of a Git commit.
+ * <p>
+ * Only the header (type, scope, short description and breaking marker) is decoded on
+ * creation, which is all that grouping and most lint rules need. The body, the breaking
+ * change footer and the footer index are resolved on first access; the author line is
+ * copied out of the raw commit buffer and parsed into a {@link PersonIdent} only when
+ * requested, and the formatted date is computed once.
+ * </p>
+ * <p>
+ * The view never references the {@link RevCommit} itself: the hash is detached from it and
+ * the raw buffer is only kept while a body or footers remain to be decoded, so single-line
+ * commits hold nothing but their header fields. Resolved footers are detached from the buffer.
+ * </p>
+ * Instances are not thread-safe.
+ */
+public final class LazyCommitMessage implements CommitMessageView {
+
+    private final ObjectId hash;
+    private final String type;
+    private final String scope;
+    private final String shortDescription;
+    private final boolean breakingChanges;
+
+    private MessageIndex index;
+    private boolean bodyResolved;
+    private String longDescription;
+    private String breakingChangesDesc;
+    private Trailers trailers;
+
+    private byte[] authorLine;
+    private PersonIdent authorIdent;
+    private String formattedDate;
+
+    private LazyCommitMessage(ObjectId hash, MessageIndex index, byte[] authorLine, PersonIdent authorIdent) {
+        this.hash = hash;
+        this.type = index.type();
+        this.scope = index.scope();
+        this.shortDescription = index.subject();
+        this.breakingChanges = index.breaking();
+        if (index.hasBody()) {
+            this.index = index;
+        } else {
+            this.bodyResolved = true;
+            this.trailers = Trailers.EMPTY;
+        }
+        this.authorLine = authorLine;
+        this.authorIdent = authorIdent;
+    }
+
+    /**
+     * Creates a lazy view of the given commit.
+     *
+     * @param commit Git commit to expose.
+     * @return lazily evaluated commit message.
+     * @see RawCommitMessage
+     */
+    public static LazyCommitMessage of(RevCommit commit) {
+        byte[] raw = commit.getRawBuffer();
+        if (raw == null) {
+            // Body not retained: let JGit resolve the message and the identity.
+            MessageIndex index = CommitMessageScanner.index(RawCommitMessage.of(commit));
+            return new LazyCommitMessage(commit.getId().copy(), index, null, commit.getAuthorIdent());
+        }
+        return of(commit.getId(), raw);
+    }
+
+    /**
+     * Creates a lazy view of a raw commit object.
+     * <p>
+     * Commit buffers are never modified, so the view can be created from the buffer of a commit
+     * whose body was already released by its walk, e.g. on another thread.
+     * </p>
+     *
+     * @param id  the id of the commit.
+     * @param raw the raw commit object, as returned by {@link RevCommit#getRawBuffer()}.
+     * @return lazily evaluated commit message.
+     * @see RawCommitMessage
+     */
+    public static LazyCommitMessage of(ObjectId id, byte[] raw) {
+        MessageIndex index = CommitMessageScanner.index(RawCommitMessage.of(raw));
+
+        byte[] authorLine = null;
+        PersonIdent authorIdent = null;
+        int start = RawParseUtils.author(raw, 0);
+        if (start >= 0) {
+            if (StandardCharsets.UTF_8.equals(RawParseUtils.guessEncoding(raw))) {
+                int end = RawParseUtils.nextLF(raw, start);
+                authorLine = Arrays.copyOfRange(raw, start, end);
+            } else {
+                // Identity encoded in another charset: let JGit decode it.
+                authorIdent = RawParseUtils.parsePersonIdent(raw, start);
+            }
+        }
+
+        return new LazyCommitMessage(id.copy(), index, authorLine, authorIdent);
+    }
+
+    @Override
+    public String type() {
+        return this.type;
+    }
+
+    @Override
+    public String scope() {
+        return this.scope;
+    }
+
+    @Override
+    public String shortDescription() {
+        return this.shortDescription;
+    }
+
+    @Override
+    public String longDescription() {
+        this.resolveBody();
+        return this.longDescription;
+    }
+
+    @Override
+    public boolean breakingChanges() {
+        return this.breakingChanges;
+    }
+
+    @Override
+    public String breakingChangesDesc() {
+        this.resolveBody();
+        return this.breakingChangesDesc;
+    }
+
+    @Override
+    public Trailers trailers() {
+        if (this.trailers == null) {
+            this.trailers = this.index.trailers().detach();
+            this.releaseIndex();
+        }
+        return this.trailers;
+    }
+
+    @Override
+    public ObjectId hash() {
+        return this.hash;
+    }
+
+    @Override
+    public PersonIdent authorIdent() {
+        if (this.authorLine != null) {
+            this.authorIdent = RawParseUtils.parsePersonIdent(this.authorLine, 0);
+            this.authorLine = null;
+        }
+        return this.authorIdent;
+    }
+
+    @Override
+    public String formattedDate() {
+        if (this.formattedDate == null) {
+            this.formattedDate = CommitMessageView.super.formattedDate();
+        }
+        return this.formattedDate;
+    }
+
+    /**
+     * Decodes the body and the breaking change footer.
+     */
+    private void resolveBody() {
+        if (!this.bodyResolved) {
+            this.longDescription = this.index.description();
+            this.breakingChangesDesc = this.index.breakingDesc();
+            this.bodyResolved = true;
+            this.releaseIndex();
+        }
+    }
+
+    /**
+     * Drops the message index, and with it the raw buffer, once every field it backs has been resolved.
+     */
+    private void releaseIndex() {
+        if (this.bodyResolved && this.trailers != null) {
+            this.index = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LazyCommitMessage[type=" + this.type
+            + ", scope=" + this.scope
+            + ", shortDescription=" + this.shortDescription
+            + ", breakingChanges=" + this.breakingChanges
+            + ", hash=" + (this.hash == null ? null : this.hash.name())
+            + "]";
+    }
+}
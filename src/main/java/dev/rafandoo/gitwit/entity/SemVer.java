@@ -0,0 +1,196 @@
+package dev.rafandoo.gitwit.entity;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable representation of a Semantic Version (SemVer), optionally prefixed with <code>v</code>.
+ * <p>
+ * Versions are ordered by SemVer precedence: major, minor and patch are compared numerically, a
+ * pre-release version has lower precedence than the associated normal version, and pre-release
+ * identifiers are compared one by one, numeric identifiers numerically and lower than alphanumeric ones.
+ * The prefix and the build metadata are ignored when ordering.
+ * </p>
+ * Supports major, minor and patch increments.
+ *
+ * @param prefix     the prefix of the version, either <code>v</code> or empty.
+ * @param major      the major version.
+ * @param minor      the minor version.
+ * @param patch      the patch version.
+ * @param preRelease the pre-release identifiers, or {@code null}.
+ * @param build      the build metadata, or {@code null}.
+ */
+public record SemVer(
+    String prefix,
+    int major,
+    int minor,
+    int patch,
+    String preRelease,
+    String build
+) implements Comparable<SemVer> {
+
+    private static final Pattern SEMVER_PATTERN = Pattern.compile(
+        "^(v?)" +                        // prefix
+            "(\\d+)\\.(\\d+)\\.(\\d+)" +     // major.minor.patch
+            "(?:-([0-9A-Za-z.-]+))?" +       // pre-release
+            "(?:\\+([0-9A-Za-z.-]+))?$"      // build
+    );
+
+    /**
+     * Parses a semantic version string.
+     *
+     * @param version the version string.
+     * @return a {@link SemVer} instance if valid, otherwise {@code null}.
+     */
+    public static SemVer parse(String version) {
+        if (version == null) {
+            return null;
+        }
+
+        Matcher matcher = SEMVER_PATTERN.matcher(version);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        try {
+            return new SemVer(
+                matcher.group(1),
+                Integer.parseInt(matcher.group(2)),
+                Integer.parseInt(matcher.group(3)),
+                Integer.parseInt(matcher.group(4)),
+                matcher.group(5),
+                matcher.group(6)
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new SemVer instance with the major version incremented by 1,
+     * and minor and patch reset to 0.
+     *
+     * @return a new SemVer instance with the major version bumped.
+     */
+    public SemVer bumpMajor() {
+        return new SemVer(prefix, major + 1, 0, 0, null, null);
+    }
+
+    /**
+     * Creates a new SemVer instance with the minor version incremented by 1,
+     * and patch reset to 0.
+     *
+     * @return a new SemVer instance with the minor version bumped.
+     */
+    public SemVer bumpMinor() {
+        return new SemVer(prefix, major, minor + 1, 0, null, null);
+    }
+
+    /**
+     * Creates a new SemVer instance with the patch version incremented by 1.
+     *
+     * @return a new SemVer instance with the patch version bumped.
+     */
+    public SemVer bumpPatch() {
+        return new SemVer(prefix, major, minor, patch + 1, null, null);
+    }
+
+    @Override
+    public int compareTo(SemVer other) {
+        int result = Integer.compare(this.major, other.major);
+        if (result == 0) {
+            result = Integer.compare(this.minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(this.patch, other.patch);
+        }
+        if (result == 0) {
+            result = comparePreRelease(this.preRelease, other.preRelease);
+        }
+        return result;
+    }
+
+    /**
+     * Compares two pre-release versions by SemVer precedence.
+     *
+     * @param a the first pre-release, or {@code null} for a normal version.
+     * @param b the second pre-release, or {@code null} for a normal version.
+     * @return a negative number, zero or a positive number as {@code a} precedes, equals or follows {@code b}.
+     */
+    private static int comparePreRelease(String a, String b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : 1) : -1;
+        }
+
+        String[] left = a.split("\\.", -1);
+        String[] right = b.split("\\.", -1);
+        for (int i = 0; i < Math.min(left.length, right.length); i++) {
+            int result = compareIdentifier(left[i], right[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(left.length, right.length);
+    }
+
+    /**
+     * Compares two pre-release identifiers: numeric identifiers numerically, alphanumeric identifiers
+     * lexically in ASCII order, and numeric identifiers before alphanumeric ones.
+     *
+     * @param a the first identifier.
+     * @param b the second identifier.
+     * @return a negative number, zero or a positive number as {@code a} precedes, equals or follows {@code b}.
+     */
+    private static int compareIdentifier(String a, String b) {
+        boolean numericA = isNumeric(a);
+        boolean numericB = isNumeric(b);
+        if (numericA && numericB) {
+            String trimmedA = a.replaceFirst("^0+(?=.)", "");
+            String trimmedB = b.replaceFirst("^0+(?=.)", "");
+            int result = Integer.compare(trimmedA.length(), trimmedB.length());
+            return result != 0 ? result : trimmedA.compareTo(trimmedB);
+        }
+        if (numericA != numericB) {
+            return numericA ? -1 : 1;
+        }
+        return a.compareTo(b);
+    }
+
+    /**
+     * Tells whether a pre-release identifier only contains digits.
+     *
+     * @param identifier the identifier.
+     * @return {@code true} if the identifier is numeric.
+     */
+    private static boolean isNumeric(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(prefix)
+            .append(major).append(".")
+            .append(minor).append(".")
+            .append(patch);
+
+        if (preRelease != null) {
+            sb.append("-").append(preRelease);
+        }
+
+        if (build != null) {
+            sb.append("+").append(build);
+        }
+
+        return sb.toString();
+    }
+}
@@ -17,6 +17,11 @@ public enum GitRepositoryParam {
      */
     PREPARE_COMMIT_MSG("prepare-commit-msg"),
 
+    /**
+     * Name of the pre-push lint hook file.
+     */
+    PRE_PUSH("pre-push"),
+
     /**
      * Default editor for Git.
      */
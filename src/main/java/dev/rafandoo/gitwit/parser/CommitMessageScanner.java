@@ -0,0 +1,286 @@
+package dev.rafandoo.gitwit.parser;
+
+import dev.rafandoo.cup.utils.StringUtils;
+import dev.rafandoo.gitwit.util.EmojiUtil;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Hand-written, single-pass scanner for Conventional Commits messages.
+ * <pre>
+ *   type(scope)!: short description
+ *
+ *   long description
+ *
+ *   BREAKING CHANGE: description
+ * </pre>
+ * The scanner walks the message once, locating the header, the body and the
+ * <code>BREAKING CHANGE:</code> (or <code>BREAKING-CHANGE:</code>) footer with index arithmetic. Strings are only
+ * built for the fields that are requested, through {@link CharSequence#subSequence(int, int)},
+ * so byte-backed sequences decode nothing but those slices.
+ * <p>
+ * The accepted grammar is equivalent to the former regular expression
+ * <code>^(\w+|:\w+:)\s?(?:\(([^)]*)\))?(!)?:?\s*(.*)$</code> applied to the header,
+ * followed by a multiline split of the body on <code>^BREAKING[ -]CHANGE:\s*</code>.
+ * </p>
+ */
+@UtilityClass
+public final class CommitMessageScanner {
+
+    /**
+     * Footer token that marks the description of a breaking change.
+     */
+    public static final String BREAKING_CHANGE = "BREAKING CHANGE:";
+
+    /**
+     * Synonym of {@link #BREAKING_CHANGE} allowed by the Conventional Commits specification.
+     */
+    public static final String BREAKING_CHANGE_HYPHENATED = "BREAKING-CHANGE:";
+
+    /**
+     * Scans a raw commit message into its structured components.
+     *
+     * @param message raw commit message.
+     * @return parsed commit data, or {@link ParsedCommit#EMPTY} if the message is null or blank.
+     */
+    public static ParsedCommit scan(CharSequence message) {
+        if (isBlank(message)) {
+            return ParsedCommit.EMPTY;
+        }
+        return index(message).toParsedCommit();
+    }
+
+    /**
+     * Indexes a raw commit message.
+     * <p>
+     * Only the header is materialized; the body and the breaking change footer are
+     * recorded as offsets and decoded on demand by the returned {@link MessageIndex},
+     * which also tokenizes the remaining footers on request.
+     * </p>
+     *
+     * @param message raw commit message.
+     * @return the message index, or {@link MessageIndex#EMPTY} if the message is null or blank.
+     */
+    public static MessageIndex index(CharSequence message) {
+        if (isBlank(message)) {
+            return MessageIndex.EMPTY;
+        }
+
+        int length = message.length();
+        int headerEnd = -1;
+        int footerStart = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (headerEnd < 0) {
+                if (c == '\n' && i + 1 < length && message.charAt(i + 1) == '\n') {
+                    headerEnd = i;
+                    i++;
+                }
+            } else if (c == 'B' && isLineTerminator(message.charAt(i - 1)) && isBreakingChangeFooter(message, i)) {
+                footerStart = i;
+                break;
+            }
+        }
+
+        Header header = scanHeader(message.subSequence(0, headerEnd < 0 ? length : headerEnd));
+
+        int footerValueStart = -1;
+        if (footerStart >= 0) {
+            footerValueStart = footerStart + BREAKING_CHANGE.length();
+            while (footerValueStart < length && isSpace(message.charAt(footerValueStart))) {
+                footerValueStart++;
+            }
+        }
+
+        return new MessageIndex(
+            message,
+            header.type(),
+            header.scope(),
+            header.subject(),
+            header.breaking(),
+            headerEnd < 0 ? -1 : headerEnd + 2,
+            footerStart,
+            footerValueStart
+        );
+    }
+
+    /**
+     * Scans the header (first paragraph) of a commit message.
+     * <p>
+     * The header is the only part that is always materialized, since emojis must be
+     * replaced by their aliases before the type token can be recognized.
+     * </p>
+     *
+     * @param raw raw header, possibly spanning multiple lines.
+     * @return the header components.
+     */
+    private static Header scanHeader(CharSequence raw) {
+        String header = EmojiUtil.replaceEmojiWithAlias(raw.toString().replace('\n', ' ')).trim();
+        int length = header.length();
+
+        int i = typeEnd(header);
+        if (i < 0) {
+            return new Header(null, null, normalize(header), false);
+        }
+        String type = header.substring(0, i);
+
+        if (i < length && isSpace(header.charAt(i))) {
+            i++;
+        }
+
+        String scope = null;
+        if (i < length && header.charAt(i) == '(') {
+            int close = header.indexOf(')', i + 1);
+            if (close >= 0) {
+                scope = header.substring(i + 1, close);
+                i = close + 1;
+            }
+        }
+
+        boolean breaking = false;
+        if (i < length && header.charAt(i) == '!') {
+            breaking = true;
+            i++;
+        }
+        if (i < length && header.charAt(i) == ':') {
+            i++;
+        }
+        while (i < length && isSpace(header.charAt(i))) {
+            i++;
+        }
+
+        for (int j = i; j < length; j++) {
+            if (isLineTerminator(header.charAt(j))) {
+                return new Header(null, null, normalize(header), false);
+            }
+        }
+
+        return new Header(
+            normalize(type),
+            normalize(scope),
+            normalize(header.substring(i)),
+            breaking
+        );
+    }
+
+    /**
+     * Locates the end of the type token, either a word (<code>feat</code>) or an emoji alias (<code>:bug:</code>).
+     *
+     * @param header trimmed header.
+     * @return index right after the type token, or {@code -1} if the header does not start with a type.
+     */
+    private static int typeEnd(String header) {
+        int length = header.length();
+        if (length == 0) {
+            return -1;
+        }
+
+        if (isWord(header.charAt(0))) {
+            int i = 1;
+            while (i < length && isWord(header.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+
+        if (header.charAt(0) == ':') {
+            int i = 1;
+            while (i < length && isWord(header.charAt(i))) {
+                i++;
+            }
+            if (i > 1 && i < length && header.charAt(i) == ':') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a breaking change footer, in either spelling, starts at the given offset.
+     *
+     * @param seq    the sequence to inspect.
+     * @param offset the offset where the footer should start.
+     * @return {@code true} if the footer is present at the offset.
+     */
+    private static boolean isBreakingChangeFooter(CharSequence seq, int offset) {
+        return regionMatches(seq, offset, BREAKING_CHANGE) || regionMatches(seq, offset, BREAKING_CHANGE_HYPHENATED);
+    }
+
+    /**
+     * Checks whether the sequence contains the given token at the given offset.
+     *
+     * @param seq    the sequence to inspect.
+     * @param offset the offset where the token should start.
+     * @param token  the token to look for.
+     * @return {@code true} if the token is present at the offset.
+     */
+    static boolean regionMatches(CharSequence seq, int offset, String token) {
+        if (offset + token.length() > seq.length()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (seq.charAt(offset + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a sequence is null or only contains whitespace.
+     *
+     * @param seq the sequence to check.
+     * @return {@code true} if the sequence is null or blank.
+     */
+    public static boolean isBlank(CharSequence seq) {
+        if (seq == null) {
+            return true;
+        }
+        for (int i = 0; i < seq.length(); i++) {
+            if (!Character.isWhitespace(seq.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent of the <code>\w</code> regex class.
+     */
+    private static boolean isWord(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Equivalent of the <code>\s</code> regex class.
+     *
+     * @param c the character to check.
+     * @return {@code true} if the character is a whitespace character.
+     */
+    public static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Line terminators recognized by {@link java.util.regex.Pattern}.
+     */
+    static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Normalizes a string by trimming whitespace and converting empty values to null.
+     *
+     * @param value the string to normalize.
+     * @return the normalized string, or null if the input is null or blank.
+     */
+    static String normalize(String value) {
+        return StringUtils.isNullOrBlank(value) ? null : value.trim();
+    }
+
+    /**
+     * Components of a commit header.
+     */
+    private record Header(String type, String scope, String subject, boolean breaking) {
+    }
+}
@@ -0,0 +1,155 @@
+package dev.rafandoo.gitwit.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho–Corasick automaton telling whether a text contains any of a set of literals.
+ * <p>
+ * All literals are searched in a single pass over the text, in time linear in its length, whatever
+ * the number of literals. States are stored in flat arrays: the transitions of a state are a sorted
+ * run of characters, looked up by binary search, and every state knows whether a literal ends at it
+ * or at one of its suffixes, so a search stops at the first match.
+ * </p>
+ * Instances are immutable and thread-safe.
+ */
+public final class LiteralMatcher {
+
+    private final int[] transitionStart;
+    private final char[] transitionChars;
+    private final int[] transitionTargets;
+    private final int[] fail;
+    private final boolean[] terminal;
+
+    private LiteralMatcher(
+        int[] transitionStart,
+        char[] transitionChars,
+        int[] transitionTargets,
+        int[] fail,
+        boolean[] terminal
+    ) {
+        this.transitionStart = transitionStart;
+        this.transitionChars = transitionChars;
+        this.transitionTargets = transitionTargets;
+        this.fail = fail;
+        this.terminal = terminal;
+    }
+
+    /**
+     * Builds the automaton of the given literals.
+     *
+     * @param literals the literals to search; an empty literal matches any text.
+     * @return the matcher.
+     */
+    public static LiteralMatcher of(Collection<String> literals) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(false);
+
+        for (String literal : literals) {
+            int state = 0;
+            for (int i = 0; i < literal.length(); i++) {
+                Integer next = trie.get(state).get(literal.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    ends.add(false);
+                    trie.get(state).put(literal.charAt(i), next);
+                }
+                state = next;
+            }
+            ends.set(state, true);
+        }
+
+        int size = trie.size();
+        int[] transitionStart = new int[size + 1];
+        for (int state = 0; state < size; state++) {
+            transitionStart[state + 1] = transitionStart[state] + trie.get(state).size();
+        }
+        char[] transitionChars = new char[transitionStart[size]];
+        int[] transitionTargets = new int[transitionStart[size]];
+        for (int state = 0; state < size; state++) {
+            int i = transitionStart[state];
+            for (var transition : trie.get(state).entrySet()) {
+                transitionChars[i] = transition.getKey();
+                transitionTargets[i] = transition.getValue();
+                i++;
+            }
+        }
+
+        int[] fail = new int[size];
+        boolean[] terminal = new boolean[size];
+        terminal[0] = ends.getFirst();
+        LiteralMatcher matcher = new LiteralMatcher(transitionStart, transitionChars, transitionTargets, fail, terminal);
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int i = transitionStart[state]; i < transitionStart[state + 1]; i++) {
+                int child = transitionTargets[i];
+                if (state != 0) {
+                    fail[child] = matcher.step(fail[state], transitionChars[i]);
+                }
+                terminal[child] = ends.get(child) || terminal[fail[child]];
+                queue.add(child);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * Checks whether a region of a text contains any of the literals.
+     *
+     * @param text the text to search.
+     * @param from the start of the region (inclusive).
+     * @param to   the end of the region (exclusive).
+     * @return {@code true} if a literal occurs within the region.
+     */
+    public boolean find(CharSequence text, int from, int to) {
+        int state = 0;
+        if (this.terminal[state]) {
+            return true;
+        }
+        for (int i = from; i < to; i++) {
+            state = this.step(state, text.charAt(i));
+            if (this.terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows the transition of a state on a character, falling back along the failure links.
+     *
+     * @param state the current state.
+     * @param c     the next character.
+     * @return the next state.
+     */
+    private int step(int state, char c) {
+        while (true) {
+            int next = this.transition(state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = this.fail[state];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int from = this.transitionStart[state];
+        int to = this.transitionStart[state + 1];
+        int i = Arrays.binarySearch(this.transitionChars, from, to, c);
+        return i >= 0 ? this.transitionTargets[i] : -1;
+    }
+}
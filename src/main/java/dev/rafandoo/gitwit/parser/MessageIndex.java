@@ -0,0 +1,171 @@
+package dev.rafandoo.gitwit.parser;
+
+import dev.rafandoo.gitwit.util.EmojiUtil;
+
+/**
+ * Offsets of the structural parts of a commit message, produced by {@link CommitMessageScanner#index(CharSequence)}.
+ * <p>
+ * Header fields are resolved eagerly. The body and the breaking change description are kept
+ * as offsets into the original sequence and only decoded when requested, which keeps
+ * long bodies (e.g. squash-merge commits) out of memory for consumers that never read them.
+ * </p>
+ */
+public final class MessageIndex {
+
+    /**
+     * Index of an empty commit message.
+     */
+    public static final MessageIndex EMPTY = new MessageIndex("", null, null, null, false, -1, -1, -1);
+
+    private final CharSequence message;
+    private final String type;
+    private final String scope;
+    private final String subject;
+    private final boolean headerBreaking;
+    private final int bodyStart;
+    private final int footerStart;
+    private final int footerValueStart;
+
+    MessageIndex(
+        CharSequence message,
+        String type,
+        String scope,
+        String subject,
+        boolean headerBreaking,
+        int bodyStart,
+        int footerStart,
+        int footerValueStart
+    ) {
+        this.message = message;
+        this.type = type;
+        this.scope = scope;
+        this.subject = subject;
+        this.headerBreaking = headerBreaking;
+        this.bodyStart = bodyStart;
+        this.footerStart = footerStart;
+        this.footerValueStart = footerValueStart;
+    }
+
+    /**
+     * Returns the commit type.
+     *
+     * @return commit type, or {@code null} if the header does not follow the convention.
+     */
+    public String type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the commit scope.
+     *
+     * @return commit scope, or {@code null} if absent.
+     */
+    public String scope() {
+        return this.scope;
+    }
+
+    /**
+     * Returns the short description.
+     *
+     * @return short description found in the header.
+     */
+    public String subject() {
+        return this.subject;
+    }
+
+    /**
+     * Indicates whether the commit introduces breaking changes.
+     *
+     * @return {@code true} if the header has the <code>!</code> marker or a breaking change footer exists.
+     */
+    public boolean breaking() {
+        return this.headerBreaking || this.footerStart >= 0;
+    }
+
+    /**
+     * Indicates whether anything follows the header, i.e. whether {@link #description()} or
+     * {@link #breakingDesc()} may return a value.
+     *
+     * @return {@code true} if the message has a body or a breaking change footer.
+     */
+    public boolean hasBody() {
+        return this.bodyStart >= 0 || this.footerStart >= 0;
+    }
+
+    /**
+     * Decodes the commit body, without the breaking change footer.
+     *
+     * @return the normalized body, or {@code null} if absent or blank.
+     */
+    public String description() {
+        if (this.bodyStart < 0) {
+            return null;
+        }
+        return this.field(this.bodyStart, this.footerStart >= 0 ? this.footerStart : this.message.length());
+    }
+
+    /**
+     * Decodes the description of the <code>BREAKING CHANGE:</code> footer.
+     *
+     * @return the normalized description, or {@code null} if absent or blank.
+     */
+    public String breakingDesc() {
+        if (this.footerStart < 0) {
+            return null;
+        }
+        return this.field(this.footerValueStart, this.message.length());
+    }
+
+    /**
+     * Tokenizes the footers of the body.
+     * Each call performs one linear pass over the body, so callers should keep the result.
+     *
+     * @return the footer index, {@link Trailers#EMPTY} if the message has no body.
+     * @see Trailers
+     */
+    public Trailers trailers() {
+        if (this.bodyStart < 0) {
+            return Trailers.EMPTY;
+        }
+        return Trailers.parse(this.message, this.bodyStart);
+    }
+
+    /**
+     * Materializes every field of this index.
+     *
+     * @return the parsed commit data.
+     */
+    public ParsedCommit toParsedCommit() {
+        return new ParsedCommit(
+            this.type,
+            this.scope,
+            this.subject,
+            this.description(),
+            this.breaking(),
+            this.breakingDesc()
+        );
+    }
+
+    /**
+     * Builds a normalized field from a region of the message.
+     * Whitespace is trimmed through index arithmetic before any string is created.
+     *
+     * @param start region start (inclusive).
+     * @param end   region end (exclusive).
+     * @return the normalized field, or {@code null} if the region is blank.
+     */
+    private String field(int start, int end) {
+        while (start < end && this.message.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && this.message.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start >= end) {
+            return null;
+        }
+        return CommitMessageScanner.normalize(
+            EmojiUtil.replaceEmojiWithAlias(this.message.subSequence(start, end).toString())
+        );
+    }
+}
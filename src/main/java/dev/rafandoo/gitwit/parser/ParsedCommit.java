@@ -0,0 +1,30 @@
+package dev.rafandoo.gitwit.parser;
+
+/**
+ * Structured components extracted from a raw commit message.
+ * <p>
+ * All textual fields are already normalized: surrounding whitespace is trimmed,
+ * emojis are replaced by their GitHub alias and blank values are represented as {@code null}.
+ * </p>
+ *
+ * @param type         commit type, e.g. <code>feat</code> or <code>:sparkles:</code>.
+ * @param scope        scope affected by the change.
+ * @param subject      short description found in the header.
+ * @param description  commit body, without the breaking change footer.
+ * @param breaking     whether the header has the <code>!</code> marker or a breaking change footer exists.
+ * @param breakingDesc description found in the <code>BREAKING CHANGE:</code> footer.
+ */
+public record ParsedCommit(
+    String type,
+    String scope,
+    String subject,
+    String description,
+    boolean breaking,
+    String breakingDesc
+) {
+
+    /**
+     * Parsed representation of an empty commit message.
+     */
+    public static final ParsedCommit EMPTY = new ParsedCommit(null, null, null, null, false, null);
+}
@@ -0,0 +1,64 @@
+package dev.rafandoo.gitwit.parser;
+
+import lombok.experimental.UtilityClass;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.util.RawParseUtils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Provides the message of a {@link RevCommit} straight from its raw object buffer.
+ * <p>
+ * {@link RevCommit#getFullMessage()} decodes the whole message into a new {@link String}
+ * before anything is inspected. This utility instead exposes the message bytes of
+ * {@link RevCommit#getRawBuffer()} as a {@link CharSequence}, so that
+ * {@link CommitMessageScanner} can locate the structure of the message directly over
+ * the bytes and decode only the slices that are actually requested.
+ * </p>
+ */
+@UtilityClass
+public final class RawCommitMessage {
+
+    /**
+     * Returns the message of the given commit as a lazily decoded character sequence.
+     * <p>
+     * The <code>encoding</code> header of the commit is honoured: UTF-8 messages (the default)
+     * are exposed as a byte-backed view, while messages declared in another charset, or whose
+     * bytes are not well-formed UTF-8, are decoded once in full, exactly as JGit would.
+     * </p>
+     *
+     * @param commit the commit whose message should be read.
+     * @return the commit message, never {@code null}.
+     */
+    public static CharSequence of(RevCommit commit) {
+        byte[] raw = commit.getRawBuffer();
+        if (raw == null) {
+            // Body not retained by the walk: let JGit resolve the message itself.
+            String message = commit.getFullMessage();
+            return message == null ? "" : message;
+        }
+        return of(raw);
+    }
+
+    /**
+     * Returns the message of a raw commit object as a lazily decoded character sequence,
+     * as in {@link #of(RevCommit)}. Since the buffer is never modified, it can be read
+     * after the commit released it, e.g. by another thread.
+     *
+     * @param raw the raw commit object.
+     * @return the commit message, never {@code null}.
+     */
+    public static CharSequence of(byte[] raw) {
+        int start = RawParseUtils.commitMessage(raw, 0);
+        if (start < 0) {
+            return "";
+        }
+
+        Charset charset = RawParseUtils.guessEncoding(raw);
+        if (StandardCharsets.UTF_8.equals(charset) && Utf8Sequence.isValid(raw, start, raw.length)) {
+            return new Utf8Sequence(raw, start, raw.length);
+        }
+        return RawParseUtils.decode(charset, raw, start, raw.length);
+    }
+}
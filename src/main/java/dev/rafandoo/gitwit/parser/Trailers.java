@@ -0,0 +1,324 @@
+package dev.rafandoo.gitwit.parser;
+
+import dev.rafandoo.gitwit.util.EmojiUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact index of the footers (git trailers) of a commit message.
+ * <pre>
+ *   Refs: #123
+ *   Closes #42
+ *   Co-authored-by: Jane &lt;jane@email.com&gt;
+ *   BREAKING CHANGE: config format changed
+ * </pre>
+ * The body is tokenized in one linear pass. A footer starts at the beginning of a line with a
+ * token made of letters, digits and hyphens (or the special <code>BREAKING CHANGE</code> token),
+ * followed by either <code>:</code> and whitespace or a space and <code>#</code>. Following
+ * non-blank lines that do not start another footer continue its value; a blank line ends it.
+ * Apart from breaking changes, footers must open a paragraph or follow another footer, so
+ * that prose such as <code>Note: ...</code> in the middle of a paragraph is not mistaken for one.
+ * <p>
+ * Only offsets are stored, four per footer, so keys and values are decoded on demand.
+ * Keys are matched case-insensitively, with <code>-</code> and space considered equal,
+ * which makes <code>BREAKING-CHANGE</code> a synonym of <code>BREAKING CHANGE</code>.
+ * </p>
+ */
+public final class Trailers {
+
+    /**
+     * Index of a message without footers.
+     */
+    public static final Trailers EMPTY = new Trailers("", new int[0], 0);
+
+    private static final String BREAKING_CHANGE_TOKEN = "BREAKING CHANGE";
+
+    private final CharSequence message;
+    private final int[] offsets;
+    private final int size;
+
+    private Trailers(CharSequence message, int[] offsets, int size) {
+        this.message = message;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * Tokenizes the footers of a message.
+     *
+     * @param message the raw commit message.
+     * @param from    offset where the body starts; the header must not be included.
+     * @return the footer index, or {@link #EMPTY} if the body has no footers.
+     */
+    public static Trailers parse(CharSequence message, int from) {
+        if (message == null || from < 0) {
+            return EMPTY;
+        }
+
+        int length = message.length();
+        int[] offsets = null;
+        int size = 0;
+        boolean open = false;
+        boolean paragraphStart = true;
+
+        int lineStart = from;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && !CommitMessageScanner.isLineTerminator(message.charAt(lineEnd))) {
+                lineEnd++;
+            }
+
+            int contentEnd = lineEnd;
+            while (contentEnd > lineStart && CommitMessageScanner.isSpace(message.charAt(contentEnd - 1))) {
+                contentEnd--;
+            }
+
+            if (contentEnd == lineStart) {
+                open = false;
+                paragraphStart = true;
+            } else {
+                int keyEnd = tokenEnd(message, lineStart, contentEnd, paragraphStart || open);
+                paragraphStart = false;
+                if (keyEnd >= 0) {
+                    if (offsets == null) {
+                        offsets = new int[16];
+                    } else if (size * 4 == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                    }
+                    int base = size * 4;
+                    offsets[base] = lineStart;
+                    offsets[base + 1] = keyEnd;
+                    offsets[base + 2] = valueStart(message, keyEnd, contentEnd);
+                    offsets[base + 3] = contentEnd;
+                    size++;
+                    open = true;
+                } else if (open) {
+                    offsets[(size - 1) * 4 + 3] = contentEnd;
+                }
+            }
+
+            lineStart = lineEnd + 1;
+            if (lineEnd < length && message.charAt(lineEnd) == '\r' && lineStart < length && message.charAt(lineStart) == '\n') {
+                lineStart++;
+            }
+        }
+
+        return size == 0 ? EMPTY : new Trailers(message, offsets, size);
+    }
+
+    /**
+     * Returns an index holding its own decoded copy of the footer region, so the message it was
+     * parsed from, e.g. a raw commit buffer, is no longer referenced.
+     *
+     * @return the detached index, or this one if it is already backed by a string.
+     */
+    public Trailers detach() {
+        if (this.size == 0 || this.message instanceof String) {
+            return this;
+        }
+        int start = this.offsets[0];
+        int end = this.offsets[(this.size - 1) * 4 + 3];
+        // The region starts with a footer, so parsing it again yields the same footers.
+        return parse(this.message.subSequence(start, end).toString(), 0);
+    }
+
+    /**
+     * Returns the number of footers.
+     *
+     * @return footer count.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Indicates whether the message has no footers.
+     *
+     * @return {@code true} if there are no footers.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Decodes the key of a footer.
+     *
+     * @param index footer position.
+     * @return the key as written in the message, e.g. <code>Refs</code>.
+     */
+    public String key(int index) {
+        int base = this.checkedBase(index);
+        return this.message.subSequence(this.offsets[base], this.offsets[base + 1]).toString();
+    }
+
+    /**
+     * Decodes the value of a footer. Continuation lines are joined with a single space.
+     * Each line is decoded as a whole, since the offsets of a raw message are byte offsets.
+     *
+     * @param index footer position.
+     * @return the value, possibly empty.
+     */
+    public String value(int index) {
+        int base = this.checkedBase(index);
+        int end = this.offsets[base + 3];
+
+        StringBuilder sb = new StringBuilder();
+        int i = this.offsets[base + 2];
+        while (i < end) {
+            while (i < end && (CommitMessageScanner.isSpace(this.message.charAt(i))
+                || CommitMessageScanner.isLineTerminator(this.message.charAt(i)))) {
+                i++;
+            }
+            int lineStart = i;
+            while (i < end && !CommitMessageScanner.isLineTerminator(this.message.charAt(i))) {
+                i++;
+            }
+            int lineEnd = i;
+            while (lineEnd > lineStart && CommitMessageScanner.isSpace(this.message.charAt(lineEnd - 1))) {
+                lineEnd--;
+            }
+            if (lineEnd > lineStart) {
+                if (!sb.isEmpty()) {
+                    sb.append(' ');
+                }
+                sb.append(this.message.subSequence(lineStart, lineEnd).toString());
+            }
+        }
+        return EmojiUtil.replaceEmojiWithAlias(sb.toString());
+    }
+
+    /**
+     * Checks whether the key of a footer matches the given key.
+     *
+     * @param index footer position.
+     * @param key   the key to compare with.
+     * @return {@code true} if the keys are equal, ignoring case and treating <code>-</code> and space alike.
+     */
+    public boolean keyEquals(int index, String key) {
+        int base = this.checkedBase(index);
+        int start = this.offsets[base];
+        int end = this.offsets[base + 1];
+        if (end - start != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char a = this.message.charAt(start + i);
+            char b = key.charAt(i);
+            if (a != b && !sameKeyChar(a, b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every value of the footers with the given key, in message order.
+     *
+     * @param key the footer key, e.g. <code>Co-authored-by</code>.
+     * @return the values, or an empty list if the key is absent.
+     */
+    public List<String> values(String key) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            if (this.keyEquals(i, key)) {
+                values.add(this.value(i));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Checks whether a footer with the given key exists.
+     *
+     * @param key the footer key.
+     * @return {@code true} if at least one footer has the key.
+     */
+    public boolean contains(String key) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.keyEquals(i, key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int checkedBase(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index * 4;
+    }
+
+    /**
+     * Recognizes a footer token at the start of a line.
+     *
+     * @param message the message.
+     * @param start   line start.
+     * @param end     end of the line content, without trailing whitespace.
+     * @param inBlock whether the line opens a paragraph or follows another footer; other
+     *                lines can only start a breaking change footer.
+     * @return the end of the key, or {@code -1} if the line does not start a footer.
+     */
+    private static int tokenEnd(CharSequence message, int start, int end, boolean inBlock) {
+        if (CommitMessageScanner.regionMatches(message, start, BREAKING_CHANGE_TOKEN)) {
+            int keyEnd = start + BREAKING_CHANGE_TOKEN.length();
+            if (keyEnd < end && message.charAt(keyEnd) == ':') {
+                return keyEnd;
+            }
+        }
+        if (!inBlock && !CommitMessageScanner.regionMatches(message, start, CommitMessageScanner.BREAKING_CHANGE_HYPHENATED)) {
+            return -1;
+        }
+
+        int i = start;
+        while (i < end && isTokenChar(message.charAt(i))) {
+            i++;
+        }
+        if (i == start || message.charAt(start) == '-') {
+            return -1;
+        }
+        if (i == end) {
+            return -1;
+        }
+        char c = message.charAt(i);
+        if (c == ':' && (i + 1 == end || CommitMessageScanner.isSpace(message.charAt(i + 1)))) {
+            return i;
+        }
+        if (c == ' ' && i + 1 < end && message.charAt(i + 1) == '#') {
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Skips the separator of a footer.
+     *
+     * @param message the message.
+     * @param keyEnd  end of the key.
+     * @param end     end of the line content.
+     * @return start of the value.
+     */
+    private static int valueStart(CharSequence message, int keyEnd, int end) {
+        int i = keyEnd;
+        if (message.charAt(i) == ':') {
+            i++;
+        }
+        while (i < end && CommitMessageScanner.isSpace(message.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    private static boolean sameKeyChar(char a, char b) {
+        if ((a == '-' || a == ' ') && (b == '-' || b == ' ')) {
+            return true;
+        }
+        return Character.toLowerCase(a) == Character.toLowerCase(b);
+    }
+}
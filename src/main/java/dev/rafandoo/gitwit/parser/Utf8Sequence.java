@@ -0,0 +1,125 @@
+package dev.rafandoo.gitwit.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only {@link CharSequence} view over a region of valid UTF-8 bytes.
+ * <p>
+ * Indexes are byte offsets. ASCII bytes are returned as-is; every byte of a multibyte
+ * sequence reports the decoded character when it lies in the BMP, or
+ * {@code U+FFFD} otherwise. This keeps structural scanning (line breaks, whitespace,
+ * ASCII tokens) exact without decoding, while {@link #toString()} decodes the region.
+ * </p>
+ * Instances must only be created over bytes accepted by {@link #isValid(byte[], int, int)}.
+ */
+final class Utf8Sequence implements CharSequence {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final byte[] buffer;
+    private final int start;
+    private final int end;
+
+    Utf8Sequence(byte[] buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        int pos = this.start + index;
+        byte b = this.buffer[pos];
+        if (b >= 0) {
+            return (char) b;
+        }
+
+        int lead = pos;
+        while (lead > 0 && (this.buffer[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        int c = this.buffer[lead] & 0xFF;
+        if (c >= 0xF0) {
+            return REPLACEMENT;
+        }
+        if (c >= 0xE0) {
+            return (char) (((c & 0x0F) << 12)
+                | ((this.buffer[lead + 1] & 0x3F) << 6)
+                | (this.buffer[lead + 2] & 0x3F));
+        }
+        return (char) (((c & 0x1F) << 6) | (this.buffer[lead + 1] & 0x3F));
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new Utf8Sequence(this.buffer, this.start + from, this.start + to);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.buffer, this.start, this.end - this.start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether a region is well-formed UTF-8, following the same rules as the JDK decoder
+     * (no overlong forms, no surrogates, nothing above {@code U+10FFFF}).
+     *
+     * @param buffer the bytes to check.
+     * @param start  region start (inclusive).
+     * @param end    region end (exclusive).
+     * @return {@code true} if the region can be decoded as UTF-8 without replacement.
+     */
+    static boolean isValid(byte[] buffer, int start, int end) {
+        int i = start;
+        while (i < end) {
+            int c = buffer[i] & 0xFF;
+            if (c < 0x80) {
+                i++;
+                continue;
+            }
+
+            int trailing;
+            int min = 0x80;
+            int max = 0xBF;
+            if (c >= 0xC2 && c <= 0xDF) {
+                trailing = 1;
+            } else if (c >= 0xE0 && c <= 0xEF) {
+                trailing = 2;
+                if (c == 0xE0) {
+                    min = 0xA0;
+                } else if (c == 0xED) {
+                    max = 0x9F;
+                }
+            } else if (c >= 0xF0 && c <= 0xF4) {
+                trailing = 3;
+                if (c == 0xF0) {
+                    min = 0x90;
+                } else if (c == 0xF4) {
+                    max = 0x8F;
+                }
+            } else {
+                return false;
+            }
+
+            if (i + trailing >= end) {
+                return false;
+            }
+            int second = buffer[i + 1] & 0xFF;
+            if (second < min || second > max) {
+                return false;
+            }
+            for (int k = 2; k <= trailing; k++) {
+                if ((buffer[i + k] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += trailing + 1;
+        }
+        return true;
+    }
+}
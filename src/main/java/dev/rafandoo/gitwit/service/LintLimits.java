@@ -0,0 +1,26 @@
+package dev.rafandoo.gitwit.service;
+
+/**
+ * Limits stopping a lint run before the end of its range.
+ *
+ * @param failFast      whether to stop at the first commit with violations.
+ * @param maxViolations the number of violations after which to stop, or {@code 0} for no limit.
+ */
+public record LintLimits(boolean failFast, int maxViolations) {
+
+    /**
+     * Limits letting the whole range be linted.
+     */
+    public static final LintLimits NONE = new LintLimits(false, 0);
+
+    /**
+     * Tells whether a lint run must stop.
+     *
+     * @param failedCommits the number of commits with violations found so far.
+     * @param violations    the number of violations found so far.
+     * @return {@code true} if either limit is reached.
+     */
+    public boolean reached(int failedCommits, int violations) {
+        return (this.failFast && failedCommits > 0) || (this.maxViolations > 0 && violations >= this.maxViolations);
+    }
+}
@@ -0,0 +1,232 @@
+package dev.rafandoo.gitwit.service;
+
+import dev.rafandoo.cup.utils.StringUtils;
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.CommitMessageView;
+import dev.rafandoo.gitwit.entity.Violation;
+import dev.rafandoo.gitwit.enums.CommitPromptKeys;
+import dev.rafandoo.gitwit.util.EmojiUtil;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validation rules of the configuration, compiled once and evaluated against every commit message.
+ * <p>
+ * Compiling normalizes the allowed types into a hash set, with emojis replaced by their aliases, reads the
+ * length bounds and resolves the localized scope labels. Violations that do not depend on the message,
+ * such as a missing scope or a too long short description, are built once as well. Checking a message that
+ * passes every rule thus allocates nothing; only the type violations, which quote the type, are built on demand.
+ * </p>
+ * Instances are immutable and can be shared across threads.
+ */
+public final class LintRuleSet {
+
+    /**
+     * Version of the rule semantics, part of the fingerprint. Bump it whenever a change to the rules or to the
+     * parsing of commit messages may change a verdict, so verdicts cached by older versions are discarded.
+     */
+    private static final int RULES_VERSION = 1;
+
+    private final I18nService i18nService;
+    private final Set<String> types;
+    private final boolean scopeRequired;
+    private final int shortMin;
+    private final int shortMax;
+    private final boolean longRequired;
+    private final int longMin;
+    private final int longMax;
+    private final ObjectId fingerprint;
+
+    private final String typeLabel;
+    private final Violation scopeRequiredViolation;
+    private final Violation shortRequiredViolation;
+    private final Violation shortTooShortViolation;
+    private final Violation shortTooLongViolation;
+    private final Violation longRequiredViolation;
+    private final Violation longTooShortViolation;
+    private final Violation longTooLongViolation;
+
+    private LintRuleSet(GitWitConfig config, I18nService i18nService) {
+        this.i18nService = i18nService;
+
+        Set<String> allowed = new HashSet<>();
+        for (String type : config.getTypes().getValues().keySet()) {
+            allowed.add(EmojiUtil.replaceEmojiWithAlias(type));
+        }
+        this.types = allowed;
+        this.scopeRequired = config.getScope().isRequired();
+        this.shortMin = config.getShortDescription().getMinLength();
+        this.shortMax = config.getShortDescription().getMaxLength();
+        this.longRequired = config.getLongDescription().isRequired();
+        this.longMin = config.getLongDescription().getMinLength();
+        this.longMax = config.getLongDescription().getMaxLength();
+        this.fingerprint = this.computeFingerprint();
+
+        this.typeLabel = this.label(CommitPromptKeys.COMMIT_TYPE);
+        String scopeLabel = this.label(CommitPromptKeys.COMMIT_SCOPE);
+        String shortLabel = this.label(CommitPromptKeys.COMMIT_SHORT_DESC);
+        String longLabel = this.label(CommitPromptKeys.COMMIT_LONG_DESC);
+
+        this.scopeRequiredViolation = this.violation(scopeLabel, "commit.validation.scope_required");
+        this.shortRequiredViolation = this.violation(shortLabel, "commit.validation.short_description_required");
+        this.shortTooShortViolation = this.violation(
+            shortLabel,
+            "commit.validation.short_description_too_short",
+            this.shortMin
+        );
+        this.shortTooLongViolation = this.violation(
+            shortLabel,
+            "commit.validation.short_description_too_long",
+            this.shortMax
+        );
+        this.longRequiredViolation = this.violation(longLabel, "commit.validation.long_description_required");
+        this.longTooShortViolation = this.violation(
+            longLabel,
+            "commit.validation.long_description_too_short",
+            this.longMin
+        );
+        this.longTooLongViolation = this.violation(
+            longLabel,
+            "commit.validation.long_description_too_long",
+            this.longMax
+        );
+    }
+
+    /**
+     * Compiles the validation rules of a configuration.
+     *
+     * @param config      the configuration to compile.
+     * @param i18nService the service resolving the localized labels and messages.
+     * @return the compiled rules.
+     */
+    public static LintRuleSet compile(GitWitConfig config, I18nService i18nService) {
+        return new LintRuleSet(config, i18nService);
+    }
+
+    /**
+     * Returns the fingerprint of the rules: two rule sets with the same fingerprint give the same verdicts.
+     * Labels and messages are not part of it, so a verdict does not depend on the locale.
+     *
+     * @return the SHA-1 of the canonical form of the rules.
+     */
+    public ObjectId getFingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * Checks a commit message against the rules.
+     *
+     * @param message the message to check.
+     * @return the violations found, in rule order; an immutable empty list if the message passes every rule.
+     */
+    public List<Violation> check(CommitMessageView message) {
+        List<Violation> violations = null;
+
+        /* ─────────── Commit Type ─────────── */
+        String type = message.type();
+        if (StringUtils.isNullOrBlank(type)) {
+            violations = add(violations, this.violation(this.typeLabel, "commit.validation.invalid_type", type));
+        }
+        if (!this.types.contains(type)) {
+            violations = add(violations, this.violation(this.typeLabel, "commit.validation.type_not_allowed", type));
+        }
+
+        /* ─────────── Commit Scope ─────────── */
+        if (this.scopeRequired && StringUtils.isNullOrBlank(message.scope())) {
+            violations = add(violations, this.scopeRequiredViolation);
+        }
+
+        /* ─────────── Commit Short Description ─────────── */
+        String shortDescription = message.shortDescription();
+        if (StringUtils.isNullOrBlank(shortDescription)) {
+            violations = add(violations, this.shortRequiredViolation);
+        }
+        if (shortDescription != null) {
+            if (shortDescription.length() < this.shortMin) {
+                violations = add(violations, this.shortTooShortViolation);
+            }
+            if (shortDescription.length() > this.shortMax) {
+                violations = add(violations, this.shortTooLongViolation);
+            }
+        }
+
+        /* ─────────── Commit Long Description ─────────── */
+        if (this.longRequired) {
+            String longDescription = message.longDescription();
+            if (StringUtils.isNullOrBlank(longDescription)) {
+                violations = add(violations, this.longRequiredViolation);
+            }
+            if (longDescription != null) {
+                if (longDescription.length() < this.longMin) {
+                    violations = add(violations, this.longTooShortViolation);
+                }
+                if (longDescription.length() > this.longMax) {
+                    violations = add(violations, this.longTooLongViolation);
+                }
+            }
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    /**
+     * Computes the fingerprint of the rules from their canonical form, with the allowed types sorted.
+     *
+     * @return the fingerprint.
+     */
+    private ObjectId computeFingerprint() {
+        StringBuilder canonical = new StringBuilder("rules ").append(RULES_VERSION).append('\n');
+        this.types.stream()
+            .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+            .forEach(type -> canonical.append("type ").append(type).append('\n'));
+        canonical.append("scope ").append(this.scopeRequired).append('\n')
+            .append("short ").append(this.shortMin).append(' ').append(this.shortMax).append('\n')
+            .append("long ").append(this.longRequired).append(' ').append(this.longMin).append(' ')
+            .append(this.longMax).append('\n');
+
+        MessageDigest digest = Constants.newMessageDigest();
+        return ObjectId.fromRaw(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Adds a violation to a list, creating the list on the first violation.
+     *
+     * @param violations the violations found so far, or {@code null} if none.
+     * @param violation  the violation to add.
+     * @return the list of violations.
+     */
+    private static List<Violation> add(List<Violation> violations, Violation violation) {
+        List<Violation> list = violations == null ? new ArrayList<>() : violations;
+        list.add(violation);
+        return list;
+    }
+
+    /**
+     * Resolves the localized label of a validation scope.
+     *
+     * @param scope the scope.
+     * @return the localized label.
+     */
+    private String label(CommitPromptKeys scope) {
+        return this.i18nService.resolve(scope.getValue());
+    }
+
+    /**
+     * Builds a violation with a localized message.
+     *
+     * @param label  the localized label of the scope.
+     * @param key    the message key of the violated rule.
+     * @param params optional parameters to include in the message.
+     * @return the violation.
+     */
+    private Violation violation(String label, String key, Object... params) {
+        return Violation.of(label, this.i18nService.resolve(key, params));
+    }
+}
@@ -4,25 +4,73 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import dev.rafandoo.gitwit.config.GitWitConfig;
 import dev.rafandoo.gitwit.entity.CommitMessage;
+import dev.rafandoo.gitwit.entity.CommitMessageView;
+import dev.rafandoo.gitwit.entity.LazyCommitMessage;
+import dev.rafandoo.gitwit.entity.Violation;
 import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.git.CommitStream;
+import dev.rafandoo.gitwit.service.git.GitLintCacheService;
 import dev.rafandoo.gitwit.service.git.GitRepositoryService;
+import dev.rafandoo.gitwit.service.git.IgnoreRules;
+import dev.rafandoo.gitwit.service.git.LintVerdicts;
+import dev.rafandoo.gitwit.service.git.PushUpdate;
 import lombok.AllArgsConstructor;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * Service responsible for linting commit messages.
+ * <p>
+ * Commits are walked on the calling thread, which only collects their raw buffers. Parsing and
+ * validation run on a bounded pool, one task per chunk of commits, while a bounded number of chunks
+ * is in flight. Results are merged back in walk order, so reports do not depend on scheduling.
+ * </p>
+ * <p>
+ * The violations of each failing commit are printed as soon as its chunk is merged rather than collected
+ * for the whole range, so the run can stop early, see {@link LintLimits}.
+ * </p>
+ * <p>
+ * Commits known to pass the rules, see {@link GitLintCacheService}, are skipped by a filter of the walk
+ * itself, ahead of the ignored commits, so their bodies are never read; the commits that pass are recorded
+ * in batches of {@value #RECORD_BATCH_SIZE} as their chunks are merged, so memory does not grow with the range.
+ * </p>
  */
 @Singleton
 @AllArgsConstructor(onConstructor = @__({@Inject}))
 public final class LintService {
 
+    /**
+     * Number of commits parsed and validated by a single task.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * Number of chunks in flight per worker thread.
+     */
+    private static final int CHUNKS_PER_WORKER = 2;
+
+    /**
+     * Number of passing commits recorded to the verdict cache at once.
+     */
+    private static final int RECORD_BATCH_SIZE = 1024;
+
     private final MessageService messageService;
     private final CommitMessageService commitMessageService;
     private final GitRepositoryService gitRepositoryService;
+    private final GitLintCacheService gitLintCacheService;
 
     /**
      * Lints commit messages based on the provided revision specification or message parts.
@@ -34,6 +82,32 @@ public final class LintService {
      * @param config       GitWit configuration.
      */
     public void lint(String revSpec, String from, String to, String[] messageParts, GitWitConfig config) {
+        this.lint(revSpec, from, to, messageParts, LintLimits.NONE, config);
+    }
+
+    /**
+     * Lints commit messages based on the provided revision specification or message parts.
+     * <p>
+     * The violations of each failing commit are printed as soon as they are found, in walk order, and the
+     * run ends with a summary line. The walk stops early once the given limits are reached.
+     * </p>
+     *
+     * @param revSpec      revision specification (e.g., "HEAD~5..HEAD").
+     * @param from         starting point of the commit range (deprecated).
+     * @param to           ending point of the commit range (deprecated).
+     * @param messageParts parts of a single commit message to lint.
+     * @param limits       the limits stopping the run early.
+     * @param config       GitWit configuration.
+     * @throws GitWitException with the summary line if any commit has violations.
+     */
+    public void lint(
+        String revSpec,
+        String from,
+        String to,
+        String[] messageParts,
+        LintLimits limits,
+        GitWitConfig config
+    ) {
         if (messageParts != null) {
             String rawMessage = String.join(" ", messageParts);
             CommitMessage commitMessage = CommitMessage.of(rawMessage);
@@ -42,17 +116,310 @@ public final class LintService {
             return;
         }
 
-        List<RevCommit> commits = this.gitRepositoryService.resolveCommits(revSpec, from, to, config.getLint().getIgnored());
-        if (commits.isEmpty()) {
+        Tally tally = this.run(
+            ignored -> this.gitRepositoryService.streamCommits(revSpec, from, to, ignored),
+            limits,
+            config
+        );
+        if (tally.total == 0) {
             throw new GitWitException("lint.warn.no_commits");
         }
-        Map<String, CommitMessage> messages = commits.stream()
-            .collect(Collectors.toMap(
-                commit -> commit.getId().getName(),
-                CommitMessage::of
-            ));
+        this.summarize(tally);
+    }
+
+    /**
+     * Lints the commits a push would send to a remote, as passed by Git to the <code>pre-push</code> hook.
+     * <p>
+     * Only the commits reachable from the pushed refs but not from the remote-tracking refs of the remote
+     * are linted, see {@link GitRepositoryService#streamPushedCommits(String, String, List, IgnoreRules)}, so pushing
+     * a long-lived branch does not lint its whole history again. A push without new commits passes.
+     * </p>
+     *
+     * @param remote  the name of the remote, or its URL when pushing to an unnamed remote.
+     * @param url     the URL of the remote, or {@code null} if unknown.
+     * @param updates the ref updates of the push.
+     * @param limits  the limits stopping the run early.
+     * @param config  GitWit configuration.
+     * @throws GitWitException with the summary line if any commit has violations.
+     */
+    public void lintPush(String remote, String url, List<PushUpdate> updates, LintLimits limits, GitWitConfig config) {
+        Tally tally = this.run(
+            ignored -> this.gitRepositoryService.streamPushedCommits(remote, url, updates, ignored),
+            limits,
+            config
+        );
+        if (tally.total == 0) {
+            this.messageService.info("lint.pre_push.no_commits", remote);
+            return;
+        }
+        this.summarize(tally);
+    }
+
+    /**
+     * Checks the streamed commits against the rules of the configuration, skipping the commits known to pass
+     * and recording the commits that pass.
+     *
+     * @param commits opens the stream of commits to check, given the rules of the ignored commits.
+     * @param limits  the limits stopping the run early.
+     * @param config  GitWit configuration.
+     * @return the tally of the run.
+     * @throws GitWitException if the walk fails or the lint is interrupted.
+     */
+    private Tally run(Function<IgnoreRules, CommitStream> commits, LintLimits limits, GitWitConfig config) {
+        IgnoreRules ignored = IgnoreRules.compile(config.getLint().getIgnored(), config.getLint().isMatchIgnoredInBody());
+        LintRuleSet rules = this.commitMessageService.compile(config);
+        LintVerdicts known = this.gitLintCacheService.load(rules.getFingerprint());
+        Tally tally = new Tally(limits, known);
+        try (CommitStream stream = commits.apply(ignored.skipping(new KnownCommits(known, tally)))) {
+            this.check(stream.iterator(), rules, tally);
+            this.record(tally);
+        }
+        return tally;
+    }
+
+    /**
+     * Prints the summary line of a run, failing it if any commit has violations.
+     *
+     * @param tally the tally of the run.
+     * @throws GitWitException with the summary line if any commit has violations.
+     */
+    private void summarize(Tally tally) {
+        this.messageService.debug("lint.total", tally.total);
+        this.messageService.debug("lint.cached", tally.cached);
+        if (tally.failed > 0) {
+            throw new GitWitException(
+                tally.stopped ? "lint.summary.stopped" : "lint.summary.failed",
+                true,
+                String.valueOf(tally.failed),
+                String.valueOf(tally.total),
+                String.valueOf(tally.violations)
+            );
+        }
+        this.messageService.info("lint.summary.passed", tally.total);
+    }
+
+    /**
+     * Checks the walked commits against the rules, reporting failing commits as they are merged.
+     * <p>
+     * A range fitting in a single chunk, or a machine with a single core, is checked on the calling thread.
+     * Otherwise, completed chunks are merged as soon as every earlier chunk is merged, and the walk stops
+     * submitting chunks once the limits are reached; chunks still in flight are then discarded.
+     * </p>
+     *
+     * @param commits the walked commits.
+     * @param rules   the compiled rules.
+     * @param tally   counts the checked commits and the violations, and holds the limits.
+     * @throws GitWitException if the walk fails or the lint is interrupted.
+     */
+    private void check(Iterator<RevCommit> commits, LintRuleSet rules, Tally tally) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        List<PendingCommit> chunk = nextChunk(commits);
+        if (parallelism == 1 || !commits.hasNext()) {
+            while (!chunk.isEmpty() && !tally.stopped) {
+                this.merge(checkChunk(chunk, rules), tally);
+                chunk = nextChunk(commits);
+            }
+            return;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            Deque<Future<List<Verdict>>> inFlight = new ArrayDeque<>();
+            while (!chunk.isEmpty() && !tally.stopped) {
+                List<PendingCommit> tasks = chunk;
+                inFlight.add(pool.submit(() -> checkChunk(tasks, rules)));
+                if (inFlight.size() >= parallelism * CHUNKS_PER_WORKER) {
+                    this.merge(await(inFlight.poll()), tally);
+                }
+                while (!inFlight.isEmpty() && inFlight.peek().isDone() && !tally.stopped) {
+                    this.merge(await(inFlight.poll()), tally);
+                }
+                chunk = tally.stopped ? List.of() : nextChunk(commits);
+            }
+            while (!inFlight.isEmpty() && !tally.stopped) {
+                this.merge(await(inFlight.poll()), tally);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Merges the verdicts of a chunk, reporting its failing commits in walk order until the limits are reached.
+     *
+     * @param verdicts the verdicts of every commit of the chunk.
+     * @param tally    the tally of the run.
+     */
+    private void merge(List<Verdict> verdicts, Tally tally) {
+        for (Verdict verdict : verdicts) {
+            tally.total++;
+            if (verdict.violations().isEmpty()) {
+                tally.passed.add(verdict.id());
+                if (tally.passed.size() >= RECORD_BATCH_SIZE) {
+                    this.record(tally);
+                }
+                continue;
+            }
+            this.commitMessageService.reportCommit(verdict.id().getName(), verdict.violations());
+            tally.failed++;
+            tally.violations += verdict.violations().size();
+            if (tally.limits.reached(tally.failed, tally.violations)) {
+                tally.stopped = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the passing commits not recorded yet to the verdict cache.
+     *
+     * @param tally the tally of the run.
+     */
+    private void record(Tally tally) {
+        this.gitLintCacheService.record(tally.known, tally.passed);
+        tally.passed = new ArrayList<>();
+    }
+
+    /**
+     * Collects the next chunk of commits from the walk.
+     * The raw buffer of a commit is kept rather than copied: the walk releases it, but never modifies it.
+     *
+     * @param commits the walked commits.
+     * @return the next chunk, empty once the walk is exhausted.
+     */
+    private static List<PendingCommit> nextChunk(Iterator<RevCommit> commits) {
+        List<PendingCommit> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (chunk.size() < CHUNK_SIZE && commits.hasNext()) {
+            RevCommit commit = commits.next();
+            byte[] raw = commit.getRawBuffer();
+            chunk.add(raw == null
+                ? new PendingCommit(commit.getId().copy(), null, LazyCommitMessage.of(commit))
+                : new PendingCommit(commit.getId().copy(), raw, null));
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses and validates a chunk of commits. Safe to run on any thread: every message is parsed
+     * into its own view and the rules are immutable.
+     *
+     * @param chunk the commits to check.
+     * @param rules the compiled rules.
+     * @return the verdicts of the commits, in chunk order.
+     */
+    private static List<Verdict> checkChunk(List<PendingCommit> chunk, LintRuleSet rules) {
+        List<Verdict> verdicts = new ArrayList<>(chunk.size());
+        for (PendingCommit commit : chunk) {
+            verdicts.add(new Verdict(commit.id(), rules.check(commit.message())));
+        }
+        return verdicts;
+    }
+
+    /**
+     * Waits for the verdicts of a chunk.
+     *
+     * @param future the pending verdicts.
+     * @return the verdicts.
+     * @throws GitWitException if the check failed or the lint was interrupted.
+     */
+    private static List<Verdict> await(Future<List<Verdict>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitWitException("lint.error.interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new GitWitException("lint.error.interrupted", e.getCause());
+        }
+    }
 
-        this.messageService.debug("lint.total", messages.size());
-        this.commitMessageService.validate(messages, config);
+    /**
+     * A walked commit waiting to be checked.
+     *
+     * @param id     the id of the commit.
+     * @param raw    the raw commit buffer, or {@code null} if the message is already parsed.
+     * @param parsed the parsed message, when the walk did not retain the buffer.
+     */
+    private record PendingCommit(ObjectId id, byte[] raw, CommitMessageView parsed) {
+
+        /**
+         * Returns the message of the commit, parsing the raw buffer if needed.
+         *
+         * @return the message.
+         */
+        CommitMessageView message() {
+            return this.parsed != null ? this.parsed : LazyCommitMessage.of(this.id, this.raw);
+        }
+    }
+
+    /**
+     * The violations of a checked commit.
+     *
+     * @param id         the id of the commit.
+     * @param violations the violations found, empty if the commit passes.
+     */
+    private record Verdict(ObjectId id, List<Violation> violations) {
+    }
+
+    /**
+     * Walk filter skipping the commits known to pass the rules, which are counted as cached.
+     */
+    private static final class KnownCommits extends RevFilter {
+
+        private final LintVerdicts known;
+        private final Tally tally;
+
+        private KnownCommits(LintVerdicts known, Tally tally) {
+            this.known = known;
+            this.tally = tally;
+        }
+
+        @Override
+        public boolean include(RevWalk walker, RevCommit cmit) {
+            if (this.known.passed(cmit)) {
+                this.tally.total++;
+                this.tally.cached++;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean requiresCommitBody() {
+            return false;
+        }
+
+        @Override
+        public RevFilter clone() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "LINT_VERDICTS";
+        }
+    }
+
+    /**
+     * Counters and passing commits not recorded yet of a lint run, only updated by the calling thread.
+     */
+    private static final class Tally {
+
+        private final LintLimits limits;
+        private final LintVerdicts known;
+        private List<ObjectId> passed = new ArrayList<>();
+        private int total;
+        private int cached;
+        private int failed;
+        private int violations;
+        private boolean stopped;
+
+        private Tally(LintLimits limits, LintVerdicts known) {
+            this.limits = limits;
+            this.known = known;
+        }
     }
 }
@@ -0,0 +1,169 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.Changelog;
+import dev.rafandoo.gitwit.entity.CommitMessageView;
+import dev.rafandoo.gitwit.enums.ChangelogScope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Single-pass builder of a {@link Changelog}.
+ * <p>
+ * Every commit message is routed exactly once, as it arrives, and rendered right away, so the
+ * message itself is not retained:
+ * <ul>
+ *     <li>breaking changes go to the breaking changes bucket, when they are shown;</li>
+ *     <li>commits of a configured type go to the bucket of its section;</li>
+ *     <li>any other commit goes to the other types bucket, when other types are shown.</li>
+ * </ul>
+ * Buckets are indexed by type id from a {@link SymbolTable} seeded with the configured types,
+ * so section buckets follow the <code>changelog.types</code> order and other types follow
+ * the order in which they were first seen. Entries of a type keep their arrival order.
+ * </p>
+ * Instances are not thread-safe.
+ */
+public final class ChangelogBuilder {
+
+    private final boolean showBreakingChanges;
+    private final boolean showOtherTypes;
+    private final List<String> sectionTitles;
+    private final Function<ChangelogScope, ChangelogEntryTemplate> templates;
+
+    private final SymbolTable typeSymbols = new SymbolTable();
+    private final List<List<String>> breakingChanges;
+    private final List<List<String>> entries;
+    private int size;
+
+    private ChangelogEntryTemplate breakingChangesTemplate;
+    private ChangelogEntryTemplate sectionTemplate;
+    private ChangelogEntryTemplate otherTypesTemplate;
+
+    /**
+     * Creates a builder for the given changelog settings.
+     *
+     * @param config    the changelog configuration.
+     * @param types     the configured commit types, mapped to their section titles.
+     * @param templates resolves the compiled template of a scope; called once per scope, on its first entry.
+     */
+    public ChangelogBuilder(
+        GitWitConfig.ChangelogConfig config,
+        Map<String, String> types,
+        Function<ChangelogScope, ChangelogEntryTemplate> templates
+    ) {
+        this.showBreakingChanges = config.isShowBreakingChanges();
+        this.showOtherTypes = config.isShowOtherTypes();
+        this.templates = templates;
+
+        this.sectionTitles = new ArrayList<>(types.size());
+        this.breakingChanges = new ArrayList<>(types.size());
+        this.entries = new ArrayList<>(types.size());
+        types.forEach((type, title) -> {
+            this.typeSymbols.intern(type);
+            this.sectionTitles.add(title);
+            this.breakingChanges.add(null);
+            this.entries.add(null);
+        });
+    }
+
+    /**
+     * Routes a commit message to its bucket and renders its entry.
+     *
+     * @param message the commit message, which must have a type.
+     */
+    public void add(CommitMessageView message) {
+        int type = this.typeSymbols.intern(Objects.requireNonNull(message.type(), "type"));
+        if (type == this.entries.size()) {
+            this.breakingChanges.add(null);
+            this.entries.add(null);
+        }
+        this.size++;
+
+        if (this.showBreakingChanges && message.breakingChanges()) {
+            if (this.breakingChangesTemplate == null) {
+                this.breakingChangesTemplate = this.templates.apply(ChangelogScope.BREAKING_CHANGES);
+            }
+            bucket(this.breakingChanges, type).add(this.breakingChangesTemplate.render(message));
+        } else if (type < this.sectionTitles.size()) {
+            if (this.sectionTemplate == null) {
+                this.sectionTemplate = this.templates.apply(ChangelogScope.SECTION);
+            }
+            bucket(this.entries, type).add(this.sectionTemplate.render(message));
+        } else if (this.showOtherTypes) {
+            if (this.otherTypesTemplate == null) {
+                this.otherTypesTemplate = this.templates.apply(ChangelogScope.OTHER_TYPES);
+            }
+            bucket(this.entries, type).add(this.otherTypesTemplate.render(message));
+        }
+    }
+
+    /**
+     * Checks whether no commit message was added.
+     *
+     * @return {@code true} if the builder is empty.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Builds the changelog from the buckets filled so far.
+     *
+     * @param title    the changelog title.
+     * @param subtitle an optional subtitle for the changelog.
+     * @return the changelog.
+     */
+    public Changelog build(String title, String subtitle) {
+        int sectionCount = this.sectionTitles.size();
+
+        List<String> breaking = this.showBreakingChanges
+            ? concat(this.breakingChanges, 0, this.breakingChanges.size())
+            : Collections.emptyList();
+
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        for (int type = 0; type < sectionCount; type++) {
+            List<String> bucket = this.entries.get(type);
+            if (bucket != null) {
+                sections.put(this.sectionTitles.get(type), bucket);
+            }
+        }
+
+        List<String> otherTypes = this.showOtherTypes
+            ? concat(this.entries, sectionCount, this.entries.size())
+            : Collections.emptyList();
+
+        return new Changelog(title, subtitle, breaking, sections, otherTypes);
+    }
+
+    private static List<String> bucket(List<List<String>> buckets, int type) {
+        List<String> bucket = buckets.get(type);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets.set(type, bucket);
+        }
+        return bucket;
+    }
+
+    private static List<String> concat(List<List<String>> buckets, int from, int to) {
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            List<String> bucket = buckets.get(i);
+            size += bucket == null ? 0 : bucket.size();
+        }
+
+        List<String> result = new ArrayList<>(size);
+        for (int i = from; i < to; i++) {
+            List<String> bucket = buckets.get(i);
+            if (bucket != null) {
+                result.addAll(bucket);
+            }
+        }
+        return result;
+    }
+}
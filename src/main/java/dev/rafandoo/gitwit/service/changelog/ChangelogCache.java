@@ -0,0 +1,317 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.Changelog;
+import dev.rafandoo.gitwit.service.MessageService;
+import dev.rafandoo.gitwit.service.git.GitService;
+import lombok.AllArgsConstructor;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the rendered entries of a changelog range.
+ * <p>
+ * Entries are stored under <code>gitwit/changelog</code> in the git directory, one file per range, named after a hash of
+ * the range commit ids and of a fingerprint of the changelog configuration. Commit ids are immutable,
+ * so an entry never needs to be invalidated: a different range or configuration simply maps to another file.
+ * The cache is bounded to {@value #MAX_SIZE} bytes, evicting the least recently used entries first.
+ * </p>
+ * The cache is best-effort: unreadable or corrupt entries are treated as misses and write failures are only logged.
+ */
+@Singleton
+@AllArgsConstructor(onConstructor_ = @__({@Inject}))
+public final class ChangelogCache {
+
+    private final GitService gitService;
+    private final MessageService messageService;
+
+    private static final String DIRECTORY = "gitwit/changelog";
+    private static final String EXTENSION = ".bin";
+    private static final int MAGIC = 0x4757434C;
+    private static final int VERSION = 1;
+    private static final long MAX_SIZE = 4L * 1024 * 1024;
+
+    /**
+     * Computes the fingerprint of the configuration affecting the rendered entries.
+     * The changelog title and file path are not part of it, as they are applied on top of the cached entries.
+     *
+     * @param config the changelog configuration.
+     * @param types  the resolved commit types, mapped to their section titles, in section order.
+     * @return the fingerprint, as a hex string.
+     */
+    public static String fingerprint(GitWitConfig.ChangelogConfig config, Map<String, String> types) {
+        MessageDigest digest = sha1();
+        update(digest, types.toString());
+        update(digest, String.valueOf(config.isShowOtherTypes()));
+        update(digest, String.valueOf(config.isShowBreakingChanges()));
+        update(digest, String.valueOf(config.getIgnored()));
+        update(digest, String.valueOf(config.isMatchIgnoredInBody()));
+        update(digest, config.getFormat().getSectionTemplate());
+        update(digest, config.getFormat().getBreakingChangesTemplate());
+        update(digest, config.getFormat().getOtherTypesTemplate());
+        update(digest, config.getFormat().getDefaultTemplate());
+        update(digest, Locale.getDefault().toLanguageTag());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns the cached entries of a range, marking them as recently used.
+     *
+     * @param key the range key.
+     * @return a changelog holding the cached entries, without title and subtitle, or {@code null} on a miss.
+     */
+    public Changelog get(Key key) {
+        Path file = this.resolve(key);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Unsupported changelog cache entry: " + file);
+            }
+            List<String> breakingChanges = readList(in);
+            int sectionCount = readLength(in, 2 * Integer.BYTES);
+            Map<String, List<String>> sections = new LinkedHashMap<>(sectionCount * 2);
+            for (int i = 0; i < sectionCount; i++) {
+                sections.put(readString(in), readList(in));
+            }
+            List<String> otherChanges = readList(in);
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return new Changelog(null, null, breakingChanges, sections, otherChanges);
+        } catch (IOException e) {
+            this.messageService.debug("changelog.cache.invalid", file, e.getMessage());
+            this.delete(file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the entries of a range, then evicts the least recently used entries beyond the size bound.
+     *
+     * @param key       the range key.
+     * @param changelog the changelog holding the entries; its title and subtitle are not stored.
+     */
+    public void put(Key key, Changelog changelog) {
+        Path file = this.resolve(key);
+        if (file == null) {
+            return;
+        }
+
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), ".entry", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                writeList(out, changelog.breakingChanges());
+                out.writeInt(changelog.sections().size());
+                for (Map.Entry<String, List<String>> section : changelog.sections().entrySet()) {
+                    writeString(out, section.getKey());
+                    writeList(out, section.getValue());
+                }
+                writeList(out, changelog.otherChanges());
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            this.evict(file.getParent());
+        } catch (IOException e) {
+            this.messageService.debug("changelog.cache.write_failed", file, e.getMessage());
+            if (temp != null) {
+                this.delete(temp);
+            }
+        }
+    }
+
+    /**
+     * Resolves the file of a cache entry.
+     *
+     * @param key the range key.
+     * @return the entry file, or {@code null} if there is no git directory to store it in.
+     */
+    private Path resolve(Key key) {
+        File git = this.gitService.session().repository().getDirectory();
+        if (git == null) {
+            return null;
+        }
+        return git.toPath().resolve(DIRECTORY).resolve(key.hash() + EXTENSION);
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache fits its size bound.
+     *
+     * @param directory the cache directory.
+     * @throws IOException if the directory cannot be listed.
+     */
+    private void evict(Path directory) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(EXTENSION)) {
+                    Entry entry = new Entry(file, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+                    entries.add(entry);
+                    total += entry.size();
+                }
+            }
+        }
+        if (total <= MAX_SIZE) {
+            return;
+        }
+
+        entries.sort(Comparator.comparingLong(Entry::lastUsed));
+        for (Entry entry : entries) {
+            if (total <= MAX_SIZE) {
+                break;
+            }
+            this.delete(entry.file());
+            total -= entry.size();
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            this.messageService.debug("changelog.cache.write_failed", file, e.getMessage());
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = readLength(in, Integer.BYTES);
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readString(in));
+        }
+        return list;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in, 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length, checking it against the bytes left in the entry.
+     *
+     * @param in          the entry, read from memory so that the bytes left are known.
+     * @param minItemSize the minimum size, in bytes, of each counted item.
+     * @return the length.
+     * @throws IOException if the length is negative or exceeds the bytes left, i.e. the entry is corrupt.
+     */
+    private static int readLength(DataInputStream in, int minItemSize) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available() / minItemSize) {
+            throw new IOException("Invalid length in changelog cache entry: " + length);
+        }
+        return length;
+    }
+
+    private static void writeList(DataOutputStream out, List<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (String value : list) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static MessageDigest sha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Key of a cached range.
+     *
+     * @param kind        how the range commits were selected, as ranges and releases may differ on merged histories.
+     * @param from        the excluded start of the range, or {@link ObjectId#zeroId()} for the start of history;
+     *                    for releases, a hash of the commits of every lower release, see {@link #releases(List, String)}.
+     * @param to          the included end of the range.
+     * @param fingerprint the fingerprint of the changelog configuration.
+     */
+    public record Key(String kind, ObjectId from, ObjectId to, String fingerprint) {
+
+        /**
+         * Creates the key of a <code>from..to</code> range.
+         *
+         * @param from        the excluded start of the range.
+         * @param to          the included end of the range.
+         * @param fingerprint the fingerprint of the changelog configuration.
+         * @return the key.
+         */
+        public static Key range(AnyObjectId from, AnyObjectId to, String fingerprint) {
+            return new Key("range", from.copy(), to.copy(), fingerprint);
+        }
+
+        /**
+         * Creates the keys of releases, i.e. of the commits first contained in each tag.
+         * <p>
+         * The commits of a release depend on every lower release, not only on the previous one, so the start
+         * of each key is a hash chained over the commits of all lower releases, in release order, and
+         * {@link ObjectId#zeroId()} for the first release. Adding, moving or deleting a tag thus changes the
+         * keys of every higher release.
+         * </p>
+         *
+         * @param tags        the commits of the releases, oldest first.
+         * @param fingerprint the fingerprint of the changelog configuration.
+         * @return the keys, in release order.
+         */
+        public static Key[] releases(List<? extends AnyObjectId> tags, String fingerprint) {
+            Key[] keys = new Key[tags.size()];
+            ObjectId lower = ObjectId.zeroId();
+            byte[] raw = new byte[2 * Constants.OBJECT_ID_LENGTH];
+            for (int i = 0; i < keys.length; i++) {
+                ObjectId tag = tags.get(i).copy();
+                keys[i] = new Key("release", lower, tag, fingerprint);
+
+                lower.copyRawTo(raw, 0);
+                tag.copyRawTo(raw, Constants.OBJECT_ID_LENGTH);
+                lower = ObjectId.fromRaw(sha1().digest(raw));
+            }
+            return keys;
+        }
+
+        private String hash() {
+            MessageDigest digest = sha1();
+            update(digest, this.kind);
+            update(digest, this.from.name());
+            update(digest, this.to.name());
+            update(digest, this.fingerprint);
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    private record Entry(Path file, long size, long lastUsed) {
+    }
+}
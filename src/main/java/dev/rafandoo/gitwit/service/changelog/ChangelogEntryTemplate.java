@@ -0,0 +1,303 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import dev.rafandoo.cup.utils.StringUtils;
+import dev.rafandoo.gitwit.entity.CommitMessageView;
+import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.parser.CommitMessageScanner;
+import dev.rafandoo.gitwit.parser.Trailers;
+import dev.rafandoo.gitwit.util.DateFormatUtil;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled changelog entry template.
+ * <p>
+ * A template such as <code>- {type}({scope}): {description} ({shortHash})</code> is parsed once
+ * into a list of literal and placeholder segments. Each entry is then rendered into a single
+ * reusable buffer, followed by the cleanup applied to every entry:
+ * <ul>
+ *     <li>empty parentheses, and one whitespace character before them, are removed;</li>
+ *     <li>a leading <code>:</code> followed by whitespace is removed;</li>
+ *     <li>leading whitespace is removed.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Supported placeholders are <code>{type}</code>, <code>{scope}</code>, <code>{description}</code>,
+ * <code>{hash}</code>, <code>{shortHash}</code>, <code>{breakingChanges}</code>, <code>{author}</code>
+ * and <code>{date}</code>. The date accepts a {@link DateTimeFormatter} pattern as option, e.g.
+ * <code>{date:yyyy-MM-dd}</code>. Footers are available as <code>{trailer:Key}</code>, e.g.
+ * <code>{trailer:Refs}</code>, rendering every value of the key separated by <code>, </code>.
+ * Unknown placeholders are kept as literal text.
+ * </p>
+ * Instances are not thread-safe.
+ */
+public final class ChangelogEntryTemplate {
+
+    private static final String TRAILER_SEPARATOR = ", ";
+
+    private final String source;
+    private final Segment[] segments;
+    private final StringBuilder buffer = new StringBuilder(128);
+
+    private ChangelogEntryTemplate(String source, Segment[] segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles a changelog entry template.
+     *
+     * @param template the template text.
+     * @return the compiled template.
+     * @throws GitWitException if a placeholder option is invalid.
+     */
+    public static ChangelogEntryTemplate compile(String template) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        int length = template.length();
+        while (i < length) {
+            char c = template.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            int end = i + 1;
+            while (end < length && template.charAt(end) != '}' && template.charAt(end) != '{') {
+                end++;
+            }
+            if (end >= length || template.charAt(end) == '{') {
+                literal.append(template, i, end);
+                i = end;
+                continue;
+            }
+
+            Segment placeholder = placeholder(template.substring(i + 1, end));
+            if (placeholder == null) {
+                literal.append(template, i, end + 1);
+            } else {
+                if (!literal.isEmpty()) {
+                    segments.add(new Literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                segments.add(placeholder);
+            }
+            i = end + 1;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+        }
+
+        return new ChangelogEntryTemplate(template, segments.toArray(Segment[]::new));
+    }
+
+    /**
+     * Returns the text this template was compiled from.
+     *
+     * @return the template source.
+     */
+    public String source() {
+        return this.source;
+    }
+
+    /**
+     * Renders a changelog entry for the given commit message.
+     *
+     * @param message the commit message to render.
+     * @return the formatted changelog entry.
+     */
+    public String render(CommitMessageView message) {
+        StringBuilder out = this.buffer;
+        out.setLength(0);
+        for (Segment segment : this.segments) {
+            segment.appendTo(message, out);
+        }
+        int start = cleanUp(out);
+        return out.substring(start);
+    }
+
+    /**
+     * Resolves a placeholder by its name.
+     *
+     * @param name placeholder text between braces, e.g. <code>date:yyyy-MM-dd</code>.
+     * @return the placeholder segment, or {@code null} if the placeholder is unknown.
+     */
+    private static Segment placeholder(String name) {
+        int colon = name.indexOf(':');
+        String key = colon < 0 ? name : name.substring(0, colon);
+        String option = colon < 0 ? null : name.substring(colon + 1);
+
+        Field field = Field.of(key);
+        if (field == null) {
+            return null;
+        }
+        if (option == null) {
+            return field == Field.TRAILER ? null : new Placeholder(field, null, null);
+        }
+        if (field == Field.TRAILER) {
+            return StringUtils.isNullOrBlank(option) ? null : new Placeholder(field, option.trim(), null);
+        }
+        if (field != Field.DATE) {
+            return null;
+        }
+        try {
+            return new Placeholder(field, option, DateFormatUtil.formatter(option));
+        } catch (IllegalArgumentException e) {
+            throw new GitWitException("changelog.error.invalid_date_pattern", option);
+        }
+    }
+
+    /**
+     * Applies the entry cleanup in place.
+     * Equivalent to <code>replaceAll("\\s?\\(\\)", "")</code>, <code>replaceAll("^:\\s+", "")</code>
+     * and <code>replaceAll("^\\s+", "")</code>, in this order.
+     *
+     * @param out the rendered entry.
+     * @return the index at which the cleaned entry starts.
+     */
+    private static int cleanUp(StringBuilder out) {
+        int length = out.length();
+        int write = 0;
+        int read = 0;
+        while (read < length) {
+            char c = out.charAt(read);
+            if (c == '(' && read + 1 < length && out.charAt(read + 1) == ')') {
+                read += 2;
+                continue;
+            }
+            if (CommitMessageScanner.isSpace(c)
+                && read + 2 < length
+                && out.charAt(read + 1) == '('
+                && out.charAt(read + 2) == ')') {
+                read += 3;
+                continue;
+            }
+            out.setCharAt(write++, c);
+            read++;
+        }
+        out.setLength(write);
+
+        int start = 0;
+        if (write > 1 && out.charAt(0) == ':' && CommitMessageScanner.isSpace(out.charAt(1))) {
+            start = 1;
+        }
+        while (start < write && CommitMessageScanner.isSpace(out.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static void appendTrimmed(StringBuilder out, String value) {
+        if (!StringUtils.isNullOrBlank(value)) {
+            out.append(value.trim());
+        }
+    }
+
+    /**
+     * Values that can be referenced by a placeholder.
+     */
+    private enum Field {
+        TYPE("type"),
+        SCOPE("scope"),
+        DESCRIPTION("description"),
+        HASH("hash"),
+        SHORT_HASH("shortHash"),
+        BREAKING_CHANGES("breakingChanges"),
+        AUTHOR("author"),
+        DATE("date"),
+        TRAILER("trailer");
+
+        private final String key;
+
+        Field(String key) {
+            this.key = key;
+        }
+
+        static Field of(String key) {
+            for (Field field : values()) {
+                if (field.key.equals(key)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Part of a compiled template.
+     */
+    private sealed interface Segment permits Literal, Placeholder {
+
+        void appendTo(CommitMessageView message, StringBuilder out);
+    }
+
+    private record Literal(String text) implements Segment {
+
+        @Override
+        public void appendTo(CommitMessageView message, StringBuilder out) {
+            out.append(this.text);
+        }
+    }
+
+    private record Placeholder(Field field, String option, DateTimeFormatter formatter) implements Segment {
+
+        @Override
+        public void appendTo(CommitMessageView message, StringBuilder out) {
+            switch (this.field) {
+                case TYPE -> appendTrimmed(out, message.type());
+                case SCOPE -> appendTrimmed(out, message.scope());
+                case DESCRIPTION -> appendTrimmed(out, message.shortDescription());
+                case HASH -> {
+                    ObjectId hash = message.hash();
+                    if (hash != null) {
+                        out.append(hash.name());
+                    }
+                }
+                case SHORT_HASH -> {
+                    ObjectId hash = message.hash();
+                    if (hash != null) {
+                        out.append(hash.abbreviate(Constants.OBJECT_ID_ABBREV_STRING_LENGTH).name());
+                    }
+                }
+                case BREAKING_CHANGES -> {
+                    if (message.breakingChanges()) {
+                        out.append('!');
+                    }
+                }
+                case AUTHOR -> {
+                    PersonIdent author = message.authorIdent();
+                    if (author != null && !StringUtils.isNullOrBlank(author.getName())) {
+                        out.append(author.getName());
+                    }
+                }
+                case DATE -> out.append(
+                    this.formatter == null
+                        ? message.formattedDate()
+                        : DateFormatUtil.format(message.authorIdent(), this.formatter)
+                );
+                case TRAILER -> {
+                    Trailers trailers = message.trailers();
+                    boolean first = true;
+                    for (int i = 0; i < trailers.size(); i++) {
+                        if (!trailers.keyEquals(i, this.option)) {
+                            continue;
+                        }
+                        if (!first) {
+                            out.append(TRAILER_SEPARATOR);
+                        }
+                        out.append(trailers.value(i));
+                        first = false;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import java.nio.file.Path;
+
+/**
+ * Header of an existing changelog file, as found by {@link ChangelogWriter#readHeader(Path)}.
+ *
+ * @param file    the changelog file.
+ * @param release the last documented release, e.g. <code>v1.2.0</code>.
+ * @param offset  the byte offset where the section of that release starts, i.e. where a newer section goes.
+ */
+public record ChangelogHeader(
+    Path file,
+    String release,
+    long offset
+) {
+}
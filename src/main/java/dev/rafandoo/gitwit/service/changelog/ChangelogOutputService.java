@@ -7,10 +7,12 @@ import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.service.MessageService;
 import dev.rafandoo.gitwit.service.TerminalService;
 import dev.rafandoo.gitwit.util.ClipboardUtil;
+import dev.rafandoo.gitwit.util.ContentWriter;
 import lombok.AllArgsConstructor;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -26,6 +28,7 @@ public final class ChangelogOutputService {
 
     /**
      * Outputs the changelog content either by copying it to the clipboard or writing it to a file.
+     * The content is streamed to its destination as it is produced.
      *
      * @param content the changelog content to output.
      * @param copy    if {@code true}, copies the content to the clipboard; otherwise, writes it to a file.
@@ -33,11 +36,12 @@ public final class ChangelogOutputService {
      * @param config  the GitWit configuration containing changelog settings.
      * @param stdout   if {@code true}, indicates that the output is intended for standard output.
      */
-    public void output(String content, boolean copy, boolean append, GitWitConfig config, boolean stdout) {
+    public void output(ContentWriter content, boolean copy, boolean append, GitWitConfig config, boolean stdout) {
         try {
             if (stdout) {
                 try (PrintWriter writer = this.terminalService.getTerminal().writer()) {
-                    writer.println(content);
+                    content.writeTo(writer);
+                    writer.println();
                 }
                 return;
             }
@@ -54,4 +58,42 @@ public final class ChangelogOutputService {
             throw new GitWitException("changelog.error.write", e);
         }
     }
+
+    /**
+     * Reads the header of the existing changelog file to find its last documented release.
+     *
+     * @param config the GitWit configuration containing changelog settings.
+     * @return the header of the changelog file, or {@code null} if the file does not exist yet.
+     * @throws GitWitException if the file exists but no release could be found in its header.
+     */
+    public ChangelogHeader readHeader(GitWitConfig config) {
+        Path file = this.writer.resolveFile(config);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            ChangelogHeader header = this.writer.readHeader(file);
+            if (header == null) {
+                throw new GitWitException("changelog.error.no_release", file.toString());
+            }
+            return header;
+        } catch (IOException e) {
+            throw new GitWitException("changelog.error.read", e);
+        }
+    }
+
+    /**
+     * Inserts the changelog content above the last documented release of the changelog file.
+     *
+     * @param content the changelog content to insert.
+     * @param header  the header of the changelog file.
+     */
+    public void insert(ContentWriter content, ChangelogHeader header) {
+        try {
+            Path path = this.writer.insert(content, header);
+            this.messageService.success("changelog.written", path);
+        } catch (IOException e) {
+            throw new GitWitException("changelog.error.write", e);
+        }
+    }
 }
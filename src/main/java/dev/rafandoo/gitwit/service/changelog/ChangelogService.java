@@ -6,17 +6,25 @@ import dev.rafandoo.gitwit.cli.dto.ChangelogOptions;
 import dev.rafandoo.gitwit.config.GitWitConfig;
 import dev.rafandoo.cup.utils.StringUtils;
 import dev.rafandoo.gitwit.entity.Changelog;
-import dev.rafandoo.gitwit.entity.CommitMessage;
+import dev.rafandoo.gitwit.entity.CommitMessageView;
+import dev.rafandoo.gitwit.entity.LazyCommitMessage;
 import dev.rafandoo.gitwit.enums.ChangelogScope;
 import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.git.CommitRange;
+import dev.rafandoo.gitwit.service.git.CommitStream;
 import dev.rafandoo.gitwit.service.git.GitRepositoryService;
+import dev.rafandoo.gitwit.service.git.IgnoreRules;
+import dev.rafandoo.gitwit.service.git.ReleaseTag;
 import dev.rafandoo.gitwit.service.MessageService;
 import dev.rafandoo.gitwit.service.changelog.render.Renderer;
+import dev.rafandoo.gitwit.util.ContentWriter;
 import dev.rafandoo.gitwit.util.EmojiUtil;
 import lombok.AllArgsConstructor;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.revwalk.RevCommit;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,24 +43,90 @@ public final class ChangelogService {
     private final Renderer renderer;
     private final ChangelogOutputService outputService;
     private final ChangelogVersionResolver versionResolver;
+    private final ChangelogCache cache;
+
+    private static final String RELEASE_SEPARATOR = "\n\n";
+    private static final Changelog EMPTY = new Changelog(null, null, List.of(), Map.of(), List.of());
 
     /**
      * Handles the generation of a changelog based on the provided revision specification or range.
+     * <p>
+     * In incremental mode, the last release documented in the existing changelog file is used as the
+     * starting point and the new section is inserted above it, below the changelog title. Every section
+     * written in this mode starts with a release marker holding the id of the last commit of its range,
+     * so the next run resumes from that commit whatever the subtitle of the section. Incremental mode cannot
+     * be combined with append mode, nor with a range once the file documents a release.
+     * </p>
      *
      * @param revSpec the Git revision specification (e.g., commit hash, tag, branch).
      * @param options the options for generating the changelog, including subtitle, copy to clipboard, and append mode.
      * @param config  the GitWit configuration containing changelog settings.
+     * @throws GitWitException if incremental mode is combined with conflicting options.
      */
     public void handle(
         String revSpec,
         ChangelogOptions options,
         GitWitConfig config
     ) {
-        List<RevCommit> commits = this.resolveCommits(revSpec, options, config);
-        this.messageService.debug("changelog.resolved_commits", commits.size());
+        if (options.getTagOptions().isAllReleases()) {
+            this.handleAllReleases(options, config);
+            return;
+        }
+
+        if (options.getOutputOptions().isIncremental() && options.isAppend()) {
+            throw new GitWitException("changelog.error.conflict", true);
+        }
+        ChangelogHeader header = options.getOutputOptions().isIncremental()
+            ? this.outputService.readHeader(config)
+            : null;
+
+        String range;
+        if (header != null) {
+            if (hasRange(revSpec, options)) {
+                throw new GitWitException(
+                    "changelog.error.incremental_range",
+                    true,
+                    header.file().toString(),
+                    header.release()
+                );
+            }
+            this.messageService.debug("changelog.resolved_release", header.release());
+            range = String.format("%s..%s", this.resolveRelease(header).name(), Constants.HEAD);
+        } else {
+            range = this.resolveRevSpec(revSpec, options);
+        }
 
-        Map<String, List<CommitMessage>> grouped = this.toCommitMessages(commits);
         Map<String, String> types = this.resolveTypes(config);
+        CommitRange ids = this.gitRepositoryService.resolveRange(range);
+        ChangelogCache.Key key = ids == null
+            ? null
+            : ChangelogCache.Key.range(ids.from(), ids.to(), ChangelogCache.fingerprint(config.getChangelog(), types));
+        Changelog entries = key == null ? null : this.cache.get(key);
+        if (entries != null) {
+            this.messageService.debug("changelog.cache.hit", range);
+        } else {
+            ChangelogBuilder builder = this.newBuilder(config, types);
+            int total = 0;
+            try (CommitStream commits = this.gitRepositoryService.streamCommits(
+                range,
+                options.getFrom(),
+                options.getTo(),
+                this.ignoreRules(config)
+            )) {
+                for (RevCommit commit : commits) {
+                    this.addCommit(builder, commit);
+                    total++;
+                }
+            }
+            this.messageService.debug("changelog.resolved_commits", total);
+
+            if (!builder.isEmpty()) {
+                entries = builder.build(null, null);
+                if (key != null) {
+                    this.cache.put(key, entries);
+                }
+            }
+        }
 
         String subtitle;
         if (options.getSubtitleOptions().isNoSubtitle()) {
@@ -63,14 +137,123 @@ public final class ChangelogService {
 
         this.messageService.debug("changelog.resolved_subtitle", subtitle);
 
-        Changelog changelog = this.generate(config, grouped, types, subtitle, options.getOutputOptions().isStdout());
+        Changelog changelog = this.generate(config, entries, subtitle, options.getOutputOptions().isStdout());
         if (changelog == null) {
             return;
         }
 
-        String output = this.renderer.render(changelog, options.isAppend());
+        if (header != null) {
+            String release = ids.to().name();
+            this.outputService.insert(out -> this.renderRelease(changelog, release, out), header);
+            this.messageService.success("changelog.generated");
+            return;
+        }
+
+        if (options.getOutputOptions().isIncremental() && !options.getOutputOptions().isStdout()) {
+            String release = this.rangeEnd(ids, range, options);
+            this.output(
+                out -> {
+                    if (!StringUtils.isNullOrBlank(changelog.title())) {
+                        this.renderer.render(withHeadings(EMPTY, changelog.title(), null), false, out);
+                        out.append(RELEASE_SEPARATOR);
+                    }
+                    this.renderRelease(changelog, release, out);
+                },
+                options,
+                config
+            );
+            return;
+        }
+
+        this.output(out -> this.renderer.render(changelog, options.isAppend(), out), options, config);
+    }
+
+    /**
+     * Checks whether the changelog commits are selected explicitly, by a rev-spec or a range option.
+     *
+     * @param revSpec the Git revision specification, if any.
+     * @param options the options for generating the changelog.
+     * @return {@code true} if a rev-spec, <code>--last-tag</code>, <code>--for-tag</code>, <code>--from</code>
+     * or <code>--to</code> is given.
+     */
+    private static boolean hasRange(String revSpec, ChangelogOptions options) {
+        return !StringUtils.isNullOrBlank(revSpec)
+            || options.getTagOptions().isLastTag()
+            || !StringUtils.isNullOrBlank(options.getTagOptions().getForTag())
+            || !StringUtils.isNullOrBlank(options.getFrom())
+            || !StringUtils.isNullOrBlank(options.getTo());
+    }
+
+    /**
+     * Renders a changelog section, without title, preceded by its release marker.
+     *
+     * @param changelog the changelog section.
+     * @param release   the tag or commit id the section ends at.
+     * @param out       the destination.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void renderRelease(Changelog changelog, String release, Appendable out) throws IOException {
+        out.append(ChangelogWriter.marker(release)).append('\n');
+        this.renderer.render(changelog, true, out);
+    }
+
+    /**
+     * Resolves the last documented release of a changelog file to its commit.
+     * <p>
+     * Release markers hold a tag or a commit id. Release headings hold a version, which is also looked
+     * up with a <code>v</code> prefix, so <code>## [1.2.0]</code> resolves to the tag <code>v1.2.0</code>.
+     * </p>
+     *
+     * @param header the header of the changelog file.
+     * @return the id of the release commit.
+     * @throws GitWitException if the release does not resolve to a commit.
+     */
+    private ObjectId resolveRelease(ChangelogHeader header) {
+        String release = header.release();
+        ObjectId id = this.gitRepositoryService.findCommit(release);
+        if (id == null && !release.startsWith("v")) {
+            id = this.gitRepositoryService.findCommit("v" + release);
+        }
+        if (id == null) {
+            throw new GitWitException("changelog.error.unknown_release", release, header.file().toString());
+        }
+        return id;
+    }
+
+    /**
+     * Resolves the id of the last commit of the changelog commits.
+     *
+     * @param ids     the resolved range, or {@code null} if the rev-spec is not a range.
+     * @param range   the rev-spec of the changelog commits.
+     * @param options the options for generating the changelog, including the deprecated range options.
+     * @return the commit id.
+     * @throws GitWitException if the end of the range cannot be resolved.
+     */
+    private String rangeEnd(CommitRange ids, String range, ChangelogOptions options) {
+        if (ids != null) {
+            return ids.to().name();
+        }
+        String end = range;
+        if (StringUtils.isNullOrBlank(end)) {
+            end = StringUtils.isNullOrBlank(options.getTo()) ? Constants.HEAD : options.getTo();
+        }
+        ObjectId id = this.gitRepositoryService.findCommit(end);
+        if (id == null) {
+            throw new GitWitException("git.repo.error.rev_not_found", end);
+        }
+        return id.name();
+    }
+
+    /**
+     * Outputs the rendered changelog to the destination selected by the options.
+     *
+     * @param content the rendered changelog content.
+     * @param options the options for generating the changelog, including copy to clipboard, append and stdout.
+     * @param config  the GitWit configuration containing changelog settings.
+     */
+    private void output(ContentWriter content, ChangelogOptions options, GitWitConfig config) {
         this.outputService.output(
-            output,
+            content,
             options.getOutputOptions().isCopyToClipboard(),
             options.isAppend(),
             config,
@@ -83,14 +266,89 @@ public final class ChangelogService {
     }
 
     /**
-     * Resolves the list of Git commits based on the provided revision specification and options.
+     * Handles the generation of a changelog with one section per release tag.
+     * <p>
+     * The entries of each release are taken from the changelog cache when available. The history of
+     * the remaining releases is walked once and every commit is rendered into the builder of the oldest
+     * release that contains it. Releases are emitted newest first, each with its tag as subtitle,
+     * and releases without any entry are skipped.
+     * </p>
+     *
+     * @param options the options for generating the changelog, including copy to clipboard and append mode.
+     * @param config  the GitWit configuration containing changelog settings.
+     */
+    private void handleAllReleases(ChangelogOptions options, GitWitConfig config) {
+        Map<String, String> types = this.resolveTypes(config);
+        List<ReleaseTag> releases = this.gitRepositoryService.listReleases();
+        this.messageService.debug("changelog.resolved_releases", releases.size());
+
+        String fingerprint = ChangelogCache.fingerprint(config.getChangelog(), types);
+        ChangelogCache.Key[] keys = ChangelogCache.Key.releases(
+            releases.stream().map(ReleaseTag::commitId).toList(),
+            fingerprint
+        );
+        Changelog[] entries = new Changelog[releases.size()];
+        for (int release = 0; release < releases.size(); release++) {
+            entries[release] = this.cache.get(keys[release]);
+        }
+
+        Map<ChangelogScope, ChangelogEntryTemplate> templates = new EnumMap<>(ChangelogScope.class);
+        ChangelogBuilder[] builders = new ChangelogBuilder[releases.size()];
+        this.gitRepositoryService.walkReleases(
+            releases,
+            release -> entries[release] == null,
+            this.ignoreRules(config),
+            (commit, release) -> {
+                if (builders[release] == null) {
+                    builders[release] = this.newBuilder(config, types, templates);
+                }
+                this.addCommit(builders[release], commit);
+            }
+        );
+
+        List<Changelog> changelogs = new ArrayList<>();
+        for (int release = releases.size() - 1; release >= 0; release--) {
+            if (entries[release] == null) {
+                entries[release] = builders[release] == null
+                    ? EMPTY
+                    : builders[release].build(null, null);
+                this.cache.put(keys[release], entries[release]);
+            }
+            if (!isEmpty(entries[release])) {
+                String title = changelogs.isEmpty() ? config.getChangelog().getTitle() : null;
+                changelogs.add(withHeadings(entries[release], title, releases.get(release).name()));
+            }
+        }
+
+        if (changelogs.isEmpty()) {
+            if (!options.getOutputOptions().isStdout()) {
+                this.messageService.warn("changelog.warn.no_commits");
+            }
+            return;
+        }
+
+        this.output(
+            out -> {
+                for (int i = 0; i < changelogs.size(); i++) {
+                    if (i > 0) {
+                        out.append(RELEASE_SEPARATOR);
+                    }
+                    this.renderer.render(changelogs.get(i), options.isAppend(), out);
+                }
+            },
+            options,
+            config
+        );
+    }
+
+    /**
+     * Resolves the revision specification of the changelog commits based on the provided options.
      *
      * @param revSpec the Git revision specification (e.g., commit hash, tag, branch).
      * @param options the options for generating the changelog, including tag and version options.
-     * @param config  the GitWit configuration containing changelog settings.
-     * @return a list of {@link RevCommit} objects representing the resolved commits.
+     * @return the rev-spec of the changelog commits.
      */
-    private List<RevCommit> resolveCommits(String revSpec, ChangelogOptions options, GitWitConfig config) {
+    private String resolveRevSpec(String revSpec, ChangelogOptions options) {
         if (
             options.getTagOptions().isLastTag() ||
                 options.getVersionOptions().isMajor() ||
@@ -98,12 +356,7 @@ public final class ChangelogService {
                 options.getVersionOptions().isPatch()
         ) {
             String latestTag = this.gitRepositoryService.getLatestTag();
-            return this.gitRepositoryService.resolveCommits(
-                String.format("%s..%s", latestTag, Constants.HEAD),
-                null,
-                null,
-                config.getChangelog().getIgnored()
-            );
+            return String.format("%s..%s", latestTag, Constants.HEAD);
         }
 
         if (!StringUtils.isNullOrBlank(options.getTagOptions().getForTag())) {
@@ -113,20 +366,10 @@ public final class ChangelogService {
                 this.messageService.warn("changelog.warn.no_previous_tag", forTag);
                 previousTag = forTag + "^";
             }
-            return this.gitRepositoryService.resolveCommits(
-                String.format("%s..%s", previousTag, forTag),
-                null,
-                null,
-                config.getChangelog().getIgnored()
-            );
+            return String.format("%s..%s", previousTag, forTag);
         }
 
-        return this.gitRepositoryService.resolveCommits(
-            revSpec,
-            options.getFrom(),
-            options.getTo(),
-            config.getChangelog().getIgnored()
-        );
+        return revSpec;
     }
 
     /**
@@ -139,24 +382,84 @@ public final class ChangelogService {
      * @param stdout       a boolean indicating whether the output is intended for standard output (console) or not.
      * @return the generated {@link Changelog} object, or {@code null} if no commits are available.
      */
-    public Changelog generate(GitWitConfig config, Map<String, List<CommitMessage>> groupedByType, Map<String, String> types, String subtitle, boolean stdout) {
-        if (groupedByType.isEmpty()) {
+    public Changelog generate(GitWitConfig config, Map<String, ? extends List<? extends CommitMessageView>> groupedByType, Map<String, String> types, String subtitle, boolean stdout) {
+        ChangelogBuilder builder = this.newBuilder(config, types);
+        groupedByType.values().forEach(commits -> commits.forEach(builder::add));
+        return this.generate(config, builder.isEmpty() ? null : builder.build(null, null), subtitle, stdout);
+    }
+
+    /**
+     * Generates a changelog from already rendered entries.
+     *
+     * @param config   the GitWit configuration containing changelog settings.
+     * @param entries  a changelog holding the rendered entries, or {@code null} if there are none.
+     * @param subtitle an optional subtitle for the changelog.
+     * @param stdout   a boolean indicating whether the output is intended for standard output (console) or not.
+     * @return the generated {@link Changelog} object, or {@code null} if no commits are available.
+     */
+    private Changelog generate(GitWitConfig config, Changelog entries, String subtitle, boolean stdout) {
+        if (entries == null) {
             if (!stdout) {
                 this.messageService.warn("changelog.warn.no_commits");
             }
             return null;
         }
+        return withHeadings(entries, config.getChangelog().getTitle(), subtitle);
+    }
 
-        List<String> breakingChanges = this.extractBreakingChanges(config, groupedByType);
-        Map<String, List<String>> sections = this.buildSections(config, groupedByType, types);
-        List<String> otherTypes = this.extractOtherTypes(config, groupedByType);
+    /**
+     * Returns a changelog with the entries of another one and the given headings.
+     *
+     * @param entries  a changelog holding the rendered entries.
+     * @param title    the changelog title.
+     * @param subtitle an optional subtitle for the changelog.
+     * @return the changelog.
+     */
+    private static Changelog withHeadings(Changelog entries, String title, String subtitle) {
+        return new Changelog(title, subtitle, entries.breakingChanges(), entries.sections(), entries.otherChanges());
+    }
+
+    /**
+     * Checks whether a changelog has no entry.
+     *
+     * @param changelog the changelog.
+     * @return {@code true} if the changelog has no entry.
+     */
+    private static boolean isEmpty(Changelog changelog) {
+        return changelog.breakingChanges().isEmpty()
+            && changelog.sections().isEmpty()
+            && changelog.otherChanges().isEmpty();
+    }
+
+    /**
+     * Creates a changelog builder for the current run.
+     *
+     * @param config the GitWit configuration containing changelog settings.
+     * @param types  a map defining the types of commits to include in the changelog.
+     * @return the changelog builder.
+     */
+    private ChangelogBuilder newBuilder(GitWitConfig config, Map<String, String> types) {
+        return this.newBuilder(config, types, new EnumMap<>(ChangelogScope.class));
+    }
 
-        return new Changelog(
-            config.getChangelog().getTitle(),
-            subtitle,
-            breakingChanges,
-            sections,
-            otherTypes
+    /**
+     * Creates a changelog builder sharing already compiled templates.
+     * Templates are compiled on the first entry of their scope and shared across scopes with the same template.
+     *
+     * @param config    the GitWit configuration containing changelog settings.
+     * @param types     a map defining the types of commits to include in the changelog.
+     * @param templates the templates compiled during the current run.
+     * @return the changelog builder.
+     */
+    private ChangelogBuilder newBuilder(
+        GitWitConfig config,
+        Map<String, String> types,
+        Map<ChangelogScope, ChangelogEntryTemplate> templates
+    ) {
+        return new ChangelogBuilder(
+            config.getChangelog(),
+            types,
+            scope -> this.getCompiledTemplate(config, scope, templates)
         );
     }
 
@@ -186,25 +489,61 @@ public final class ChangelogService {
     }
 
     /**
-     * Converts a list of Git commits into a map of commit messages grouped by their types.
+     * Returns the compiled commit message template for a scope, compiling it on first use.
+     * Scopes that resolve to the same template text (e.g. the default template) share one compiled instance.
      *
-     * @param commits the list of {@link RevCommit} objects to convert.
-     * @return a map where the keys are commit types and the values are lists of {@link CommitMessage} objects.
+     * @param config    the GitWit configuration containing changelog settings.
+     * @param scope     the scope of the changelog (e.g., section, breaking changes, other types).
+     * @param templates the templates already compiled during the current run.
+     * @return the compiled template.
+     * @throws GitWitException if no template is defined for the specified scope and no default template is available.
      */
-    private Map<String, List<CommitMessage>> toCommitMessages(List<RevCommit> commits) {
-        return commits.stream()
-            .map(CommitMessage::of)
-            .filter(commitMessage -> {
-                if (commitMessage.type() == null) {
-                    this.messageService.warn(
-                        "changelog.warn.commit_no_type",
-                        commitMessage.hash().abbreviate(Constants.OBJECT_ID_ABBREV_STRING_LENGTH).name()
-                    );
-                    return false;
-                }
-                return true;
-            })
-            .collect(Collectors.groupingBy(CommitMessage::type));
+    private ChangelogEntryTemplate getCompiledTemplate(
+        GitWitConfig config,
+        ChangelogScope scope,
+        Map<ChangelogScope, ChangelogEntryTemplate> templates
+    ) {
+        ChangelogEntryTemplate compiled = templates.get(scope);
+        if (compiled != null) {
+            return compiled;
+        }
+
+        String template = this.getChangelogCommitTemplateByScope(config.getChangelog().getFormat(), scope);
+        compiled = templates.values()
+            .stream()
+            .filter(candidate -> candidate.source().equals(template))
+            .findFirst()
+            .orElseGet(() -> ChangelogEntryTemplate.compile(template));
+        templates.put(scope, compiled);
+        return compiled;
+    }
+
+    /**
+     * Parses a commit and adds it to the changelog builder. Commits without a type are skipped with a warning.
+     *
+     * @param builder the changelog builder.
+     * @param commit  the commit to add.
+     */
+    private void addCommit(ChangelogBuilder builder, RevCommit commit) {
+        CommitMessageView commitMessage = LazyCommitMessage.of(commit);
+        if (commitMessage.type() == null) {
+            this.messageService.warn(
+                "changelog.warn.commit_no_type",
+                commitMessage.hash().abbreviate(Constants.OBJECT_ID_ABBREV_STRING_LENGTH).name()
+            );
+            return;
+        }
+        builder.add(commitMessage);
+    }
+
+    /**
+     * Compiles the ignored message rules of the changelog configuration.
+     *
+     * @param config the GitWit configuration containing changelog settings.
+     * @return the compiled rules of the commits to leave out of the changelog.
+     */
+    private IgnoreRules ignoreRules(GitWitConfig config) {
+        return IgnoreRules.compile(config.getChangelog().getIgnored(), config.getChangelog().isMatchIgnoredInBody());
     }
 
     /**
@@ -231,101 +570,4 @@ public final class ChangelogService {
         }
         return types;
     }
-
-    /**
-     * Extracts breaking changes from the grouped commit messages.
-     *
-     * @param config        the GitWit configuration containing changelog settings.
-     * @param groupedByType a map of commit messages grouped by their types.
-     * @return a list of formatted breaking change messages.
-     */
-    private List<String> extractBreakingChanges(GitWitConfig config, Map<String, List<CommitMessage>> groupedByType) {
-        if (!config.getChangelog().isShowBreakingChanges()) {
-            return Collections.emptyList();
-        }
-
-        List<String> result = new ArrayList<>();
-
-        groupedByType.values()
-            .forEach(commits -> {
-                List<CommitMessage> breaking = commits.stream()
-                    .filter(CommitMessage::breakingChanges)
-                    .toList();
-
-                commits.removeAll(breaking);
-
-                breaking.forEach(commitMessage -> result.add(
-                    commitMessage.formatForChangelog(
-                        this.getChangelogCommitTemplateByScope(
-                            config.getChangelog().getFormat(),
-                            ChangelogScope.BREAKING_CHANGES
-                        )
-                    )
-                ));
-            });
-
-        return result;
-    }
-
-    /**
-     * Builds the sections of the changelog based on the grouped commit messages and defined types.
-     *
-     * @param config        the GitWit configuration containing changelog settings.
-     * @param groupedByType a map of commit messages grouped by their types.
-     * @param types         a map defining the types of commits to include in the changelog.
-     * @return a map where the keys are section titles and the values are lists of formatted commit messages.
-     */
-    private Map<String, List<String>> buildSections(GitWitConfig config, Map<String, List<CommitMessage>> groupedByType, Map<String, String> types) {
-        Map<String, List<String>> sections = new LinkedHashMap<>();
-
-        types.forEach((typeKey, title) -> {
-            if (!groupedByType.containsKey(typeKey)) {
-                return;
-            }
-
-            List<String> messages = groupedByType.get(typeKey)
-                .stream()
-                .map(
-                    commitMessage -> commitMessage.formatForChangelog(
-                        this.getChangelogCommitTemplateByScope(
-                            config.getChangelog().getFormat(),
-                            ChangelogScope.SECTION
-                        )
-                    )
-                )
-                .toList();
-
-            if (!messages.isEmpty()) {
-                sections.put(title, messages);
-            }
-
-            groupedByType.remove(typeKey);
-        });
-
-        return sections;
-    }
-
-    /**
-     * Extracts commit messages of types not explicitly defined in the changelog configuration.
-     *
-     * @param config        the GitWit configuration containing changelog settings.
-     * @param groupedByType a map of commit messages grouped by their types.
-     * @return a list of formatted commit messages for other types.
-     */
-    private List<String> extractOtherTypes(GitWitConfig config, Map<String, List<CommitMessage>> groupedByType) {
-        if (!config.getChangelog().isShowOtherTypes()) {
-            return Collections.emptyList();
-        }
-
-        return groupedByType.values()
-            .stream()
-            .flatMap(List::stream)
-            .map(commitMessage -> commitMessage.formatForChangelog(
-                this.getChangelogCommitTemplateByScope(
-                    config.getChangelog().getFormat(),
-                    ChangelogScope.OTHER_TYPES
-                )
-            ))
-            .toList();
-    }
 }
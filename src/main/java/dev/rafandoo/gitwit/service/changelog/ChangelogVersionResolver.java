@@ -4,13 +4,11 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import dev.rafandoo.cup.utils.StringUtils;
 import dev.rafandoo.gitwit.cli.dto.ChangelogOptions;
+import dev.rafandoo.gitwit.entity.SemVer;
 import dev.rafandoo.gitwit.service.MessageService;
 import dev.rafandoo.gitwit.service.git.GitRepositoryService;
 import lombok.RequiredArgsConstructor;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Resolves the changelog subtitle version based on CLI options and repository state.
  * <p>
@@ -36,13 +34,6 @@ public final class ChangelogVersionResolver {
     private final GitRepositoryService gitRepositoryService;
     private final MessageService messageService;
 
-    private static final Pattern SEMVER_PATTERN = Pattern.compile(
-        "^(v?)" +                        // prefix
-            "(\\d+)\\.(\\d+)\\.(\\d+)" +     // major.minor.patch
-            "(?:-([0-9A-Za-z.-]+))?" +       // pre-release
-            "(?:\\+([0-9A-Za-z.-]+))?$"      // build
-    );
-
     /**
      * Resolves the subtitle to be displayed in the generated changelog.
      *
@@ -100,7 +91,7 @@ public final class ChangelogVersionResolver {
             return version;
         }
 
-        SemVer semVer = this.parse(version);
+        SemVer semVer = SemVer.parse(version);
         if (semVer == null) {
             this.messageService.warn("changelog.warn.invalid-semver", version);
             return version;
@@ -116,89 +107,4 @@ public final class ChangelogVersionResolver {
 
         return semVer.toString();
     }
-
-    /**
-     * Parses a semantic version string.
-     *
-     * @param version the version string.
-     * @return a {@link SemVer} instance if valid, otherwise {@code null}.
-     */
-    private SemVer parse(String version) {
-        Matcher matcher = SEMVER_PATTERN.matcher(version);
-
-        if (!matcher.matches()) {
-            return null;
-        }
-
-        return new SemVer(
-            matcher.group(1),
-            Integer.parseInt(matcher.group(2)),
-            Integer.parseInt(matcher.group(3)),
-            Integer.parseInt(matcher.group(4)),
-            matcher.group(5),
-            matcher.group(6)
-        );
-    }
-
-    /**
-     * Immutable representation of a Semantic Version (SemVer).
-     * Supports major, minor and patch increments.
-     */
-    private record SemVer(
-        String prefix,
-        int major,
-        int minor,
-        int patch,
-        String preRelease,
-        String build
-    ) {
-
-        /**
-         * Creates a new SemVer instance with the major version incremented by 1,
-         * and minor and patch reset to 0.
-         *
-         * @return a new SemVer instance with the major version bumped.
-         */
-        SemVer bumpMajor() {
-            return new SemVer(prefix, major + 1, 0, 0, null, null);
-        }
-
-        /**
-         * Creates a new SemVer instance with the minor version incremented by 1,
-         * and patch reset to 0.
-         *
-         * @return a new SemVer instance with the minor version bumped.
-         */
-        SemVer bumpMinor() {
-            return new SemVer(prefix, major, minor + 1, 0, null, null);
-        }
-
-        /**
-         * Creates a new SemVer instance with the patch version incremented by 1.
-         *
-         * @return a new SemVer instance with the patch version bumped.
-         */
-        SemVer bumpPatch() {
-            return new SemVer(prefix, major, minor, patch + 1, null, null);
-        }
-
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder();
-            sb.append(prefix)
-                .append(major).append(".")
-                .append(minor).append(".")
-                .append(patch);
-
-            if (preRelease != null) {
-                sb.append("-").append(preRelease);
-            }
-
-            if (build != null) {
-                sb.append("+").append(build);
-            }
-
-            return sb.toString();
-        }
-    }
 }
@@ -6,12 +6,23 @@ import com.google.inject.Singleton;
 import dev.rafandoo.gitwit.config.GitWitConfig;
 import dev.rafandoo.gitwit.enums.ConfigPaths;
 import dev.rafandoo.gitwit.service.git.GitService;
+import dev.rafandoo.gitwit.util.ContentWriter;
 import lombok.AllArgsConstructor;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
 
 /**
  * Service responsible for writing the changelog to a file.
@@ -22,9 +33,14 @@ public final class ChangelogWriter {
 
     private final GitService gitService;
     private static final String NL = "\n\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HEADER_LIMIT = 64 * 1024;
+    private static final String RELEASE_MARKER = "<!-- gitwit:release ";
+    private static final String MARKER_END = "-->";
+    private static final String RELEASE_HEADING = "## ";
 
     /**
-     * Writes the changelog content to the changelog file.
+     * Writes the changelog content to the changelog file, streaming it through a buffered file channel.
      *
      * @param content the changelog content to write.
      * @param append  whether to append to the existing file or overwrite it.
@@ -32,7 +48,37 @@ public final class ChangelogWriter {
      * @return the path to the changelog file.
      * @throws IOException if an I/O error occurs.
      */
-    public Path write(String content, boolean append, GitWitConfig config) throws IOException {
+    public Path write(ContentWriter content, boolean append, GitWitConfig config) throws IOException {
+        Path file = this.resolveFile(config);
+
+        Files.createDirectories(file.getParent());
+        boolean separate = append && Files.exists(file);
+        try (
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING
+            );
+            Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE)
+        ) {
+            if (separate) {
+                out.write(NL);
+            }
+            content.writeTo(out);
+        }
+
+        return file;
+    }
+
+    /**
+     * Resolves the changelog file from the configured path.
+     * A configured directory resolves to the default changelog file inside it.
+     *
+     * @param config the GitWit configuration containing changelog settings.
+     * @return the path to the changelog file, which may not exist yet.
+     */
+    public Path resolveFile(GitWitConfig config) {
         String configuredPath = config.getChangelog().getFilepath();
 
         String filename;
@@ -48,26 +94,159 @@ public final class ChangelogWriter {
             }
         }
 
-        Path file = this.gitService.getRepo().resolve(filename);
+        return this.gitService.getRepo().resolve(filename);
+    }
 
-        Files.createDirectories(file.getParent());
-        if (append) {
-            String sep = Files.exists(file) ? NL : "";
-            Files.writeString(
-                file,
-                sep + content,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.APPEND
-            );
-        } else {
-            Files.writeString(
-                file,
-                content,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING
-            );
+    /**
+     * Finds the last documented release of a changelog file.
+     * <p>
+     * Only the first {@value #HEADER_LIMIT} bytes of the file are read. The release is taken from the
+     * first line that is either a release marker, such as <code>&lt;!-- gitwit:release v1.2.0 --&gt;</code>,
+     * or a release heading, such as <code>## v1.2.0</code> or <code>## [1.2.0] - 2024-01-01</code>.
+     * </p>
+     *
+     * @param file the changelog file.
+     * @return the header of the file, or {@code null} if no release was found.
+     * @throws IOException if an I/O error occurs.
+     */
+    public ChangelogHeader readHeader(Path file) throws IOException {
+        ByteBuffer buffer;
+        boolean complete;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            buffer = ByteBuffer.allocate((int) Math.min(size, HEADER_LIMIT));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            complete = size <= HEADER_LIMIT;
         }
 
-        return file;
+        byte[] header = buffer.array();
+        int length = buffer.position();
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(header, length, (byte) '\n', start);
+            if (end < 0) {
+                if (!complete) {
+                    break;
+                }
+                end = length;
+            }
+
+            String release = release(new String(header, start, end - start, StandardCharsets.UTF_8).strip());
+            if (release != null) {
+                return new ChangelogHeader(file, release, start);
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    /**
+     * Inserts changelog content right before the last documented release of a changelog file.
+     * <p>
+     * The file is rewritten into a temporary file next to it, copying the bytes around the insertion point
+     * channel to channel, and the temporary file then atomically replaces the changelog file. A symbolic
+     * link is resolved first, so its target is replaced rather than the link, and the POSIX permissions of
+     * the changelog file are carried over to the temporary file.
+     * </p>
+     *
+     * @param content the changelog content to insert.
+     * @param header  the header of the changelog file, as returned by {@link #readHeader(Path)}.
+     * @return the path to the changelog file.
+     * @throws IOException if an I/O error occurs.
+     */
+    public Path insert(ContentWriter content, ChangelogHeader header) throws IOException {
+        Path file = header.file().toRealPath();
+        Path temp = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            copyPermissions(file, temp);
+            try (
+                FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)
+            ) {
+                long offset = Math.min(header.offset(), source.size());
+                transfer(source, 0, offset, target);
+
+                Writer out = new BufferedWriter(Channels.newWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+                content.writeTo(out);
+                out.write(NL);
+                out.flush();
+
+                transfer(source, offset, source.size() - offset, target);
+                target.force(false);
+            }
+            replace(temp, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return header.file();
+    }
+
+    /**
+     * Formats the release marker of a changelog section, read back by {@link #readHeader(Path)}.
+     *
+     * @param release the tag or commit id the section ends at.
+     * @return the marker line, without line feed.
+     */
+    static String marker(String release) {
+        return RELEASE_MARKER + release + " " + MARKER_END;
+    }
+
+    private static String release(String line) {
+        if (line.startsWith(RELEASE_MARKER) && line.endsWith(MARKER_END)) {
+            String release = line.substring(RELEASE_MARKER.length(), line.length() - MARKER_END.length()).strip();
+            return release.isEmpty() ? null : release;
+        }
+        if (line.startsWith(RELEASE_HEADING)) {
+            String release = line.substring(RELEASE_HEADING.length()).strip();
+            int space = release.indexOf(' ');
+            if (space > 0) {
+                release = release.substring(0, space);
+            }
+            if (release.startsWith("[") && release.endsWith("]")) {
+                release = release.substring(1, release.length() - 1);
+            }
+            return release.isEmpty() ? null : release;
+        }
+        return null;
+    }
+
+    private static int indexOf(byte[] bytes, int length, byte value, int from) {
+        for (int i = from; i < length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void transfer(FileChannel source, long position, long count, FileChannel target) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            long transferred = source.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (view != null) {
+            view.setPermissions(Files.readAttributes(source, PosixFileAttributes.class).permissions());
+        }
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 }
@@ -0,0 +1,42 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-run dictionary assigning small, dense int ids to commit types.
+ * <p>
+ * Ids are assigned in first-seen order starting at zero. Seeding a table with the configured
+ * changelog types therefore makes the id of a configured type double as the index of its section,
+ * while every other type gets an id past them.
+ * </p>
+ * Instances are not thread-safe.
+ */
+public final class SymbolTable {
+
+    /**
+     * Id of a missing ({@code null}) symbol.
+     */
+    public static final int NONE = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /**
+     * Returns the id of a symbol, assigning the next free id if it was not seen before.
+     *
+     * @param name the symbol.
+     * @return the symbol id, or {@link #NONE} if the symbol is {@code null}.
+     */
+    public int intern(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer id = this.ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        int next = this.ids.size();
+        this.ids.put(name, next);
+        return next;
+    }
+}
@@ -6,11 +6,18 @@ import dev.rafandoo.gitwit.entity.Changelog;
 import dev.rafandoo.gitwit.service.I18nService;
 import dev.rafandoo.gitwit.util.EmojiUtil;
 import lombok.AllArgsConstructor;
-import net.steppschuh.markdowngenerator.list.UnorderedList;
-import net.steppschuh.markdowngenerator.text.heading.Heading;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Markdown renderer for changelogs.
+ * <p>
+ * Headings and list items are written one by one to the destination, so rendering never
+ * builds the document, or any of its sections, in memory. Blocks are separated by a blank
+ * line and the output never ends with one, so several changelogs can be rendered in sequence.
+ * </p>
  */
 @AllArgsConstructor(onConstructor_ = @__({@Inject}))
 public class ChangelogMarkdownRenderer implements Renderer {
@@ -18,45 +25,68 @@ public class ChangelogMarkdownRenderer implements Renderer {
     private final I18nService i18nService;
 
     private static final String NL = "\n\n";
+    private static final String ITEM_PREFIX = "- ";
 
     @Override
-    public String render(Changelog changelog, boolean append) {
-        StringBuilder sb = new StringBuilder();
+    public void render(Changelog changelog, boolean append, Appendable out) throws IOException {
+        boolean separate = false;
 
         if (!StringUtils.isNullOrBlank(changelog.title()) && !append) {
-            Heading heading = new Heading(
-                EmojiUtil.processEmojis(changelog.title()),
-                1
-            );
-            heading.setUnderlineStyle(false);
-            sb.append(heading).append(NL);
+            heading(out, EmojiUtil.processEmojis(changelog.title()), 1);
+            separate = true;
         }
 
         if (!StringUtils.isNullOrBlank(changelog.subtitle())) {
-            Heading subtitleHeading = new Heading(
-                EmojiUtil.processEmojis(changelog.subtitle()),
-                2
-            );
-            subtitleHeading.setUnderlineStyle(false);
-            sb.append(subtitleHeading).append(NL);
+            separate = separate(out, separate);
+            heading(out, EmojiUtil.processEmojis(changelog.subtitle()), 2);
         }
 
         if (!changelog.breakingChanges().isEmpty()) {
-            sb.append(new Heading("Breaking Changes", 3)).append(NL);
-            sb.append(new UnorderedList<>(changelog.breakingChanges())).append(NL);
+            separate = separate(out, separate);
+            section(out, "Breaking Changes", changelog.breakingChanges());
         }
 
-        changelog.sections()
-            .forEach((title, items) -> {
-                sb.append(new Heading(title, 3)).append(NL);
-                sb.append(new UnorderedList<>(items)).append(NL);
-            });
+        for (Map.Entry<String, List<String>> section : changelog.sections().entrySet()) {
+            separate = separate(out, separate);
+            section(out, section.getKey(), section.getValue());
+        }
 
         if (!changelog.otherChanges().isEmpty()) {
-            sb.append(new Heading(this.i18nService.resolve("changelog.other"), 3)).append(NL);
-            sb.append(new UnorderedList<>(changelog.otherChanges()));
+            separate(out, separate);
+            section(out, this.i18nService.resolve("changelog.other"), changelog.otherChanges());
+        }
+    }
+
+    /**
+     * Writes the blank line that separates two blocks, if a block was already written.
+     *
+     * @param out      the destination.
+     * @param separate whether a block was already written.
+     * @return always {@code true}, as a block is about to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static boolean separate(Appendable out, boolean separate) throws IOException {
+        if (separate) {
+            out.append(NL);
         }
+        return true;
+    }
 
-        return sb.toString();
+    private static void heading(Appendable out, String text, int level) throws IOException {
+        for (int i = 0; i < level; i++) {
+            out.append('#');
+        }
+        out.append(' ').append(text);
+    }
+
+    private static void section(Appendable out, String title, List<String> items) throws IOException {
+        heading(out, title, 3);
+        out.append(NL);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.append('\n');
+            }
+            out.append(ITEM_PREFIX).append(items.get(i));
+        }
     }
 }
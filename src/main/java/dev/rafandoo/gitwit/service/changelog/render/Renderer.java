@@ -2,11 +2,24 @@ package dev.rafandoo.gitwit.service.changelog.render;
 
 import dev.rafandoo.gitwit.entity.Changelog;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Renderer interface for rendering changelogs.
  */
 public interface Renderer {
 
+    /**
+     * Renders the given changelog into a destination, as it is produced.
+     *
+     * @param changelog the changelog to render.
+     * @param append    whether to append to existing content.
+     * @param out       the destination of the rendered changelog.
+     * @throws IOException if an I/O error occurs while writing to the destination.
+     */
+    void render(Changelog changelog, boolean append, Appendable out) throws IOException;
+
     /**
      * Renders the given changelog.
      *
@@ -14,6 +27,14 @@ public interface Renderer {
      * @param append    whether to append to existing content.
      * @return the rendered changelog as a string.
      */
-    String render(Changelog changelog, boolean append);
+    default String render(Changelog changelog, boolean append) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            this.render(changelog, append, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
 
 }
@@ -0,0 +1,12 @@
+package dev.rafandoo.gitwit.service.git;
+
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * A <code>from..to</code> commit range resolved to commit ids.
+ *
+ * @param from the id of the excluded start commit.
+ * @param to   the id of the included end commit.
+ */
+public record CommitRange(ObjectId from, ObjectId to) {
+}
@@ -0,0 +1,162 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.exception.GitWitException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.errors.RevWalkException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Lazily evaluated, single-use sequence of commits.
+ * <p>
+ * Commits are parsed as the iteration advances. When the stream is backed by a {@link RevWalk}, the body
+ * of each commit is disposed as soon as the next commit is requested, so memory is bounded by what the
+ * consumer keeps rather than by the length of the history. Consumers needing the message of a commit
+ * after advancing must extract it first, e.g. into a {@link dev.rafandoo.gitwit.entity.LazyCommitMessage}.
+ * The walk may skip retaining bodies, so that it can parse the topology from the commit-graph: the body
+ * of each commit the walk produces is then read right before the stream filter, which may match messages.
+ * </p>
+ * Streams must be closed once consumed, which releases the underlying walk.
+ */
+public final class CommitStream implements Iterable<RevCommit>, AutoCloseable {
+
+    private final RevWalk walk;
+    private final Iterator<RevCommit> commits;
+    private final Predicate<RevCommit> filter;
+    private boolean iterated;
+    private RevCommit current;
+    private RevCommit next;
+
+    private CommitStream(RevWalk walk, Iterator<RevCommit> commits, Predicate<RevCommit> filter) {
+        this.walk = walk;
+        this.commits = commits;
+        this.filter = filter;
+    }
+
+    /**
+     * Creates a stream over the commits produced by a walk, which the stream takes ownership of.
+     *
+     * @param walk    the walk owning the commits, closed with the stream.
+     * @param commits the commits to stream, usually the walk itself.
+     * @param filter  accepts the commits to stream, given with their body; the bodies of rejected commits are
+     *                disposed right away.
+     * @return the commit stream.
+     */
+    static CommitStream of(RevWalk walk, Iterator<RevCommit> commits, Predicate<RevCommit> filter) {
+        return new CommitStream(walk, commits, filter);
+    }
+
+    /**
+     * Creates a stream over already parsed commits. Their bodies are left untouched, as they are owned by the caller.
+     *
+     * @param commits the commits to stream.
+     * @return the commit stream.
+     */
+    public static CommitStream of(List<RevCommit> commits) {
+        return new CommitStream(null, commits.iterator(), commit -> true);
+    }
+
+    /**
+     * Returns the iterator of the stream, which can only be requested once.
+     *
+     * @return the commit iterator.
+     * @throws IllegalStateException if the stream was already iterated.
+     */
+    @Override
+    public Iterator<RevCommit> iterator() {
+        if (this.iterated) {
+            throw new IllegalStateException("Commit stream can only be iterated once.");
+        }
+        this.iterated = true;
+
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                if (CommitStream.this.next == null) {
+                    CommitStream.this.release();
+                    CommitStream.this.next = CommitStream.this.fetch();
+                }
+                return CommitStream.this.next != null;
+            }
+
+            @Override
+            public RevCommit next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CommitStream.this.current = CommitStream.this.next;
+                CommitStream.this.next = null;
+                return CommitStream.this.current;
+            }
+        };
+    }
+
+    /**
+     * Fetches the next accepted commit.
+     *
+     * @return the next accepted commit, or {@code null} when the stream is exhausted.
+     * @throws GitWitException if there is an error walking the history.
+     */
+    private RevCommit fetch() {
+        try {
+            while (this.commits.hasNext()) {
+                RevCommit commit = this.commits.next();
+                if (this.walk != null && commit.getRawBuffer() == null) {
+                    this.walk.parseBody(commit);
+                }
+                if (this.filter.test(commit)) {
+                    return commit;
+                }
+                this.dispose(commit);
+            }
+            return null;
+        } catch (RevWalkException e) {
+            if (e.getCause() instanceof MissingObjectException) {
+                throw new GitWitException("git.repo.error.missing_object", e.getCause());
+            }
+            throw new GitWitException("git.error.init_failed", e.getCause());
+        } catch (MissingObjectException e) {
+            throw new GitWitException("git.repo.error.missing_object", e);
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        }
+    }
+
+    /**
+     * Disposes the body of the commit returned last, which the consumer is done with.
+     */
+    private void release() {
+        if (this.current != null) {
+            this.dispose(this.current);
+            this.current = null;
+        }
+    }
+
+    private void dispose(RevCommit commit) {
+        if (this.walk != null) {
+            commit.disposeBody();
+        }
+    }
+
+    /**
+     * Releases the commit bodies still held and closes the underlying walk, if any.
+     */
+    @Override
+    public void close() {
+        this.release();
+        if (this.next != null) {
+            this.dispose(this.next);
+            this.next = null;
+        }
+        if (this.walk != null) {
+            this.walk.close();
+        }
+    }
+}
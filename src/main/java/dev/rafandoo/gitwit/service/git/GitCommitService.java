@@ -41,12 +41,14 @@ public final class GitCommitService {
                     throw new GitWitException("git.commit.error.no_message");
                 }
 
-                return git.commit()
+                RevCommit commit = git.commit()
                     .setMessage(commitMessage.format())
                     .setSign(false)
                     .setAllowEmpty(amend || allowEmpty)
                     .setAmend(amend)
                     .call();
+                this.gitService.session().invalidate();
+                return commit;
             } catch (NoHeadException e) {
                 throw new GitWitException("git.repo.error.no_head");
             } catch (UnmergedPathsException e) {
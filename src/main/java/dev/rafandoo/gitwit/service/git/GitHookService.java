@@ -24,7 +24,8 @@ import static dev.rafandoo.gitwit.service.git.GitConfigService.GIT_CONFIG_CORE;
 import static dev.rafandoo.gitwit.service.git.GitConfigService.GIT_CONFIG_HOOKS_PATH;
 
 /**
- * Service responsible for managing Git hooks within the repository, including setup and uninstallation of the Commit Wizard hook.
+ * Service responsible for managing Git hooks within the repository, including setup and uninstallation of the Commit Wizard
+ * hook and of the pre-push lint hook.
  */
 @Singleton
 @AllArgsConstructor(onConstructor_ = @__({@Inject}))
@@ -102,7 +103,28 @@ public final class GitHookService {
         }
 
         this.createPrepareCommitMsgHook(hookFile);
-        this.configureGitHooks();
+        this.configureGitHooks(true);
+    }
+
+    /**
+     * Installs (or updates) the pre-push lint hook and switches <code>core.hooksPath</code> to
+     * {@link GitRepositoryParam#HOOKS_DIR_NAME}. If the hook already exists and the user did not request <code>--force</code>, the
+     * method exits early with an informational message.
+     *
+     * @param forceInstall whether to overwrite an existing hook.
+     */
+    public void setupPrePushHook(boolean forceInstall) {
+        Path hookFile = this.getGitHooks().resolve(GitRepositoryParam.PRE_PUSH.get().asString());
+
+        if (Files.exists(hookFile) && !forceInstall) {
+            this.messageService.info(
+                "git.hooks.exists"
+            );
+            return;
+        }
+
+        this.createPrePushHook(hookFile);
+        this.configureGitHooks(false);
     }
 
     /**
@@ -124,7 +146,38 @@ public final class GitHookService {
             "  echo 'Commit Wizard failed; aborting commit.' >&2\n" +
             "  exit 1\n" +
             "}\n";
+        this.writeHook(hookFile, script);
+    }
+
+    /**
+     * Creates a pre-push hook script linting the commits about to be pushed.
+     * <p>
+     * Git passes the name of the remote (or its URL, for an unnamed remote) and its URL as arguments and
+     * the ref updates on the standard input, which the <code>lint --pre-push</code> command inherits.
+     * </p>
+     *
+     * @param hookFile the {@link Path} where the hook script will be written.
+     * @throws GitWitException if there is an error writing the hook script.
+     */
+    private void createPrePushHook(Path hookFile) {
+        String script = "#!/usr/bin/env bash\n" +
+            "# Auto‑generated by GitWit — do not edit manually.\n" +
+            "# Lint the commits not yet on the remote; ref updates are read from stdin\n" +
+            this.gitConfigService.getAliasCommand().replace("!", "") + " lint --pre-push \"$1\" --push-url \"$2\" || {\n" +
+            "  echo 'Commit lint failed; aborting push.' >&2\n" +
+            "  exit 1\n" +
+            "}\n";
+        this.writeHook(hookFile, script);
+    }
 
+    /**
+     * Writes a hook script and makes it executable.
+     *
+     * @param hookFile the {@link Path} where the hook script will be written.
+     * @param script   the content of the script.
+     * @throws GitWitException if there is an error writing the hook script.
+     */
+    private void writeHook(Path hookFile, String script) {
         try {
             Files.writeString(
                 hookFile,
@@ -148,38 +201,51 @@ public final class GitHookService {
     /**
      * Configures the Git hooks directory for the repository.
      * <p>
-     * Sets the hooks path to {@link GitRepositoryParam#HOOKS_DIR_NAME} and saves the configuration.
+     * Sets the hooks path to {@link GitRepositoryParam#HOOKS_DIR_NAME} and, for the Commit Wizard, the editor to
+     * {@link GitRepositoryParam#CORE_EDITOR_CAT}, then saves the configuration if anything changed.
      *
+     * @param editor whether to set the editor, which the Commit Wizard hook relies on.
      * @throws GitWitException if there is an error accessing or modifying the Git configuration.
      */
-    private void configureGitHooks() {
+    private void configureGitHooks(boolean editor) {
         try {
             StoredConfig config = this.gitConfigService.load(GitConfigScope.LOCAL);
             config.load();
-            if (
-                !GitRepositoryParam.HOOKS_DIR_NAME.get()
-                    .asString()
-                    .equals(config.getString(GIT_CONFIG_CORE, null, GIT_CONFIG_HOOKS_PATH))
-            ) {
+            boolean pathSet = !GitRepositoryParam.HOOKS_DIR_NAME.get()
+                .asString()
+                .equals(config.getString(GIT_CONFIG_CORE, null, GIT_CONFIG_HOOKS_PATH));
+            boolean editorSet = editor && !GitRepositoryParam.CORE_EDITOR_CAT.get()
+                .asString()
+                .equals(config.getString(GIT_CONFIG_CORE, null, "editor"));
+            if (!pathSet && !editorSet) {
+                return;
+            }
+
+            if (pathSet) {
                 config.setString(
                     GIT_CONFIG_CORE,
                     null,
                     GIT_CONFIG_HOOKS_PATH,
                     GitRepositoryParam.HOOKS_DIR_NAME.get().asString()
                 );
-
+            }
+            if (editorSet) {
                 config.setString(
                     GIT_CONFIG_CORE,
                     null,
                     "editor",
                     GitRepositoryParam.CORE_EDITOR_CAT.get().asString()
                 );
+            }
 
-                config.save();
+            config.save();
+            if (pathSet) {
                 this.messageService.info(
                     "git.hooks.path_set",
                     GitRepositoryParam.HOOKS_DIR_NAME.get().asString()
                 );
+            }
+            if (editorSet) {
                 this.messageService.info(
                     "git.hooks.editor_set",
                     GitRepositoryParam.CORE_EDITOR_CAT.get().asString()
@@ -198,13 +264,46 @@ public final class GitHookService {
      * This method performs the following actions:
      * <ul>
      *   <li>Deletes the prepare-commit-msg hook file if it exists</li>
-     *   <li>Removes the custom hooks path and editor configuration from the local Git config</li>
+     *   <li>Removes the custom hooks path and editor configuration from the local Git config, keeping the
+     *   hooks path while the pre-push hook is installed</li>
      * </ul>
      *
      * @throws GitWitException if an error occurs during hook removal or configuration modification.
      */
     public void uninstallCommitWizardHook() {
-        Path hookFile = this.getGitHooks().resolve(GitRepositoryParam.PREPARE_COMMIT_MSG.get().asString());
+        this.uninstallHook(GitRepositoryParam.PREPARE_COMMIT_MSG, GitRepositoryParam.PRE_PUSH);
+    }
+
+    /**
+     * Uninstalls the GitWit pre-push lint hook from the local Git repository.
+     * <p>
+     * This method performs the following actions:
+     * <ul>
+     *   <li>Deletes the pre-push hook file if it exists</li>
+     *   <li>Removes the custom hooks path and editor configuration from the local Git config, unless the
+     *   Commit Wizard hook is installed</li>
+     * </ul>
+     *
+     * @throws GitWitException if an error occurs during hook removal or configuration modification.
+     */
+    public void uninstallPrePushHook() {
+        this.uninstallHook(GitRepositoryParam.PRE_PUSH, GitRepositoryParam.PREPARE_COMMIT_MSG);
+    }
+
+    /**
+     * Deletes a GitWit hook and clears the Git configuration of the hooks once no GitWit hook is left.
+     * <p>
+     * The editor is only needed by the Commit Wizard, so it is cleared with the Commit Wizard hook even if the
+     * pre-push hook remains.
+     * </p>
+     *
+     * @param hook  the hook to remove.
+     * @param other the other GitWit hook, which keeps the hooks path configured while installed.
+     * @throws GitWitException if an error occurs during hook removal or configuration modification.
+     */
+    private void uninstallHook(GitRepositoryParam hook, GitRepositoryParam other) {
+        Path hooksDir = this.getGitHooks();
+        Path hookFile = hooksDir.resolve(hook.get().asString());
         try {
             if (Files.exists(hookFile)) {
                 Files.delete(hookFile);
@@ -217,13 +316,17 @@ public final class GitHookService {
             config.load();
             String configuredHooksPath = config.getString(GIT_CONFIG_CORE, null, GIT_CONFIG_HOOKS_PATH);
 
-            if (GitRepositoryParam.HOOKS_DIR_NAME.get().asString().equals(configuredHooksPath)) {
+            if (!GitRepositoryParam.HOOKS_DIR_NAME.get().asString().equals(configuredHooksPath)) {
+                this.messageService.info("git.hooks.not_configured");
+            } else if (!Files.exists(hooksDir.resolve(other.get().asString()))) {
                 config.unset(GIT_CONFIG_CORE, null, GIT_CONFIG_HOOKS_PATH);
                 config.unset(GIT_CONFIG_CORE, null, "editor");
                 config.save();
                 this.messageService.info("git.hooks.config_cleared");
-            } else {
-                this.messageService.info("git.hooks.not_configured");
+            } else if (hook == GitRepositoryParam.PREPARE_COMMIT_MSG) {
+                config.unset(GIT_CONFIG_CORE, null, "editor");
+                config.save();
+                this.messageService.info("git.hooks.editor_cleared");
             }
         } catch (IOException e) {
             throw new GitWitException("git.error.init_failed", e);
@@ -0,0 +1,129 @@
+package dev.rafandoo.gitwit.service.git;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.MessageService;
+import lombok.AllArgsConstructor;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraphWriter;
+import org.eclipse.jgit.internal.storage.commitgraph.GraphCommits;
+import org.eclipse.jgit.internal.storage.file.LockFile;
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Service responsible for maintaining the auxiliary indexes of the repository that speed up history walks.
+ * <p>
+ * JGit has no public API to write a commit-graph, so this service relies on internal JGit classes:
+ * {@link CommitGraphWriter} and {@link GraphCommits} to compute and serialize the graph, {@link LockFile}
+ * to replace it the way Git does and {@link ObjectDirectory} to locate it. These classes are not covered
+ * by the compatibility guarantees of JGit and must be checked whenever JGit is upgraded.
+ * </p>
+ */
+@Singleton
+@AllArgsConstructor(onConstructor_ = @__({@Inject}))
+public final class GitIndexService {
+
+    private final GitService gitService;
+    private final MessageService messageService;
+
+    /**
+     * Writes the commit-graph file of the repository, replacing the existing one, if any.
+     * <p>
+     * The graph covers every commit reachable from the refs of the repository and includes the
+     * changed-path Bloom filters of the commits. It is written to <code>objects/info/commit-graph</code>,
+     * under the same lock file Git uses, so it is compatible with the Git CLI.
+     * </p>
+     *
+     * @return the number of commits written to the graph.
+     * @throws GitWitException if the graph cannot be written.
+     */
+    public int writeCommitGraph() {
+        GitSession session = this.gitService.session();
+        Repository repository = session.repository();
+        File graphFile = this.graphFile(repository);
+
+        try (RevWalk walk = session.newWalk()) {
+            walk.setRetainBody(false);
+            GraphCommits commits = GraphCommits.fromWalk(NullProgressMonitor.INSTANCE, this.tips(repository, walk), walk);
+
+            LockFile lock = new LockFile(graphFile);
+            if (!lock.lock()) {
+                throw new GitWitException("git.index.error.locked", graphFile.toString());
+            }
+            try {
+                try (OutputStream out = lock.getOutputStream()) {
+                    CommitGraphWriter.Stats stats = new CommitGraphWriter(commits, true)
+                        .write(NullProgressMonitor.INSTANCE, out);
+                    this.messageService.debug(
+                        "git.index.bloom_filters",
+                        stats.getChangedPathFiltersComputed(),
+                        stats.getChangedPathFiltersReused()
+                    );
+                }
+                if (!lock.commit()) {
+                    throw new GitWitException("git.index.error.write", graphFile.toString());
+                }
+            } finally {
+                lock.unlock();
+            }
+            this.messageService.debug("git.index.written", graphFile);
+            int count = 0;
+            for (RevCommit ignored : commits) {
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new GitWitException("git.index.error.write", e, graphFile.toString());
+        }
+    }
+
+    /**
+     * Returns the commit-graph file of the repository, which may not exist yet.
+     *
+     * @param repository the repository.
+     * @return the <code>objects/info/commit-graph</code> file.
+     */
+    private File graphFile(Repository repository) {
+        File objects = repository.getObjectDatabase() instanceof ObjectDirectory directory
+            ? directory.getDirectory()
+            : new File(repository.getDirectory(), Constants.OBJECTS);
+        return new File(objects, Constants.INFO_COMMIT_GRAPH);
+    }
+
+    /**
+     * Collects the commits the refs of the repository point to, peeling annotated tags.
+     * Refs pointing to other objects, such as trees or blobs, are skipped.
+     *
+     * @param repository the repository.
+     * @param walk       the walk used to peel the refs.
+     * @return the ids of the tip commits.
+     * @throws IOException if the refs cannot be read.
+     */
+    private Set<ObjectId> tips(Repository repository, RevWalk walk) throws IOException {
+        Set<ObjectId> tips = new HashSet<>();
+        for (Ref ref : repository.getRefDatabase().getRefs()) {
+            if (ref.getObjectId() == null) {
+                continue;
+            }
+            RevObject object = walk.peel(walk.parseAny(ref.getObjectId()));
+            if (object instanceof RevCommit commit) {
+                tips.add(commit.copy());
+            }
+        }
+        return tips;
+    }
+}
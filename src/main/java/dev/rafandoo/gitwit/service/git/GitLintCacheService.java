@@ -0,0 +1,259 @@
+package dev.rafandoo.gitwit.service.git;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.rafandoo.gitwit.service.MessageService;
+import lombok.AllArgsConstructor;
+import org.eclipse.jgit.internal.storage.file.LockFile;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.util.FileUtils;
+import org.eclipse.jgit.util.IO;
+import org.eclipse.jgit.util.NB;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service responsible for the lint verdict cache of the repository, which records the commits known to pass
+ * the lint rules so they are not parsed and validated again.
+ * <p>
+ * Commits are immutable, so a commit that passed a rule set always passes it. The cache is written to
+ * <code>gitwit/lint-verdicts</code> in the Git directory and holds a header with the fingerprint of the
+ * rule set, see {@link dev.rafandoo.gitwit.service.LintRuleSet#getFingerprint()}, followed by the sorted raw
+ * ids of the compacted commits and the raw ids appended since, in any order:
+ * </p>
+ * <pre>
+ * 'GWLV' | version (4) | fingerprint (20) | sorted count (4) | sorted ids (20 * count) | appended ids (20 * n)
+ * </pre>
+ * New verdicts are appended to the file under its lock file. Once the appended ids outnumber the sorted ones,
+ * or the rules change, the file is rewritten sorted. The cache is best effort: a missing, corrupt or locked file
+ * only makes lint check every commit again.
+ */
+@Singleton
+@AllArgsConstructor(onConstructor_ = @__({@Inject}))
+public final class GitLintCacheService {
+
+    /**
+     * Path of the cache file, relative to the Git directory.
+     */
+    static final String CACHE_FILE = "gitwit/lint-verdicts";
+
+    private static final byte[] MAGIC = {'G', 'W', 'L', 'V'};
+    private static final int VERSION = 1;
+    private static final int HEADER_LENGTH = MAGIC.length + 4 + Constants.OBJECT_ID_LENGTH + 4;
+
+    /**
+     * Number of appended ids always tolerated before compacting, however few ids are sorted.
+     */
+    private static final int MIN_APPENDED = 4096;
+
+    private final GitService gitService;
+    private final MessageService messageService;
+
+    /**
+     * Loads the commits known to pass a rule set.
+     *
+     * @param fingerprint the fingerprint of the rule set.
+     * @return the verdicts, empty if there is no cache or it was written for other rules.
+     */
+    public LintVerdicts load(ObjectId fingerprint) {
+        LintVerdicts verdicts = this.read(this.cacheFile(), fingerprint);
+        this.messageService.debug("git.lint_cache.loaded", verdicts.size());
+        return verdicts;
+    }
+
+    /**
+     * Records commits that passed the rules of the given verdicts, appending them to the cache or
+     * compacting it. Failures are reported in debug mode and otherwise ignored.
+     * <p>
+     * The cache file is locked before its header is checked, so ids are only appended to a file written
+     * for the same rules, even if another run compacted it for other rules since the verdicts were loaded.
+     * A run may record its commits in several batches.
+     * </p>
+     *
+     * @param verdicts the verdicts loaded before the lint.
+     * @param passed   the ids of the commits that passed, none of them known before.
+     */
+    public void record(LintVerdicts verdicts, List<ObjectId> passed) {
+        if (passed.isEmpty() || verdicts.fingerprint() == null) {
+            return;
+        }
+
+        File file = this.cacheFile();
+        try {
+            FileUtils.mkdirs(file.getParentFile(), true);
+            LockFile lock = new LockFile(file);
+            if (!lock.lock()) {
+                this.messageService.debug("git.lint_cache.error.locked", file);
+                return;
+            }
+            try {
+                if (this.appendable(file, verdicts.fingerprint(), passed.size())) {
+                    this.append(file, passed);
+                } else {
+                    this.compact(file, lock, this.read(file, verdicts.fingerprint()), passed);
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            this.messageService.debug("git.lint_cache.error.write", file);
+        }
+    }
+
+    /**
+     * Reads the commits known to pass a rule set from the cache file.
+     *
+     * @param file        the cache file.
+     * @param fingerprint the fingerprint of the rule set.
+     * @return the verdicts, empty if the file is missing, corrupt or written for other rules.
+     */
+    private LintVerdicts read(File file, ObjectId fingerprint) {
+        byte[] data;
+        try {
+            data = IO.readFully(file);
+        } catch (FileNotFoundException e) {
+            return LintVerdicts.empty(fingerprint);
+        } catch (IOException e) {
+            this.messageService.debug("git.lint_cache.error.read", file);
+            return LintVerdicts.empty(fingerprint);
+        }
+
+        if (data.length < HEADER_LENGTH || !validHeader(data)) {
+            this.messageService.debug("git.lint_cache.error.read", file);
+            return LintVerdicts.empty(fingerprint);
+        }
+        if (!fingerprint.equals(ObjectId.fromRaw(data, MAGIC.length + 4))) {
+            this.messageService.debug("git.lint_cache.stale");
+            return LintVerdicts.empty(fingerprint);
+        }
+
+        int count = NB.decodeInt32(data, HEADER_LENGTH - 4);
+        long end = HEADER_LENGTH + (long) count * Constants.OBJECT_ID_LENGTH;
+        if (count < 0 || end > data.length) {
+            this.messageService.debug("git.lint_cache.error.read", file);
+            return LintVerdicts.empty(fingerprint);
+        }
+        Set<ObjectId> appended = new HashSet<>();
+        for (int p = (int) end; p + Constants.OBJECT_ID_LENGTH <= data.length; p += Constants.OBJECT_ID_LENGTH) {
+            appended.add(ObjectId.fromRaw(data, p));
+        }
+        return new LintVerdicts(fingerprint, data, HEADER_LENGTH, count, appended);
+    }
+
+    /**
+     * Checks, from its header and length only, whether ids can be appended to the cache file.
+     *
+     * @param file        the cache file, locked by the caller.
+     * @param fingerprint the fingerprint of the rule set of the ids.
+     * @param adding      the number of ids to append.
+     * @return {@code true} if the file is intact, written for the same rules and the appended ids would not
+     * outnumber the sorted ones.
+     * @throws IOException if the file cannot be read.
+     */
+    private boolean appendable(File file, ObjectId fingerprint, int adding) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        long length;
+        try (FileInputStream in = new FileInputStream(file)) {
+            length = in.getChannel().size();
+            if (length < HEADER_LENGTH) {
+                return false;
+            }
+            IO.readFully(in, header, 0, HEADER_LENGTH);
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+        if (!validHeader(header) || !fingerprint.equals(ObjectId.fromRaw(header, MAGIC.length + 4))) {
+            return false;
+        }
+
+        long sorted = NB.decodeInt32(header, HEADER_LENGTH - 4);
+        long appendedLength = length - HEADER_LENGTH - sorted * Constants.OBJECT_ID_LENGTH;
+        return sorted >= 0
+            && appendedLength >= 0
+            && appendedLength % Constants.OBJECT_ID_LENGTH == 0
+            && appendedLength / Constants.OBJECT_ID_LENGTH + adding <= Math.max(MIN_APPENDED, sorted);
+    }
+
+    private static boolean validHeader(byte[] header) {
+        return Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)
+            && NB.decodeInt32(header, MAGIC.length) == VERSION;
+    }
+
+    /**
+     * Returns the cache file of the repository, which may not exist yet.
+     *
+     * @return the cache file.
+     */
+    private File cacheFile() {
+        return new File(this.gitService.session().repository().getDirectory(), CACHE_FILE);
+    }
+
+    /**
+     * Appends ids to the cache file with a single write.
+     *
+     * @param file   the cache file.
+     * @param passed the ids to append.
+     * @throws IOException if the file cannot be written.
+     */
+    private void append(File file, List<ObjectId> passed) throws IOException {
+        byte[] buffer = new byte[passed.size() * Constants.OBJECT_ID_LENGTH];
+        for (int i = 0; i < passed.size(); i++) {
+            passed.get(i).copyRawTo(buffer, i * Constants.OBJECT_ID_LENGTH);
+        }
+        try (OutputStream out = new FileOutputStream(file, true)) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Rewrites the cache file with every known id sorted and without duplicates.
+     *
+     * @param file     the cache file.
+     * @param lock     the lock of the cache file, held by the caller.
+     * @param verdicts the verdicts read from the cache file under the lock.
+     * @param passed   the ids to add.
+     * @throws IOException if the file cannot be written.
+     */
+    private void compact(File file, LockFile lock, LintVerdicts verdicts, List<ObjectId> passed) throws IOException {
+        ObjectId[] ids = verdicts.toArray(passed.size());
+        int known = verdicts.size();
+        for (int i = 0; i < passed.size(); i++) {
+            ids[known + i] = passed.get(i);
+        }
+        Arrays.sort(ids);
+        int count = 0;
+        for (ObjectId id : ids) {
+            if (count == 0 || !ids[count - 1].equals(id)) {
+                ids[count++] = id;
+            }
+        }
+
+        try (OutputStream out = new BufferedOutputStream(lock.getOutputStream())) {
+            byte[] header = new byte[HEADER_LENGTH];
+            System.arraycopy(MAGIC, 0, header, 0, MAGIC.length);
+            NB.encodeInt32(header, MAGIC.length, VERSION);
+            verdicts.fingerprint().copyRawTo(header, MAGIC.length + 4);
+            NB.encodeInt32(header, HEADER_LENGTH - 4, count);
+            out.write(header);
+            for (int i = 0; i < count; i++) {
+                ids[i].copyRawTo(out);
+            }
+        }
+        if (!lock.commit()) {
+            this.messageService.debug("git.lint_cache.error.write", file);
+            return;
+        }
+        this.messageService.debug("git.lint_cache.compacted", count);
+    }
+}
@@ -5,33 +5,41 @@ import com.google.inject.Singleton;
 import dev.rafandoo.cup.utils.StringUtils;
 import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.service.MessageService;
-import dev.rafandoo.gitwit.util.EmojiUtil;
 import lombok.AllArgsConstructor;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
 import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.errors.RevisionSyntaxException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Config;
+import org.eclipse.jgit.lib.ConfigConstants;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdOwnerMap;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.AsyncRevObjectQueue;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevFlag;
 import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.revwalk.RevSort;
 import org.eclipse.jgit.revwalk.RevTag;
 import org.eclipse.jgit.revwalk.RevWalk;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Service for interacting with the Git repository using JGit.
  * <p>
  * Provides methods to list commits between references, resolve
  * rev-specs to commits, and handle commit filtering based on message patterns.
+ * <p>
+ * Walks do not retain commit bodies while traversing, so parents and commit times are taken from the
+ * commit-graph when the repository has one; bodies are only read for the commits that are returned.
  */
 @Singleton
 @AllArgsConstructor(onConstructor_ = @__({@Inject}))
@@ -41,95 +49,92 @@ public final class GitRepositoryService {
     private final MessageService messageService;
 
     private static final Pattern DESCRIBE_SUFFIX = Pattern.compile("-(\\d+)-g[0-9a-f]+$");
+    private static final String TAGS = GitRepositoryService.class.getName() + ".tags";
 
     /**
-     * Executes a function with an opened Git repository.
+     * Executes a function with the repository session of the current invocation and a new walk
+     * sharing its object reader.
      *
-     * @param fn  the function to execute, which takes a {@link Git} instance, a {@link Repository}, and a {@link RevWalk} as input and returns a result of type T.
+     * @param fn  the function to execute, which takes a {@link GitSession} and a {@link RevWalk} as input and returns a result of type T.
      * @param <T> the type of the result returned by the function.
      * @return the result of executing the provided function.
      */
     private <T> T withRepo(RepoFunction<T> fn) {
-        return this.gitService.withGit(git -> {
-            try (
-                Repository repo = git.getRepository();
-                RevWalk walk = new RevWalk(repo)
-            ) {
-                return fn.apply(git, repo, walk);
-            }
-        });
+        GitSession session = this.gitService.session();
+        try (RevWalk walk = session.newWalk()) {
+            return fn.apply(session, walk);
+        }
     }
 
     /**
-     * Returns the list of commits between two references.
+     * Streams the commits between two references, lazily, as the walk advances.
      *
-     * @param from any rev‑spec accepted by Git (tag, branch, hash).
-     * @param to   any rev‑spec accepted by Git (tag, branch, hash).
-     * @return list of {@link RevCommit}, inclusive from and to (if reachable).
+     * @param from      any rev‑spec accepted by Git (tag, branch, hash), excluded from the range.
+     * @param to        any rev‑spec accepted by Git (tag, branch, hash).
+     * @param ignored   the rules of ignored commits; the structural rule is installed on the walk as a filter.
+     * @return a {@link CommitStream} of the commits reachable from {@code to} but not from {@code from}.
+     * @throws GitWitException if there is an error resolving the references.
      */
-    private List<RevCommit> listCommitsBetween(String from, String to) {
-        return this.withRepo((git, repo, walk) -> {
-            try {
-                walk.setRetainBody(true);
-                List<RevCommit> commits = new ArrayList<>();
-
-                ObjectId fromId = this.resolveCommitId(repo, walk, from);
-                ObjectId toId = this.resolveCommitId(repo, walk, to);
-
-                RevCommit fromCommit = walk.parseCommit(fromId);
-                RevCommit toCommit = walk.parseCommit(toId);
-
-                walk.markStart(toCommit);
-                walk.markUninteresting(fromCommit);
-
-                for (RevCommit commit : walk) {
-                    commits.add(commit);
-                }
-
-                return commits;
-            } catch (MissingObjectException e) {
-                throw new GitWitException("git.repo.error.missing_object", e);
-            } catch (IOException e) {
-                throw new GitWitException("git.error.init_failed", e);
+    private CommitStream streamCommitsBetween(String from, String to, IgnoreRules ignored) {
+        GitSession session = this.gitService.session();
+        RevWalk walk = session.newWalk();
+        CommitStream stream = null;
+        try {
+            walk.setRetainBody(false);
+            walk.setRevFilter(ignored.toRevFilter());
+            walk.markStart(parseHeaders(walk, this.resolveCommitId(session, to)));
+            walk.markUninteresting(parseHeaders(walk, this.resolveCommitId(session, from)));
+            stream = CommitStream.of(walk, walk.iterator(), commit -> !ignored.ignoresMessage(commit));
+            return stream;
+        } catch (MissingObjectException e) {
+            throw new GitWitException("git.repo.error.missing_object", e);
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        } finally {
+            if (stream == null) {
+                walk.close();
             }
-        });
+        }
     }
 
     /**
-     * Resolves a rev-spec (branch, tag, commit hash) to a {@link RevCommit}.
+     * Streams the single commit a rev-spec (branch, tag, commit hash) resolves to.
      *
-     * @param revSpec the rev-spec to resolve.
-     * @return an {@link Optional} containing the resolved {@link RevCommit}, or empty if the rev-spec is null or blank.
+     * @param revSpec   the rev-spec to resolve.
+     * @param ignored the rules of ignored commits.
+     * @return a {@link CommitStream} of the resolved commit, unless it is ignored.
      * @throws GitWitException if there is an error resolving the rev-spec or parsing the commit.
      */
-    private Optional<RevCommit> resolveCommit(String revSpec) {
-        if (StringUtils.isNullOrBlank(revSpec)) {
-            return Optional.empty();
-        }
-
-        return this.gitService.withGit(git -> {
-            try (
-                RevWalk walk = new RevWalk(git.getRepository())
-            ) {
-                ObjectId id = resolveCommitId(git.getRepository(), walk, revSpec);
-                return Optional.ofNullable(walk.parseCommit(id));
-            } catch (MissingObjectException e) {
-                throw new GitWitException("git.repo.error.missing_object", e);
-            } catch (IOException e) {
-                throw new GitWitException("git.error.init_failed", e);
+    private CommitStream streamCommit(String revSpec, IgnoreRules ignored) {
+        GitSession session = this.gitService.session();
+        RevWalk walk = session.newWalk();
+        CommitStream stream = null;
+        try {
+            RevCommit commit = walk.parseCommit(this.resolveCommitId(session, revSpec));
+            List<RevCommit> commits = ignored.toRevFilter().include(walk, commit) ? List.of(commit) : List.of();
+            stream = CommitStream.of(walk, commits.iterator(), c -> !ignored.ignoresMessage(c));
+            return stream;
+        } catch (MissingObjectException e) {
+            throw new GitWitException("git.repo.error.missing_object", e);
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        } finally {
+            if (stream == null) {
+                walk.close();
             }
-        });
+        }
     }
 
     /**
-     * Resolves a rev-spec to a list of commits. If the rev-spec contains a range (e.g., "HEAD~5..HEAD"), it returns all commits in that range.
-     * Otherwise, it resolves the rev-spec to a single commit.
+     * Streams the commits of a rev-spec. If the rev-spec contains a range (e.g., "HEAD~5..HEAD"), it streams all commits in that range.
+     * Otherwise, it streams the single commit the rev-spec resolves to.
      *
-     * @param revSpec the rev-spec to resolve.
-     * @return a list of {@link RevCommit} objects corresponding to the resolved rev-spec.
-     * @throws GitWitException if there is an error resolving the rev-spec or parsing the commits.
+     * @param revSpec   the rev-spec to resolve.
+     * @param ignored the rules of ignored commits.
+     * @return a {@link CommitStream} of the commits corresponding to the resolved rev-spec.
+     * @throws GitWitException if there is an error resolving the rev-spec.
      */
-    public List<RevCommit> resolveCommits(String revSpec) {
+    private CommitStream streamCommits(String revSpec, IgnoreRules ignored) {
         if (StringUtils.isNullOrBlank(revSpec)) {
             throw new GitWitException("git.repo.error.rev_not_found", revSpec);
         }
@@ -139,26 +144,31 @@ public final class GitRepositoryService {
             if (StringUtils.isNullOrBlank(parts[1])) {
                 parts[1] = Constants.HEAD;
             }
-            return this.listCommitsBetween(parts[0], parts[1]);
+            return this.streamCommitsBetween(parts[0], parts[1], ignored);
         } else {
-            return this.resolveCommit(revSpec).stream().collect(Collectors.toList());
+            return this.streamCommit(revSpec, ignored);
         }
     }
 
     /**
-     * Resolves the list of Git commits based on the provided revision specification or range.
+     * Streams the Git commits selected by the provided revision specification or range.
+     * <p>
+     * Commits are walked lazily and their bodies are disposed once consumed, see {@link CommitStream}.
+     * Merge commits are rejected by the walk itself and other ignored commits by the stream, see {@link IgnoreRules}.
+     * The returned stream must be closed.
+     * </p>
      *
-     * @param revSpec         the Git revision specification (e.g., commit hash, tag, branch).
-     * @param from            the starting point of the commit range (deprecated, use revSpec instead).
-     * @param to              the ending point of the commit range (deprecated, use revSpec instead).
-     * @param ignoredMessages a list of commit message patterns to ignore (optional).
-     * @return a list of resolved {@link RevCommit} objects.
+     * @param revSpec the Git revision specification (e.g., commit hash, tag, branch).
+     * @param from    the starting point of the commit range (deprecated, use revSpec instead).
+     * @param to      the ending point of the commit range (deprecated, use revSpec instead).
+     * @param ignored the compiled rules of the commits to ignore.
+     * @return a {@link CommitStream} of the selected commits that are not ignored.
+     * @throws GitWitException if there is an error resolving the rev-spec.
      */
-    public List<RevCommit> resolveCommits(String revSpec, String from, String to, List<String> ignoredMessages) {
-        List<RevCommit> commits;
+    public CommitStream streamCommits(String revSpec, String from, String to, IgnoreRules ignored) {
 
         if (!StringUtils.isNullOrBlank(revSpec)) {
-            commits = this.resolveCommits(revSpec);
+            return this.streamCommits(revSpec, ignored);
         } else if (!StringUtils.isNullOrBlank(from) || !StringUtils.isNullOrBlank(to)) {
             this.messageService.warn("warn.deprecated-range-options");
             String range = String.format(
@@ -166,130 +176,465 @@ public final class GitRepositoryService {
                 StringUtils.isNullOrBlank(from) ? Constants.HEAD : from,
                 StringUtils.isNullOrBlank(to) ? Constants.HEAD : to
             );
-            commits = this.resolveCommits(range);
+            return this.streamCommits(range, ignored);
         } else {
-            commits = this.resolveCommit(Constants.HEAD).stream().collect(Collectors.toList());
+            return this.streamCommit(Constants.HEAD, ignored);
         }
+    }
 
-        return this.filterIgnored(commits, ignoredMessages);
+    /**
+     * Streams the commits a push would send to a remote, in a single walk.
+     * <p>
+     * The walk starts from the pushed local commits and marks uninteresting every remote-tracking ref of
+     * the remote, <code>refs/remotes/&lt;remote&gt;/*</code>, and the previous remote ids known locally, so only
+     * the commits the remote is not known to have are returned. When pushing to a URL, the remote is the
+     * configured one with that URL; if there is none, every remote-tracking ref is marked uninteresting.
+     * Deleted refs and refs pointing to other objects than commits, e.g. tags of trees, are skipped.
+     * The returned stream must be closed.
+     * </p>
+     *
+     * @param remote  the name of the remote, or its URL when pushing to an unnamed remote.
+     * @param url     the URL of the remote, or {@code null} if unknown.
+     * @param updates the ref updates of the push.
+     * @param ignored the compiled rules of the commits to ignore.
+     * @return a {@link CommitStream} of the pushed commits that are not ignored.
+     * @throws GitWitException if there is an error reading the refs or walking the history.
+     */
+    public CommitStream streamPushedCommits(String remote, String url, List<PushUpdate> updates, IgnoreRules ignored) {
+        GitSession session = this.gitService.session();
+        RevWalk walk = session.newWalk();
+        CommitStream stream = null;
+        try {
+            walk.setRetainBody(false);
+            walk.setRevFilter(ignored.toRevFilter());
+            for (PushUpdate update : updates) {
+                if (update.isDelete()) {
+                    continue;
+                }
+                if (walk.peel(walk.parseAny(update.localId())) instanceof RevCommit commit) {
+                    walk.markStart(commit);
+                }
+                if (!ObjectId.zeroId().equals(update.remoteId()) && walk.getObjectReader().has(update.remoteId())) {
+                    markUninteresting(walk, update.remoteId());
+                }
+            }
+
+            String prefix = remoteRefPrefix(session.repository().getConfig(), remote, url);
+            for (Ref ref : session.repository().getRefDatabase().getRefsByPrefix(prefix)) {
+                if (ref.getObjectId() != null) {
+                    markUninteresting(walk, ref.getObjectId());
+                }
+            }
+            stream = CommitStream.of(walk, walk.iterator(), commit -> !ignored.ignoresMessage(commit));
+            return stream;
+        } catch (MissingObjectException e) {
+            throw new GitWitException("git.repo.error.missing_object", e);
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        } finally {
+            if (stream == null) {
+                walk.close();
+            }
+        }
     }
 
     /**
-     * Filters out commits whose messages match any of the provided ignored message patterns.
+     * Resolves the prefix of the remote-tracking refs of a push destination.
      *
-     * @param commits         the list of commits to filter.
-     * @param ignoredMessages a list of commit message patterns to ignore. Each pattern is treated as a regular expression.
-     * @return a list of commits whose messages do not match any of the ignored patterns.
+     * @param config the repository configuration.
+     * @param remote the name of the remote, or its URL when pushing to an unnamed remote.
+     * @param url    the URL of the remote, or {@code null} if unknown.
+     * @return <code>refs/remotes/&lt;name&gt;/</code> of the configured remote, or <code>refs/remotes/</code>
+     * if no configured remote matches.
      */
-    private List<RevCommit> filterIgnored(List<RevCommit> commits, List<String> ignoredMessages) {
-        if (ignoredMessages == null || ignoredMessages.isEmpty()) {
-            return commits;
+    private static String remoteRefPrefix(Config config, String remote, String url) {
+        if (config.getSubsections(ConfigConstants.CONFIG_REMOTE_SECTION).contains(remote)) {
+            return Constants.R_REMOTES + remote + "/";
         }
+        for (String name : config.getSubsections(ConfigConstants.CONFIG_REMOTE_SECTION)) {
+            for (String key : List.of(ConfigConstants.CONFIG_KEY_URL, "pushurl")) {
+                List<String> urls = List.of(config.getStringList(ConfigConstants.CONFIG_REMOTE_SECTION, name, key));
+                if (urls.contains(remote) || url != null && urls.contains(url)) {
+                    return Constants.R_REMOTES + name + "/";
+                }
+            }
+        }
+        return Constants.R_REMOTES;
+    }
 
-        String joined = ignoredMessages.stream()
-            .map(EmojiUtil::replaceEmojiWithAlias)
-            .collect(Collectors.joining("|"));
+    /**
+     * Marks the commit an object peels to as uninteresting, skipping objects that are not commits.
+     *
+     * @param walk the walk.
+     * @param id   the id of the object.
+     * @throws IOException if the object cannot be read.
+     */
+    private static void markUninteresting(RevWalk walk, AnyObjectId id) throws IOException {
+        if (walk.peel(walk.parseAny(id)) instanceof RevCommit commit) {
+            walk.markUninteresting(commit);
+        }
+    }
 
-        Pattern ignoredPattern = Pattern.compile(joined);
+    /**
+     * Resolves a <code>from..to</code> rev-spec to the ids of its commits.
+     *
+     * @param revSpec the rev-spec to resolve.
+     * @return the resolved range, or {@code null} if the rev-spec is not a range.
+     * @throws GitWitException if either side of the range cannot be resolved to a commit.
+     */
+    public CommitRange resolveRange(String revSpec) {
+        if (StringUtils.isNullOrBlank(revSpec) || !revSpec.contains("..")) {
+            return null;
+        }
 
-        return commits.stream()
-            .filter(commit ->
-                !ignoredPattern.matcher(EmojiUtil.replaceEmojiWithAlias(commit.getFullMessage()))
-                    .find())
-            .collect(Collectors.toList());
+        String[] parts = revSpec.split("\\.\\.", 2);
+        String to = StringUtils.isNullOrBlank(parts[1]) ? Constants.HEAD : parts[1];
+        return this.withRepo((session, walk) -> {
+            try {
+                return new CommitRange(
+                    this.resolveCommitId(session, parts[0]).copy(),
+                    this.resolveCommitId(session, to).copy()
+                );
+            } catch (IOException e) {
+                throw new GitWitException("git.error.init_failed", e);
+            }
+        });
+    }
+
+    /**
+     * Resolves a rev-spec to the id of its commit, if there is one.
+     *
+     * @param revSpec the rev-spec to resolve, e.g. a tag or a commit hash.
+     * @return the id of the commit, or {@code null} if the rev-spec does not resolve to a commit.
+     * @throws GitWitException if there is an error reading the repository.
+     */
+    public ObjectId findCommit(String revSpec) {
+        return this.withRepo((session, walk) -> {
+            try {
+                return this.resolveCommitId(session, revSpec).copy();
+            } catch (GitWitException | RevisionSyntaxException e) {
+                return null;
+            } catch (IOException e) {
+                throw new GitWitException("git.error.init_failed", e);
+            }
+        });
     }
 
     /**
-     * Retrieves the latest Git tag in the repository.
+     * Lists the release tags of the repository, peeled to their commits, oldest first.
      *
-     * @return the name of the latest tag in the repository, or {@code null} if no tags are found.
+     * @return the release tags in release order, oldest first, see {@link TagIndex}.
      * @throws GitWitException if there is an error retrieving the tags or parsing the associated commits.
      */
+    public List<ReleaseTag> listReleases() {
+        return this.tagIndex().releases();
+    }
+
+    /**
+     * Walks the history of the given releases once, assigning each commit to the oldest release that contains it.
+     * <p>
+     * Release {@code i} is the {@code i}-th element of {@code releases}, which must be sorted oldest first.
+     * The walk runs in topological order, so every child is visited before its parents and the release
+     * of a commit is final when it is visited: the oldest release among its own tag, if any, and the
+     * releases of its children. The topology is parsed without commit bodies, from the commit-graph when
+     * available; bodies are only read for the commits of included releases and released as soon as the
+     * consumer returns.
+     * </p>
+     * Releases older than the oldest included release are marked uninteresting, so their history is not walked.
+     *
+     * @param releases the release tags, oldest first, as returned by {@link #listReleases()}.
+     * @param included tells which releases need their commits; commits of other releases are skipped.
+     * @param ignored  the compiled rules of the commits to ignore.
+     * @param consumer receives every commit of an included release that is not ignored, with the index
+     *                 of its release, in walk order.
+     * @throws GitWitException if there is an error walking the history.
+     */
+    public void walkReleases(
+        List<ReleaseTag> releases,
+        IntPredicate included,
+        IgnoreRules ignored,
+        ObjIntConsumer<RevCommit> consumer
+    ) {
+        int first = 0;
+        while (first < releases.size() && !included.test(first)) {
+            first++;
+        }
+        if (first == releases.size()) {
+            return;
+        }
+
+        GitSession session = this.gitService.session();
+        ObjectIdOwnerMap<ReleaseMark> marks = new ObjectIdOwnerMap<>();
+        try (RevWalk walk = session.newWalk()) {
+            walk.setRetainBody(false);
+            for (int i = 0; i < releases.size(); i++) {
+                RevCommit commit = parseHeaders(walk, releases.get(i).commitId());
+                if (i < first) {
+                    walk.markUninteresting(commit);
+                } else {
+                    markRelease(marks, commit, i);
+                    walk.markStart(commit);
+                }
+            }
+
+            walk.sort(RevSort.TOPO);
+            walk.sort(RevSort.COMMIT_TIME_DESC, true);
+            for (RevCommit commit : walk) {
+                int release = marks.get(commit).release;
+                for (RevCommit parent : commit.getParents()) {
+                    markRelease(marks, parent, release);
+                }
+                if (included.test(release)) {
+                    walk.parseBody(commit);
+                    if (!ignored.ignores(commit)) {
+                        consumer.accept(commit, release);
+                    }
+                    commit.disposeBody();
+                }
+            }
+        } catch (MissingObjectException e) {
+            throw new GitWitException("git.repo.error.missing_object", e);
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        }
+    }
+
+    /**
+     * Retrieves the latest Git tag reachable from <code>HEAD</code>, <code>HEAD</code> included.
+     * When the nearest tagged commit has several tags, the latest by SemVer precedence is returned.
+     *
+     * @return the name of the latest reachable tag, or {@code null} if no tag is reachable or there are no commits.
+     * @throws GitWitException if there is an error retrieving the tags or walking the history.
+     */
     public String getLatestTag() {
-        return this.withRepo(((git, repo, walk) -> this.listTagCommits(git, walk).stream()
-            .findFirst()
-            .map(TagCommit::name)
-            .orElse(null)));
+        TagIndex index = this.tagIndex();
+        if (index.releases().isEmpty()) {
+            return null;
+        }
+
+        GitSession session = this.gitService.session();
+        try {
+            ObjectId head = session.resolve(Constants.HEAD);
+            if (head == null) {
+                return null;
+            }
+            ReleaseTag latest = this.nearestTag(session, index, head, true);
+            return latest == null ? null : latest.name();
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        }
     }
 
     /**
-     * Retrieves the previous Git tag that is reachable from the specified reference.
+     * Retrieves the Git tag preceding the specified reference in its history.
+     * <p>
+     * The latest tag of the nearest tagged strict ancestor is returned, so the previous tag can always serve
+     * as the lower bound of a range: tags on the same commit, e.g. the release candidate a release was
+     * promoted from, are skipped. On a maintenance branch, the previous tag of <code>v2.3.1</code> is thus
+     * <code>v2.3.0</code>, even if a newer <code>v3.0.0</code> was tagged on the main branch in between.
+     * </p>
      *
      * @param from the rev-spec (e.g., commit hash, tag, branch) to start from when searching for the previous tag.
-     * @return the name of the previous tag reachable from the specified reference, or {@code null} if no such tag exists.
-     * @throws GitWitException if there is an error resolving the reference or retrieving the tags.
+     * @return the name of the previous tag, or {@code null} if no such tag exists.
+     * @throws GitWitException if there is an error resolving the reference or walking the history.
      */
     public String getPreviousTag(String from) {
-        return this.withRepo(((git, repo, walk) -> {
+        TagIndex index = this.tagIndex();
+        GitSession session = this.gitService.session();
+        try {
+            ReleaseTag tag = index.get(from);
+            ObjectId start = tag != null ? tag.commitId() : this.resolveCommitId(session, from);
+            ReleaseTag previous = this.nearestTag(session, index, start, false);
+            return previous == null ? null : previous.name();
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        }
+    }
+
+    /**
+     * Finds the nearest tagged commit in the history of a commit and returns its latest tag.
+     * <p>
+     * Tagged commits are flagged on a walk that does not retain bodies, so topology is read from the
+     * commit-graph when available. The walk streams commits newest first, children before their parents,
+     * and stops at the first flagged commit: its cost is bounded by the distance to that commit rather
+     * than by the number of tags or the length of the history.
+     * </p>
+     *
+     * @param session      the repository session.
+     * @param index        the tag index.
+     * @param start        the id of the commit to start from.
+     * @param includeStart whether the start commit itself may be the tagged commit.
+     * @return the latest tag of the nearest tagged commit, or {@code null} if no tagged commit is reachable.
+     * @throws IOException if the history cannot be walked.
+     */
+    private ReleaseTag nearestTag(GitSession session, TagIndex index, ObjectId start, boolean includeStart)
+        throws IOException {
+        try (RevWalk walk = session.newWalk()) {
+            walk.setRetainBody(false);
+            RevFlag tagged = walk.newFlag("tagged");
+            for (ObjectId commitId : index.commits()) {
+                walk.lookupCommit(commitId).add(tagged);
+            }
+
+            RevCommit commit = parseHeaders(walk, start);
+            if (includeStart) {
+                walk.markStart(commit);
+            } else {
+                walk.markStart(List.of(commit.getParents()));
+            }
+
+            for (RevCommit next = walk.next(); next != null; next = walk.next()) {
+                if (next.has(tagged)) {
+                    return index.latestOn(next);
+                }
+            }
+            return null;
+        } catch (MissingObjectException e) {
+            throw new GitWitException("git.repo.error.missing_object", e);
+        }
+    }
+
+    /**
+     * Returns the tag index of the repository, building it on first use in the session.
+     *
+     * @return the memoized tag index.
+     * @throws GitWitException if there is an error retrieving the tags or parsing the associated commits.
+     */
+    private TagIndex tagIndex() {
+        GitSession session = this.gitService.session();
+        return session.memoize(TAGS, () -> {
             try {
-                ObjectId fromId = this.resolveCommitId(repo, walk, from);
-                int fromCommitTime = walk.parseCommit(fromId).getCommitTime();
-
-                return this.listTagCommits(git, walk).stream()
-                    .filter(tag -> tag.commitTime() < fromCommitTime)
-                    .findFirst()
-                    .map(TagCommit::name)
-                    .orElse(null);
+                return this.loadTagIndex(session);
             } catch (IOException e) {
                 throw new GitWitException("git.error.init_failed", e);
             }
-        }));
+        });
     }
 
     /**
-     * Retrieves a list of Git tags in the repository, along with their associated
-     * commit times, sorted by commit time in descending order.
+     * Builds the tag index, peeling every tag to its commit in a single batch.
+     * <p>
+     * Tags already peeled by the ref database, e.g. packed tags, are not read at all. The objects of the
+     * other tags are parsed together in one asynchronous batch, then dereferenced to their commits. Commits
+     * are parsed from the commit-graph when available, only to learn their commit times.
+     * </p>
      *
-     * @param git  the Git instance to use for repository operations.
-     * @param walk the RevWalk instance for parsing commits and tags.
-     * @return a list of TagCommit records containing the normalized tag names and their commit times, sorted by commit time (newest first).
-     * @throws GitWitException if there is an error retrieving the tags or parsing the associated commits.
+     * @param session the repository session.
+     * @return the tag index.
+     * @throws GitWitException if a tag does not point to a commit.
+     * @throws IOException     if the tags or their commits cannot be read.
      */
-    private List<TagCommit> listTagCommits(Git git, RevWalk walk) {
-        try {
-            return git.tagList()
-                .call()
-                .stream()
-                .map(ref -> resolveTag(ref, walk))
-                .sorted(Comparator
-                    .comparing(TagCommit::commitTime)
-                    .reversed()
-                )
-                .toList();
-        } catch (GitAPIException e) {
-            throw new GitWitException("git.error.api_exception", e);
+    private TagIndex loadTagIndex(GitSession session) throws IOException {
+        List<Ref> refs = session.repository().getRefDatabase().getRefsByPrefix(Constants.R_TAGS);
+        if (refs.isEmpty()) {
+            return TagIndex.EMPTY;
         }
+
+        RevWalk walk = session.lookupWalk();
+        List<ObjectId> unpeeled = new ArrayList<>();
+        for (Ref ref : refs) {
+            if (!ref.isPeeled() && ref.getObjectId() != null) {
+                unpeeled.add(ref.getObjectId());
+            }
+        }
+        if (!unpeeled.isEmpty()) {
+            AsyncRevObjectQueue queue = walk.parseAny(unpeeled, true);
+            try {
+                while (queue.next() != null) {
+                    // parsed objects are kept by the walk
+                }
+            } finally {
+                queue.release();
+            }
+        }
+
+        List<TagIndex.Entry> entries = new ArrayList<>(refs.size());
+        for (Ref ref : refs) {
+            if (ref.getObjectId() == null) {
+                continue;
+            }
+            ObjectId id;
+            if (ref.isPeeled()) {
+                id = ref.getPeeledObjectId() != null ? ref.getPeeledObjectId() : ref.getObjectId();
+            } else {
+                RevObject target = walk.peel(walk.lookupOrNull(ref.getObjectId()));
+                if (!(target instanceof RevCommit)) {
+                    throw new GitWitException("git.error.unsupported", String.valueOf(target.getType()));
+                }
+                id = target;
+            }
+            RevCommit commit = this.parseTaggedCommit(session, id);
+            String tagName = Repository.shortenRefName(ref.getName());
+            entries.add(TagIndex.Entry.of(this.normalizeTag(tagName), commit.copy(), commit.getCommitTime()));
+        }
+        return TagIndex.of(entries);
     }
 
     /**
-     * Resolves a Git tag reference to a {@link TagCommit} containing the tag
-     * name and its associated commit time.
+     * Parses the commit a tag points to, from the commit-graph when available.
      *
-     * @param ref  the Git reference representing the tag.
-     * @param walk the {@link RevWalk} instance for parsing objects.
-     * @return a {@link TagCommit} containing the normalized tag name and its commit time.
-     * @throws GitWitException if there is an error resolving the tag or parsing the associated commit.
+     * @param session the repository session.
+     * @param id      the id of the peeled tag target.
+     * @return the tagged commit.
+     * @throws GitWitException if the target is not a commit.
+     * @throws IOException     if the commit cannot be read.
      */
-    private TagCommit resolveTag(Ref ref, RevWalk walk) {
+    private RevCommit parseTaggedCommit(GitSession session, ObjectId id) throws IOException {
         try {
-            RevObject obj = walk.parseAny(ref.getObjectId());
-
-            RevCommit commit = switch (obj) {
-                case RevTag tag -> walk.parseCommit(tag.getObject());
-                case RevCommit c -> c;
-                default -> throw new GitWitException(
-                    "git.error.unsupported",
-                    String.valueOf(obj.getType())
-                );
-            };
+            return parseHeaders(session.lookupWalk(), id);
+        } catch (IncorrectObjectTypeException e) {
+            throw new GitWitException("git.error.unsupported", this.typeOf(session, id));
+        }
+    }
 
-            String tagName = Repository.shortenRefName(ref.getName());
-            return new TagCommit(this.normalizeTag(tagName), commit.getCommitTime());
+    /**
+     * Returns the type of an object, as reported in errors.
+     *
+     * @param session the repository session.
+     * @param id      the id of the object.
+     * @return the numeric object type.
+     */
+    private String typeOf(GitSession session, ObjectId id) {
+        try {
+            return String.valueOf(session.reader().open(id).getType());
         } catch (IOException e) {
             throw new GitWitException("git.error.init_failed", e);
         }
     }
 
+    /**
+     * Looks up a commit and parses its headers, from the commit-graph when it contains the commit,
+     * otherwise from the commit object. Unlike {@link RevWalk#parseCommit(AnyObjectId)}, the object
+     * is not read just to learn its type.
+     *
+     * @param walk the walk owning the commit.
+     * @param id   the id of the commit.
+     * @return the commit, with its parents and commit time parsed.
+     * @throws IncorrectObjectTypeException if the object is not a commit.
+     * @throws IOException                  if the commit cannot be read.
+     */
+    private static RevCommit parseHeaders(RevWalk walk, AnyObjectId id) throws IOException {
+        RevCommit commit = walk.lookupCommit(id);
+        walk.parseHeaders(commit);
+        return commit;
+    }
+
+    /**
+     * Records that a commit belongs to a release, keeping the oldest release known to contain it.
+     *
+     * @param marks   the release marks of the walked commits.
+     * @param commit  the commit.
+     * @param release the index of the release.
+     */
+    private static void markRelease(ObjectIdOwnerMap<ReleaseMark> marks, RevCommit commit, int release) {
+        ReleaseMark mark = marks.get(commit);
+        if (mark == null) {
+            mark = new ReleaseMark(commit);
+            marks.add(mark);
+        }
+        mark.release = Math.min(mark.release, release);
+    }
+
     /**
      * Normalizes a tag name by removing any describe suffix (e.g., "-1-gabcdef") that
      * may be present in tags created by "git describe".
@@ -305,26 +650,25 @@ public final class GitRepositoryService {
      * Resolves a rev-spec (branch, tag, commit hash) to a {@link ObjectId} of a commit.
      * Supports annotated tags by dereferencing them to the commit they point to.
      *
-     * @param repo    the Git repository.
-     * @param walk    the {@link RevWalk} instance for parsing commits.
+     * @param session the repository session, memoizing resolved rev-specs.
      * @param revSpec the rev-spec to resolve.
      * @return the resolved {@link ObjectId} of the commit.
      * @throws GitWitException if the rev-spec is null, blank, cannot be resolved, or does not point to a commit or tag.
      * @throws IOException     if there is an error resolving the rev-spec or parsing the commit.
      */
-    private ObjectId resolveCommitId(Repository repo, RevWalk walk, String revSpec) throws IOException {
+    private ObjectId resolveCommitId(GitSession session, String revSpec) throws IOException {
         if (StringUtils.isNullOrBlank(revSpec)) {
             throw new GitWitException("git.repo.error.invalid_object", revSpec);
         }
-        ObjectId id = repo.resolve(revSpec);
+        ObjectId id = session.resolve(revSpec);
         if (id == null) {
             throw new GitWitException("git.repo.error.rev_not_found", revSpec);
         }
-        RevObject obj = walk.parseAny(id);
+        RevObject obj = session.lookupWalk().parseAny(id);
 
         return switch (obj) {
-            case RevTag tag -> tag.getObject();
-            case RevCommit commit -> commit.getId();
+            case RevTag tag -> tag.getObject().copy();
+            case RevCommit commit -> commit.copy();
             default -> throw new GitWitException(
                 "git.error.unsupported",
                 String.valueOf(obj.getType())
@@ -333,7 +677,7 @@ public final class GitRepositoryService {
     }
 
     /**
-     * A functional interface representing a function that takes a Git instance, a Repository, and a RevWalk, and returns a result of type T.
+     * A functional interface representing a function that takes a repository session and a RevWalk, and returns a result of type T.
      *
      * @param <T> the type of the result produced by the function.
      */
@@ -341,22 +685,25 @@ public final class GitRepositoryService {
     private interface RepoFunction<T> {
 
         /**
-         * Applies this function to the given Git instance, Repository, and RevWalk.
+         * Applies this function to the given repository session and RevWalk.
          *
-         * @param git  the Git instance to use for repository operations.
-         * @param repo the Repository instance representing the Git repository.
-         * @param walk the RevWalk instance for parsing commits and tags.
+         * @param session the repository session of the current invocation.
+         * @param walk    the RevWalk instance for parsing and traversing commits.
          * @return the result of applying this function.
          */
-        T apply(Git git, Repository repo, RevWalk walk);
+        T apply(GitSession session, RevWalk walk);
     }
 
     /**
-     * A record representing a Git tag and its associated commit time.
-     *
-     * @param name       the name of the tag.
-     * @param commitTime the commit time of the tag, represented as a Unix timestamp (seconds since epoch).
+     * The index of the oldest release known to contain a commit.
+     * Kept apart from the commit so the walk can still create its commits from the commit-graph.
      */
-    private record TagCommit(String name, int commitTime) {
+    private static final class ReleaseMark extends ObjectIdOwnerMap.Entry {
+
+        private int release = Integer.MAX_VALUE;
+
+        private ReleaseMark(AnyObjectId id) {
+            super(id);
+        }
     }
 }
@@ -1,7 +1,9 @@
 package dev.rafandoo.gitwit.service.git;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import dev.rafandoo.gitwit.exception.GitWitException;
+import lombok.AllArgsConstructor;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.lib.Constants;
 
@@ -15,8 +17,11 @@ import java.nio.file.*;
  * and retrieving commits.
  */
 @Singleton
+@AllArgsConstructor(onConstructor_ = @__({@Inject}))
 public final class GitService {
 
+    private final GitSession session;
+
     /**
      * Returns the path to the Git repository root.
      *
@@ -41,7 +46,22 @@ public final class GitService {
     }
 
     /**
-     * Executes a function with an opened Git repository.
+     * Returns the repository session of the current invocation, opening the repository on first use.
+     *
+     * @return the open {@link GitSession}.
+     * @throws GitWitException if there is an error initializing the Git repository.
+     */
+    public GitSession session() {
+        try {
+            return this.session.open(this.getGit());
+        } catch (IOException e) {
+            throw new GitWitException("git.error.init_failed", e);
+        }
+    }
+
+    /**
+     * Executes a function with the Git repository of the current invocation.
+     * The repository stays open for the rest of the invocation, so the function must not close it.
      *
      * @param fn  the function to execute, which takes a {@link Git} instance as input and returns a result of type T.
      * @param <T> the type of the result returned by the function.
@@ -49,12 +69,6 @@ public final class GitService {
      * @throws GitWitException if there is an error initializing the Git repository.
      */
     public <T> T withGit(GitFunction<T> fn) {
-        try (
-            Git git = Git.open(getGit().toFile())
-        ) {
-            return fn.apply(git);
-        } catch (IOException e) {
-            throw new GitWitException("git.error.init_failed", e);
-        }
+        return fn.apply(this.session().git());
     }
 }
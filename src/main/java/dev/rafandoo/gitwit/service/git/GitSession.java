@@ -0,0 +1,208 @@
+package dev.rafandoo.gitwit.service.git;
+
+import com.google.inject.Singleton;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Config;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Repository session of a single CLI invocation.
+ * <p>
+ * The repository is opened on first use and kept open until {@link #close()} is called when the invocation
+ * finishes, so its configuration, refs and pack indexes are read once. The session also holds one
+ * {@link ObjectReader} shared by every walk, a {@link RevWalk} reused for lookups and memoized values such
+ * as resolved rev-specs and peeled tags.
+ * </p>
+ * <p>
+ * Reading the commit-graph file of the repository, if any, is enabled for the session unless configured
+ * otherwise, so walks that only need the topology take parents and commit times from the graph instead
+ * of inflating commit objects. See {@link GitIndexService#writeCommitGraph()}.
+ * </p>
+ * Memoized values must be invalidated with {@link #invalidate()} whenever the session updates a ref.
+ */
+@Singleton
+public final class GitSession implements AutoCloseable {
+
+    private Path gitDir;
+    private Git git;
+    private ObjectReader reader;
+    private RevWalk lookupWalk;
+    private final Map<String, Optional<ObjectId>> resolved = new HashMap<>();
+    private final Map<String, Object> memoized = new HashMap<>();
+
+    /**
+     * Opens the repository of the given git directory, unless it is already open.
+     * A session opened on another directory is closed first.
+     *
+     * @param gitDir the git directory.
+     * @return this session.
+     * @throws IOException if the repository cannot be opened.
+     */
+    synchronized GitSession open(Path gitDir) throws IOException {
+        if (this.git != null && gitDir.equals(this.gitDir)) {
+            return this;
+        }
+        this.close();
+        this.git = Git.open(gitDir.toFile());
+        this.gitDir = gitDir;
+        enableCommitGraph(this.git.getRepository().getConfig());
+        return this;
+    }
+
+    /**
+     * Enables reading the commit-graph and its changed-path Bloom filters, unless the repository
+     * configures them explicitly. Only the in-memory configuration is changed.
+     *
+     * @param config the repository configuration.
+     */
+    private static void enableCommitGraph(Config config) {
+        if (config.getString(ConfigConstants.CONFIG_CORE_SECTION, null, ConfigConstants.CONFIG_COMMIT_GRAPH) == null) {
+            config.setBoolean(ConfigConstants.CONFIG_CORE_SECTION, null, ConfigConstants.CONFIG_COMMIT_GRAPH, true);
+        }
+        if (config.getString(
+            ConfigConstants.CONFIG_COMMIT_GRAPH_SECTION,
+            null,
+            ConfigConstants.CONFIG_KEY_READ_CHANGED_PATHS
+        ) == null) {
+            config.setBoolean(
+                ConfigConstants.CONFIG_COMMIT_GRAPH_SECTION,
+                null,
+                ConfigConstants.CONFIG_KEY_READ_CHANGED_PATHS,
+                true
+            );
+        }
+    }
+
+    /**
+     * Returns the {@link Git} facade of the session.
+     *
+     * @return the Git instance, which must not be closed by callers.
+     */
+    public synchronized Git git() {
+        if (this.git == null) {
+            throw new IllegalStateException("Git session is not open.");
+        }
+        return this.git;
+    }
+
+    /**
+     * Returns the repository of the session.
+     *
+     * @return the repository, which must not be closed by callers.
+     */
+    public Repository repository() {
+        return this.git().getRepository();
+    }
+
+    /**
+     * Returns the object reader shared by the walks of the session.
+     *
+     * @return the object reader, which must not be closed by callers.
+     */
+    public synchronized ObjectReader reader() {
+        if (this.reader == null) {
+            this.reader = this.repository().newObjectReader();
+        }
+        return this.reader;
+    }
+
+    /**
+     * Returns the walk reused for lookups, such as parsing commits and peeling tags.
+     * It must not be used to traverse the history, see {@link #newWalk()}.
+     * Commit bodies are not retained, so commits found in the commit-graph are parsed from it.
+     *
+     * @return the lookup walk, which must not be closed by callers.
+     */
+    public synchronized RevWalk lookupWalk() {
+        if (this.lookupWalk == null) {
+            this.lookupWalk = new RevWalk(this.reader());
+            this.lookupWalk.setRetainBody(false);
+        }
+        return this.lookupWalk;
+    }
+
+    /**
+     * Creates a walk to traverse the history, sharing the object reader of the session.
+     * Closing the walk does not close the reader.
+     *
+     * @return a new walk.
+     */
+    public RevWalk newWalk() {
+        return new RevWalk(this.reader());
+    }
+
+    /**
+     * Resolves a rev-spec, memoizing the result for the rest of the session.
+     *
+     * @param revSpec the rev-spec to resolve.
+     * @return the resolved object id, or {@code null} if the rev-spec cannot be resolved.
+     * @throws IOException if the rev-spec cannot be parsed.
+     */
+    public synchronized ObjectId resolve(String revSpec) throws IOException {
+        Optional<ObjectId> id = this.resolved.get(revSpec);
+        if (id == null) {
+            id = Optional.ofNullable(this.repository().resolve(revSpec)).map(ObjectId::copy);
+            this.resolved.put(revSpec, id);
+        }
+        return id.orElse(null);
+    }
+
+    /**
+     * Returns a value memoized for the rest of the session, computing it on first use.
+     *
+     * @param key      the key of the value.
+     * @param supplier computes the value.
+     * @param <T>      the type of the value.
+     * @return the memoized value.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T memoize(String key, Supplier<T> supplier) {
+        Object value = this.memoized.get(key);
+        if (value == null) {
+            value = supplier.get();
+            this.memoized.put(key, value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Discards the memoized rev-specs and values, e.g. after a ref was updated.
+     */
+    public synchronized void invalidate() {
+        this.resolved.clear();
+        this.memoized.clear();
+    }
+
+    /**
+     * Releases the walk, the reader and the repository of the session.
+     * The session can be opened again afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        this.invalidate();
+        if (this.lookupWalk != null) {
+            this.lookupWalk.close();
+            this.lookupWalk = null;
+        }
+        if (this.reader != null) {
+            this.reader.close();
+            this.reader = null;
+        }
+        if (this.git != null) {
+            this.git.close();
+            this.git = null;
+            this.gitDir = null;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.parser.LiteralMatcher;
+import dev.rafandoo.gitwit.parser.RawCommitMessage;
+import dev.rafandoo.gitwit.util.EmojiUtil;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.filter.AndRevFilter;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.eclipse.jgit.util.RawParseUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled <code>ignored</code> message rules of the configuration, telling which commits to skip.
+ * <p>
+ * Rules are classified once, when compiled:
+ * <ul>
+ *     <li>the {@value #MERGE_RULE} rule is structural: it ignores merge commits, i.e. commits with more than
+ *     one parent, which is known from the commit header without reading the message;</li>
+ *     <li>plain literals, such as <code>fixup!</code>, are searched together by a {@link LiteralMatcher};</li>
+ *     <li>literals anchored with <code>^</code> are checked as prefixes of the message;</li>
+ *     <li>any other rule is a regular expression, joined into a single fallback pattern.</li>
+ * </ul>
+ * Rules are matched against the subject line, or against the full message when the body is opted in,
+ * with emojis replaced by their aliases. Pure-ASCII text, the vast majority, is searched straight over
+ * the raw commit buffer; only text with non-ASCII bytes is decoded and emoji-normalized.
+ * </p>
+ * <p>
+ * Only the structural rule is installed on walks, see {@link #toRevFilter()}, so walks never read commit
+ * bodies and can take the topology from the commit-graph. Message rules are checked by the commit stream
+ * once the body of a commit is read, see {@link #ignoresMessage(RevCommit)}.
+ * </p>
+ * Instances are immutable and can be shared across walks.
+ */
+public final class IgnoreRules {
+
+    /**
+     * The rule ignoring merge commits.
+     */
+    public static final String MERGE_RULE = "Merge";
+
+    /**
+     * Rules ignoring no commit.
+     */
+    public static final IgnoreRules NONE = new IgnoreRules(false, null, new String[0], null, false, RevFilter.ALL);
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final boolean ignoreMerges;
+    private final LiteralMatcher literals;
+    private final String[] prefixes;
+    private final Pattern pattern;
+    private final boolean fullMessage;
+    private final RevFilter skipped;
+
+    private IgnoreRules(
+        boolean ignoreMerges,
+        LiteralMatcher literals,
+        String[] prefixes,
+        Pattern pattern,
+        boolean fullMessage,
+        RevFilter skipped
+    ) {
+        this.ignoreMerges = ignoreMerges;
+        this.literals = literals;
+        this.prefixes = prefixes;
+        this.pattern = pattern;
+        this.fullMessage = fullMessage;
+        this.skipped = skipped;
+    }
+
+    /**
+     * Compiles the ignored message rules.
+     *
+     * @param ignoredMessages a list of commit message patterns to ignore (optional). Each pattern is treated as
+     *                        a regular expression, except {@value #MERGE_RULE}, which ignores merge commits.
+     * @param fullMessage     whether the patterns are matched against the full message instead of the subject line.
+     * @return the compiled rules.
+     */
+    public static IgnoreRules compile(List<String> ignoredMessages, boolean fullMessage) {
+        if (ignoredMessages == null || ignoredMessages.isEmpty()) {
+            return NONE;
+        }
+
+        boolean ignoreMerges = false;
+        List<String> literals = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        List<String> regexes = new ArrayList<>();
+        for (String rule : ignoredMessages) {
+            if (MERGE_RULE.equals(rule)) {
+                ignoreMerges = true;
+                continue;
+            }
+            String normalized = EmojiUtil.replaceEmojiWithAlias(rule);
+            if (isLiteral(normalized, 0)) {
+                literals.add(normalized);
+            } else if (normalized.startsWith("^") && isLiteral(normalized, 1)) {
+                prefixes.add(normalized.substring(1));
+            } else {
+                regexes.add(normalized);
+            }
+        }
+
+        return new IgnoreRules(
+            ignoreMerges,
+            literals.isEmpty() ? null : LiteralMatcher.of(literals),
+            prefixes.toArray(String[]::new),
+            regexes.isEmpty() ? null : Pattern.compile(String.join("|", regexes)),
+            fullMessage,
+            RevFilter.ALL
+        );
+    }
+
+    /**
+     * Returns rules that also skip the commits rejected by a filter, e.g. the commits already known to pass
+     * the lint. The filter runs in the walk ahead of the structural rule, so skipped commits are never parsed
+     * beyond their headers; it must not require commit bodies.
+     *
+     * @param filter accepts the commits to keep.
+     * @return the extended rules.
+     */
+    public IgnoreRules skipping(RevFilter filter) {
+        return new IgnoreRules(
+            this.ignoreMerges,
+            this.literals,
+            this.prefixes,
+            this.pattern,
+            this.fullMessage,
+            this.skipped == RevFilter.ALL ? filter : AndRevFilter.create(this.skipped, filter)
+        );
+    }
+
+    /**
+     * Checks whether a commit is ignored by the rules, leaving out the filters of {@link #skipping(RevFilter)}.
+     *
+     * @param commit the commit, with its headers parsed.
+     * @return {@code true} if the commit must be skipped.
+     */
+    public boolean ignores(RevCommit commit) {
+        return this.ignoreMerges && commit.getParentCount() > 1 || this.ignoresMessage(commit);
+    }
+
+    /**
+     * Checks whether a commit is ignored by the message rules, leaving the structural rule out.
+     *
+     * @param commit the commit, with its body parsed.
+     * @return {@code true} if the message of the commit matches a rule.
+     */
+    public boolean ignoresMessage(RevCommit commit) {
+        if (!this.readsMessage()) {
+            return false;
+        }
+
+        CharSequence text = this.text(commit);
+        if (this.literals != null && this.literals.find(text, 0, text.length())) {
+            return true;
+        }
+        for (String prefix : this.prefixes) {
+            if (startsWith(text, prefix)) {
+                return true;
+            }
+        }
+        return this.pattern != null && this.pattern.matcher(text).find();
+    }
+
+    /**
+     * Returns the structural rule as a {@link RevFilter} to install on a walk, rejecting merge commits if
+     * they are ignored, preceded by the filters of {@link #skipping(RevFilter)}. The filter never needs
+     * commit bodies; message rules are left to {@link #ignoresMessage(RevCommit)}.
+     *
+     * @return the filter.
+     */
+    public RevFilter toRevFilter() {
+        if (!this.ignoreMerges) {
+            return this.skipped;
+        }
+        return this.skipped == RevFilter.ALL ? RevFilter.NO_MERGES : AndRevFilter.create(this.skipped, RevFilter.NO_MERGES);
+    }
+
+    /**
+     * Checks whether some rule needs the commit message.
+     *
+     * @return {@code true} if there is any literal, prefix or regular expression rule.
+     */
+    private boolean readsMessage() {
+        return this.literals != null || this.prefixes.length > 0 || this.pattern != null;
+    }
+
+    /**
+     * Returns the text of a commit the rules are matched against.
+     *
+     * @param commit the commit.
+     * @return the subject line or full message, raw if it is pure ASCII, otherwise decoded with emojis replaced
+     * by their aliases.
+     */
+    private CharSequence text(RevCommit commit) {
+        byte[] raw = commit.getRawBuffer();
+        if (raw != null) {
+            int start = RawParseUtils.commitMessage(raw, 0);
+            if (start < 0) {
+                return "";
+            }
+            int end = raw.length;
+            if (!this.fullMessage) {
+                int next = RawParseUtils.nextLF(raw, start);
+                end = next > start && raw[next - 1] == '\n' ? next - 1 : next;
+            }
+            if (isAscii(raw, start, end)) {
+                return RawCommitMessage.of(commit).subSequence(0, end - start);
+            }
+        }
+
+        String message = commit.getFullMessage();
+        if (!this.fullMessage) {
+            int lineEnd = message.indexOf('\n');
+            message = lineEnd < 0 ? message : message.substring(0, lineEnd);
+        }
+        return EmojiUtil.replaceEmojiWithAlias(message);
+    }
+
+    private static boolean isLiteral(String rule, int from) {
+        for (int i = from; i < rule.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(rule.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence text, String prefix) {
+        if (text.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(byte[] raw, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (raw[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
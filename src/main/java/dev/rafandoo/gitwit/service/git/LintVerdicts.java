@@ -0,0 +1,135 @@
+package dev.rafandoo.gitwit.service.git;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.util.Set;
+
+/**
+ * The commits known to pass the lint rules with a given fingerprint, as read from the verdict cache.
+ * <p>
+ * Compacted commits are kept as the sorted raw ids of the cache file and looked up by binary search,
+ * without building an object per commit; commits appended since the last compaction are kept in a hash set.
+ * Loading a cache thus costs a single read of the file, whatever its size.
+ * </p>
+ * Instances are immutable and can be shared across threads.
+ */
+public final class LintVerdicts {
+
+    /**
+     * Verdicts without any commit, of no rule set.
+     */
+    public static final LintVerdicts EMPTY = new LintVerdicts(null, new byte[0], 0, 0, Set.of());
+
+    private final ObjectId fingerprint;
+    private final byte[] sorted;
+    private final int offset;
+    private final int count;
+    private final Set<ObjectId> appended;
+
+    /**
+     * Creates the verdicts read from a cache.
+     *
+     * @param fingerprint the fingerprint of the rule set the verdicts belong to.
+     * @param sorted      the buffer holding the sorted raw ids of the compacted commits.
+     * @param offset      the position of the first sorted id in the buffer.
+     * @param count       the number of sorted ids.
+     * @param appended    the ids of the commits appended since the last compaction.
+     */
+    LintVerdicts(ObjectId fingerprint, byte[] sorted, int offset, int count, Set<ObjectId> appended) {
+        this.fingerprint = fingerprint;
+        this.sorted = sorted;
+        this.offset = offset;
+        this.count = count;
+        this.appended = appended;
+    }
+
+    /**
+     * Creates empty verdicts of a rule set, e.g. when there is no cache yet or it belongs to other rules.
+     *
+     * @param fingerprint the fingerprint of the rule set.
+     * @return the verdicts.
+     */
+    static LintVerdicts empty(ObjectId fingerprint) {
+        return new LintVerdicts(fingerprint, new byte[0], 0, 0, Set.of());
+    }
+
+    /**
+     * Tells whether a commit is known to pass the rules.
+     *
+     * @param commit the id of the commit.
+     * @return {@code true} if the commit passed the rules before.
+     */
+    public boolean passed(AnyObjectId commit) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = commit.compareTo(this.sorted, this.offset + mid * Constants.OBJECT_ID_LENGTH);
+            if (cmp == 0) {
+                return true;
+            }
+            if (cmp < 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return this.appended.contains(commit);
+    }
+
+    /**
+     * Returns the number of commits known to pass the rules.
+     *
+     * @return the number of compacted and appended commits.
+     */
+    public int size() {
+        return this.count + this.appended.size();
+    }
+
+    /**
+     * Returns the fingerprint of the rule set the verdicts belong to.
+     *
+     * @return the fingerprint, or {@code null} for {@link #EMPTY}.
+     */
+    ObjectId fingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the number of commits appended since the last compaction.
+     *
+     * @return the number of appended commits.
+     */
+    int appendedCount() {
+        return this.appended.size();
+    }
+
+    /**
+     * Returns the number of compacted commits.
+     *
+     * @return the number of sorted commits.
+     */
+    int sortedCount() {
+        return this.count;
+    }
+
+    /**
+     * Copies the ids of every known commit into an array, compacted commits first.
+     *
+     * @param extra room to leave at the end of the array.
+     * @return the array, with {@code extra} trailing {@code null} entries.
+     */
+    ObjectId[] toArray(int extra) {
+        ObjectId[] ids = new ObjectId[this.size() + extra];
+        for (int i = 0; i < this.count; i++) {
+            ids[i] = ObjectId.fromRaw(this.sorted, this.offset + i * Constants.OBJECT_ID_LENGTH);
+        }
+        int i = this.count;
+        for (ObjectId id : this.appended) {
+            ids[i++] = id;
+        }
+        return ids;
+    }
+}
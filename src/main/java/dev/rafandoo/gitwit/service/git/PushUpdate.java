@@ -0,0 +1,68 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.exception.GitWitException;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A ref update about to be pushed, as passed by Git to the <code>pre-push</code> hook on its standard input:
+ * <pre>
+ * &lt;local ref&gt; SP &lt;local sha1&gt; SP &lt;remote ref&gt; SP &lt;remote sha1&gt; LF
+ * </pre>
+ *
+ * @param localRef  the name of the pushed local ref, or <code>(delete)</code> when deleting the remote ref.
+ * @param localId   the id the remote ref is updated to, {@link ObjectId#zeroId()} when deleting it.
+ * @param remoteRef the name of the updated remote ref.
+ * @param remoteId  the id of the remote ref before the push, {@link ObjectId#zeroId()} if it does not exist.
+ */
+public record PushUpdate(String localRef, ObjectId localId, String remoteRef, ObjectId remoteId) {
+
+    /**
+     * Parses a ref update line.
+     *
+     * @param line the line, without its line feed.
+     * @return the ref update.
+     * @throws GitWitException if the line is not a ref update.
+     */
+    public static PushUpdate parse(String line) {
+        String[] fields = line.trim().split(" ");
+        if (fields.length != 4 || !ObjectId.isId(fields[1]) || !ObjectId.isId(fields[3])) {
+            throw new GitWitException("lint.pre_push.error.input", line);
+        }
+        return new PushUpdate(fields[0], ObjectId.fromString(fields[1]), fields[2], ObjectId.fromString(fields[3]));
+    }
+
+    /**
+     * Reads the ref updates passed by Git, skipping blank lines.
+     *
+     * @param reader the standard input of the hook.
+     * @return the ref updates, in input order.
+     * @throws GitWitException if the input cannot be read or a line is not a ref update.
+     */
+    public static List<PushUpdate> readAll(BufferedReader reader) {
+        List<PushUpdate> updates = new ArrayList<>();
+        try {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    updates.add(parse(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new GitWitException("lint.pre_push.error.read", e);
+        }
+        return updates;
+    }
+
+    /**
+     * Tells whether the update deletes the remote ref, in which case there is nothing to lint.
+     *
+     * @return {@code true} if the remote ref is deleted.
+     */
+    public boolean isDelete() {
+        return ObjectId.zeroId().equals(this.localId);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.rafandoo.gitwit.service.git;
+
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * A release tag and the commit it points to.
+ *
+ * @param name     the normalized name of the tag.
+ * @param commitId the id of the tagged commit, with annotated tags already peeled.
+ */
+public record ReleaseTag(String name, ObjectId commitId) {
+}
@@ -0,0 +1,130 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.entity.SemVer;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The release tags of a repository, in release order, oldest first.
+ * <p>
+ * Tags are ordered by SemVer precedence, see {@link SemVer}, so tags on the same commit and patch
+ * releases tagged after a newer version, e.g. back-ports, are ordered by their versions rather than by
+ * their commits. Ties, such as versions only differing in build metadata, are broken by commit time and
+ * name. Tags that are not semantic versions precede every versioned tag, ordered by commit time.
+ * </p>
+ * Lookups by tag name or tagged commit take constant time.
+ * Instances are immutable and memoized for the rest of the session.
+ */
+final class TagIndex {
+
+    /**
+     * Index without any tag.
+     */
+    static final TagIndex EMPTY = new TagIndex(new Entry[0]);
+
+    private static final Comparator<Entry> RELEASE_ORDER = Comparator
+        .comparing(Entry::version, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparingInt(Entry::commitTime)
+        .thenComparing(entry -> entry.tag().name());
+
+    private final Entry[] entries;
+    private final List<ReleaseTag> releases;
+    private final Map<String, Integer> positions;
+    private final Map<ObjectId, int[]> commits;
+
+    private TagIndex(Entry[] entries) {
+        this.entries = entries;
+        this.releases = Arrays.stream(entries).map(Entry::tag).toList();
+        this.positions = new HashMap<>();
+        this.commits = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            this.positions.put(entries[i].tag().name(), i);
+            int[] tagged = this.commits.get(entries[i].tag().commitId());
+            tagged = tagged == null ? new int[1] : Arrays.copyOf(tagged, tagged.length + 1);
+            tagged[tagged.length - 1] = i;
+            this.commits.put(entries[i].tag().commitId(), tagged);
+        }
+    }
+
+    /**
+     * Creates the index of the given tags.
+     *
+     * @param entries the tags, in any order.
+     * @return the index.
+     */
+    static TagIndex of(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(Entry[]::new);
+        Arrays.sort(sorted, RELEASE_ORDER);
+        return new TagIndex(sorted);
+    }
+
+    /**
+     * Returns the release tags, oldest first.
+     *
+     * @return an immutable list of the release tags.
+     */
+    List<ReleaseTag> releases() {
+        return this.releases;
+    }
+
+    /**
+     * Returns the tagged commits.
+     *
+     * @return an unmodifiable view of the ids of the commits with at least one tag.
+     */
+    Set<ObjectId> commits() {
+        return Collections.unmodifiableSet(this.commits.keySet());
+    }
+
+    /**
+     * Returns a tag by name.
+     *
+     * @param tag the normalized name of the tag.
+     * @return the tag, or {@code null} if there is no such tag.
+     */
+    ReleaseTag get(String tag) {
+        Integer position = this.positions.get(tag);
+        return position == null ? null : this.entries[position].tag();
+    }
+
+    /**
+     * Returns the latest release tag of a commit.
+     *
+     * @param commit the id of the commit.
+     * @return the latest tag of the commit, or {@code null} if the commit has no tag.
+     */
+    ReleaseTag latestOn(AnyObjectId commit) {
+        int[] tagged = this.commits.get(commit);
+        return tagged == null ? null : this.entries[tagged[tagged.length - 1]].tag();
+    }
+
+    /**
+     * A tag of the index.
+     *
+     * @param tag        the tag and the commit it points to.
+     * @param version    the version the tag name parses to, or {@code null} if it is not a semantic version.
+     * @param commitTime the commit time of the tagged commit, represented as a Unix timestamp (seconds since epoch).
+     */
+    record Entry(ReleaseTag tag, SemVer version, int commitTime) {
+
+        /**
+         * Creates the entry of a tag, parsing its version.
+         *
+         * @param name       the normalized name of the tag.
+         * @param commitId   the id of the tagged commit.
+         * @param commitTime the commit time of the tagged commit.
+         * @return the entry.
+         */
+        static Entry of(String name, ObjectId commitId, int commitTime) {
+            return new Entry(new ReleaseTag(name, commitId), SemVer.parse(name), commitTime);
+        }
+    }
+}
@@ -6,11 +6,12 @@ import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.service.MessageService;
 import lombok.experimental.UtilityClass;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 
 /**
  * Utility class providing clipboard operations across different operating systems.
@@ -33,18 +34,31 @@ public final class ClipboardUtil {
      * @throws GitWitException if clipboard copy operation fails.
      */
     public static boolean copyToClipboard(String text) {
+        return copyToClipboard(out -> out.append(text));
+    }
+
+    /**
+     * Copies the given content to the system clipboard, streaming it to the clipboard utility.
+     * <p>
+     * Supports copying on Windows, macOS, and Linux using various clipboard utilities.
+     *
+     * @param content the content to be copied to the clipboard.
+     * @return {@code true} if the content was successfully copied, {@code false} otherwise.
+     * @throws GitWitException if clipboard copy operation fails.
+     */
+    public static boolean copyToClipboard(ContentWriter content) {
         try {
             if (OperatingSystem.isWindows()) {
-                return copyUsingProcess("clip", text);
+                return copyUsingProcess(content, "clip");
             } else if (OperatingSystem.isMac()) {
-                return copyUsingProcess("pbcopy", text);
+                return copyUsingProcess(content, "pbcopy");
             } else if (OperatingSystem.isLinux()) {
                 if (isCommandAvailable("xclip")) {
-                    return copyUsingProcess("xclip", "-selection", "clipboard", text);
+                    return copyUsingProcess(content, "xclip", "-selection", "clipboard");
                 } else if (isCommandAvailable("xsel")) {
-                    return copyUsingProcess("xsel", "--clipboard", "--input", text);
+                    return copyUsingProcess(content, "xsel", "--clipboard", "--input");
                 } else if (isCommandAvailable("wl-copy")) {
-                    return copyUsingProcess("wl-copy", text);
+                    return copyUsingProcess(content, "wl-copy");
                 } else {
                     messageService.warn("clipboard.warn.no_utility");
                     return false;
@@ -59,29 +73,23 @@ public final class ClipboardUtil {
     }
 
     /**
-     * Copies text to the clipboard using a system command.
+     * Copies content to the clipboard using a system command, writing it to the command's standard input.
      *
-     * @param commandWithText variable arguments containing the command and text to copy.
+     * @param content the content to copy.
+     * @param command the command and its arguments.
      * @return {@code true} if the copy operation was successful, {@code false} otherwise.
      * @throws IOException          if an I/O error occurs while executing the command.
      * @throws InterruptedException if the command execution is interrupted.
      */
-    private static boolean copyUsingProcess(String... commandWithText) throws IOException, InterruptedException {
-        String[] command = Arrays.copyOf(commandWithText, commandWithText.length - 1);
-        String text = commandWithText[commandWithText.length - 1];
-
+    private static boolean copyUsingProcess(ContentWriter content, String... command) throws IOException, InterruptedException {
         ProcessBuilder pb = new ProcessBuilder(command);
         Process process = pb.start();
 
-        try (OutputStream os = process.getOutputStream()) {
-            if (OperatingSystem.isWindows()) {
-                Charset charset = Charset.forName(EncodingUtil.getWindowsEncoding());
-                os.write(text.getBytes(charset));
-                os.flush();
-            } else {
-                os.write(text.getBytes(StandardCharsets.UTF_8));
-                os.flush();
-            }
+        Charset charset = OperatingSystem.isWindows()
+            ? Charset.forName(EncodingUtil.getWindowsEncoding())
+            : StandardCharsets.UTF_8;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), charset))) {
+            content.writeTo(writer);
         }
 
         return process.waitFor() == 0;
@@ -0,0 +1,20 @@
+package dev.rafandoo.gitwit.util;
+
+import java.io.IOException;
+
+/**
+ * A functional interface representing content that is written on demand to a destination,
+ * so that it never has to be held in memory as a whole.
+ */
+@FunctionalInterface
+public interface ContentWriter {
+
+    /**
+     * Writes the content to the given destination.
+     *
+     * @param out the destination.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    void writeTo(Appendable out) throws IOException;
+
+}
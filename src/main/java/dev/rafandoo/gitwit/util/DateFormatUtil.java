@@ -0,0 +1,53 @@
+package dev.rafandoo.gitwit.util;
+
+import lombok.experimental.UtilityClass;
+import org.eclipse.jgit.lib.PersonIdent;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for formatting commit dates.
+ */
+@UtilityClass
+public class DateFormatUtil {
+
+    /**
+     * Pattern used when no explicit date pattern is requested.
+     */
+    public static final String DEFAULT_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a formatter for the given pattern, creating it only once per pattern.
+     *
+     * @param pattern the {@link DateTimeFormatter} pattern.
+     * @return the cached formatter.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static DateTimeFormatter formatter(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * Formats the date of an identity in its own time zone.
+     *
+     * @param ident     the identity holding the date, may be {@code null}.
+     * @param formatter the formatter to use.
+     * @return the formatted date, or an empty string if the identity or its date is unknown.
+     */
+    public static String format(PersonIdent ident, DateTimeFormatter formatter) {
+        if (ident == null) {
+            return "";
+        }
+        Instant instant = ident.getWhenAsInstant();
+        if (instant == null) {
+            return "";
+        }
+        return LocalDateTime.ofInstant(instant, ident.getZoneId()).format(formatter);
+    }
+}
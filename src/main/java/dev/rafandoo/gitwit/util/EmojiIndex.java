@@ -0,0 +1,280 @@
+package dev.rafandoo.gitwit.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Bidirectional emoji lookup table.
+ * <p>
+ * The table is generated at build time from the jemoji data, restricted to GitHub aliases, and
+ * bundled as the <code>emoji-table.bin</code> resource next to this class. It is read in one go
+ * the first time a lookup actually needs it, so strings without any non-ASCII character or
+ * alias candidate never pay for loading it.
+ * </p>
+ * <p>
+ * Both sides of the table are sorted: GitHub aliases (e.g. <code>:bug:</code>) are resolved by
+ * binary search, while emojis found in text are matched by narrowing the sorted emoji range one
+ * character at a time, yielding the first GitHub alias of the longest emoji starting at a position.
+ * </p>
+ */
+public final class EmojiIndex {
+
+    private static final String TABLE_RESOURCE = "emoji-table.bin";
+    private static final int TABLE_MAGIC = 0x4757454D;
+    private static final int TABLE_VERSION = 1;
+
+    private static final EmojiIndex INSTANCE = new EmojiIndex();
+
+    private EmojiIndex() {
+    }
+
+    /**
+     * Returns the shared index. The emoji table itself is only loaded on first lookup.
+     *
+     * @return the emoji index.
+     */
+    public static EmojiIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the emoji for a GitHub alias.
+     *
+     * @param alias the alias, with surrounding colons, e.g. <code>:rocket:</code>.
+     * @return the emoji, or {@code null} if the alias is unknown.
+     */
+    public String emojiForAlias(String alias) {
+        return Holder.TABLE.emojiForAlias(alias);
+    }
+
+    /**
+     * Replaces every GitHub alias in the text with its emoji. Unknown aliases are kept.
+     *
+     * @param text the text to process.
+     * @return the text with aliases replaced, or the same instance if nothing was replaced.
+     */
+    public String replaceAliases(String text) {
+        int colon = text.indexOf(':');
+        if (colon < 0) {
+            return text;
+        }
+
+        StringBuilder sb = null;
+        int copied = 0;
+        int length = text.length();
+        int i = colon;
+        while (i < length) {
+            if (text.charAt(i) != ':') {
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            while (end < length && isAliasChar(text.charAt(end))) {
+                end++;
+            }
+            if (end == i + 1 || end >= length || text.charAt(end) != ':') {
+                i = end;
+                continue;
+            }
+
+            String emoji = Holder.TABLE.emojiForAlias(text.substring(i, end + 1));
+            if (emoji == null) {
+                i = end;
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(length);
+            }
+            sb.append(text, copied, i).append(emoji);
+            copied = end + 1;
+            i = end + 1;
+        }
+
+        if (sb == null) {
+            return text;
+        }
+        return sb.append(text, copied, length).toString();
+    }
+
+    /**
+     * Replaces every emoji in the text with its first GitHub alias.
+     * Emojis without a GitHub alias are kept as they are.
+     *
+     * @param text the text to process.
+     * @return the text with emojis replaced, or the same instance if nothing was replaced.
+     */
+    public String replaceEmojis(String text) {
+        if (isAscii(text)) {
+            return text;
+        }
+
+        Table table = Holder.TABLE;
+        StringBuilder sb = null;
+        int copied = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int match = table.longestMatch(text, i);
+            if (match < 0) {
+                i += Character.charCount(text.codePointAt(i));
+                continue;
+            }
+
+            int matchEnd = i + table.emojis[match].length();
+            String alias = table.aliasOf(match);
+            if (alias != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(length + 16);
+                }
+                sb.append(text, copied, i).append(alias);
+                copied = matchEnd;
+            }
+            i = matchEnd;
+        }
+
+        if (sb == null) {
+            return text;
+        }
+        return sb.append(text, copied, length).toString();
+    }
+
+    /**
+     * Checks whether a string only contains ASCII characters.
+     *
+     * @param text the text to check.
+     * @return {@code true} if every character is below <code>U+0080</code>.
+     */
+    public static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAliasChar(char c) {
+        return (c >= 'a' && c <= 'z')
+            || (c >= 'A' && c <= 'Z')
+            || (c >= '0' && c <= '9')
+            || c == '_' || c == '-' || c == '+';
+    }
+
+    /**
+     * Lazily initialized holder of the emoji table.
+     */
+    private static final class Holder {
+
+        private static final Table TABLE = Table.load();
+    }
+
+    /**
+     * Sorted emoji and alias arrays read from the generated table.
+     */
+    private static final class Table {
+
+        private final String[] emojis;
+        private final short[] emojiAlias;
+        private final String[] aliases;
+        private final short[] aliasEmoji;
+
+        private Table(String[] emojis, short[] emojiAlias, String[] aliases, short[] aliasEmoji) {
+            this.emojis = emojis;
+            this.emojiAlias = emojiAlias;
+            this.aliases = aliases;
+            this.aliasEmoji = aliasEmoji;
+        }
+
+        private String emojiForAlias(String alias) {
+            int index = Arrays.binarySearch(this.aliases, alias);
+            return index < 0 ? null : this.emojis[this.aliasEmoji[index]];
+        }
+
+        private String aliasOf(int emoji) {
+            int alias = this.emojiAlias[emoji];
+            return alias < 0 ? null : this.aliases[alias];
+        }
+
+        /**
+         * Finds the longest emoji starting at the given position.
+         * Every entry left in <code>[lo, hi)</code> starts with the text matched so far, so the
+         * range is narrowed by binary search on the next character only.
+         *
+         * @param text  the text to search.
+         * @param start the position to match from.
+         * @return the index of the longest matching emoji, or {@code -1} if none matches.
+         */
+        private int longestMatch(String text, int start) {
+            int lo = 0;
+            int hi = this.emojis.length;
+            int match = -1;
+            for (int depth = 0; start + depth < text.length(); depth++) {
+                // An entry equal to the text matched so far sorts first and was recorded already.
+                if (lo < hi && this.emojis[lo].length() == depth) {
+                    lo++;
+                }
+                char c = text.charAt(start + depth);
+                lo = this.bound(lo, hi, depth, c, false);
+                hi = this.bound(lo, hi, depth, c, true);
+                if (lo >= hi) {
+                    break;
+                }
+                if (this.emojis[lo].length() == depth + 1) {
+                    match = lo;
+                }
+            }
+            return match;
+        }
+
+        private int bound(int lo, int hi, int depth, char c, boolean upper) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                char candidate = this.emojis[mid].charAt(depth);
+                if (candidate < c || (upper && candidate == c)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Reads the table generated at build time.
+         *
+         * @return the table.
+         * @throws IllegalStateException if the resource is missing or has an unexpected format.
+         */
+        private static Table load() {
+            try (InputStream resource = EmojiIndex.class.getResourceAsStream(TABLE_RESOURCE)) {
+                if (resource == null) {
+                    throw new IllegalStateException("Emoji table resource not found: " + TABLE_RESOURCE);
+                }
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(resource.readAllBytes()));
+                if (in.readInt() != TABLE_MAGIC || in.readUnsignedByte() != TABLE_VERSION) {
+                    throw new IllegalStateException("Unsupported emoji table format: " + TABLE_RESOURCE);
+                }
+
+                String[] emojis = new String[in.readInt()];
+                short[] emojiAlias = new short[emojis.length];
+                String[] aliases = new String[in.readInt()];
+                short[] aliasEmoji = new short[aliases.length];
+                for (int i = 0; i < emojis.length; i++) {
+                    emojis[i] = in.readUTF();
+                    emojiAlias[i] = in.readShort();
+                }
+                for (int i = 0; i < aliases.length; i++) {
+                    aliases[i] = in.readUTF();
+                    aliasEmoji[i] = in.readShort();
+                }
+                return new Table(emojis, emojiAlias, aliases, aliasEmoji);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package dev.rafandoo.gitwit.util;
 
 import lombok.experimental.UtilityClass;
-import net.fellbaum.jemoji.Emoji;
-import net.fellbaum.jemoji.EmojiManager;
 
 import java.util.regex.Pattern;
 
@@ -32,35 +30,30 @@ public final class EmojiUtil {
      *
      * @param text the text to process.
      * @return the processed text with emoji aliases replaced by emojis.
+     * @see EmojiIndex#replaceAliases(String)
      */
     public static String processEmojis(String text) {
-        if (containsAnyEmojiAlias(text)) {
-            return EmojiManager.replaceAliases(
-                text,
-                (alias, emojis) -> emojis.stream()
-                    .filter(emoji -> emoji.getGithubAliases().contains(alias))
-                    .findAny()
-                    .map(Emoji::getEmoji)
-                    .orElse(alias)
-            );
+        if (text.indexOf(':') < 0) {
+            return text;
         }
-
-        return text;
+        return EmojiIndex.get().replaceAliases(text);
     }
 
     /**
      * Replaces all emojis in the given text with their first GitHub alias.
+     * <p>
+     * Pure-ASCII text, which is the case of most commit messages, is returned as is
+     * without touching the emoji index.
+     * </p>
      *
      * @param text the text to process.
      * @return the text with emojis replaced by their aliases.
+     * @see EmojiIndex#replaceEmojis(String)
      */
     public static String replaceEmojiWithAlias(String text) {
-        if (EmojiManager.containsAnyEmoji(text)) {
-            return EmojiManager.replaceAllEmojis(
-                text,
-                emoji -> emoji.getGithubAliases().getFirst()
-            );
+        if (EmojiIndex.isAscii(text)) {
+            return text;
         }
-        return text;
+        return EmojiIndex.get().replaceEmojis(text);
     }
 }
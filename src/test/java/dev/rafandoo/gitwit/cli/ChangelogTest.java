@@ -4,9 +4,12 @@ import com.google.inject.Inject;
 import dev.rafandoo.gitwit.TestUtils;
 import dev.rafandoo.gitwit.di.GuiceExtension;
 import dev.rafandoo.gitwit.mock.CommitMockFactory;
+import dev.rafandoo.gitwit.service.git.CommitStream;
 import dev.rafandoo.gitwit.service.git.GitRepositoryService;
 import dev.rafandoo.gitwit.service.git.GitService;
+import dev.rafandoo.gitwit.service.git.IgnoreRules;
 import dev.rafandoo.gitwit.util.ClipboardUtil;
+import dev.rafandoo.gitwit.util.ContentWriter;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,9 +52,9 @@ class ChangelogTest {
             CommitMockFactory.mockCommit("5678", "fix: fix bug")
         );
 
-        doReturn(mockCommits)
+        doReturn(CommitStream.of(mockCommits))
             .when(this.gitRepositoryService)
-            .resolveCommits(anyString(), any(), any(), anyList());
+            .streamCommits(anyString(), any(), any(), any(IgnoreRules.class));
 
         doReturn(tempDir)
             .when(this.gitService)
@@ -79,9 +82,9 @@ class ChangelogTest {
             CommitMockFactory.mockCommit("5678", "fix: fix bug")
         );
 
-        doReturn(mockCommits)
+        doReturn(CommitStream.of(mockCommits))
             .when(this.gitRepositoryService)
-            .resolveCommits(any(), any(), any(), any());
+            .streamCommits(any(), any(), any(), any());
 
         String[] args = {
             "changelog",
@@ -90,7 +93,7 @@ class ChangelogTest {
         };
 
         try (MockedStatic<ClipboardUtil> clipboardMock = mockStatic(ClipboardUtil.class)) {
-            clipboardMock.when(() -> ClipboardUtil.copyToClipboard(anyString()))
+            clipboardMock.when(() -> ClipboardUtil.copyToClipboard(any(ContentWriter.class)))
                 .thenReturn(true);
 
             AtomicInteger exitCode = new AtomicInteger();
@@ -98,7 +101,7 @@ class ChangelogTest {
 
             assertThat(errText).isBlank();
             assertThat(exitCode.get()).isEqualTo(0);
-            clipboardMock.verify(() -> ClipboardUtil.copyToClipboard(anyString()));
+            clipboardMock.verify(() -> ClipboardUtil.copyToClipboard(any(ContentWriter.class)));
         }
     }
 
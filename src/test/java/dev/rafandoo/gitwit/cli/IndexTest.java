@@ -0,0 +1,73 @@
+package dev.rafandoo.gitwit.cli;
+
+import com.google.inject.Inject;
+import dev.rafandoo.gitwit.TestUtils;
+import dev.rafandoo.gitwit.di.GuiceExtension;
+import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.git.GitIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.stefanbirkner.systemlambda.SystemLambda.tapSystemErr;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GuiceExtension.class)
+@DisplayName("Index Command Tests")
+class IndexTest {
+
+    @Inject
+    GitIndexService gitIndexService;
+
+    @BeforeEach
+    void resetMocks() {
+        reset(this.gitIndexService);
+    }
+
+    @Test
+    @Tag("integration")
+    void shouldWriteCommitGraph() throws Exception {
+        doReturn(42).when(this.gitIndexService).writeCommitGraph();
+
+        String[] args = {"index", "--commit-graph"};
+
+        AtomicInteger exitCode = new AtomicInteger();
+        String errText = tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
+
+        assertThat(exitCode.get()).isEqualTo(0);
+        assertThat(errText).isBlank();
+        verify(this.gitIndexService).writeCommitGraph();
+    }
+
+    @Test
+    @Tag("integration")
+    void shouldNotWriteCommitGraphWithoutOption() throws Exception {
+        String[] args = {"index"};
+
+        AtomicInteger exitCode = new AtomicInteger();
+        tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
+
+        assertThat(exitCode.get()).isEqualTo(0);
+        verify(this.gitIndexService, never()).writeCommitGraph();
+    }
+
+    @Test
+    @Tag("integration")
+    void shouldFailWhenCommitGraphCannotBeWritten() throws Exception {
+        doThrow(new GitWitException("git.index.error.locked", "commit-graph"))
+            .when(this.gitIndexService)
+            .writeCommitGraph();
+
+        String[] args = {"index", "--commit-graph"};
+
+        AtomicInteger exitCode = new AtomicInteger();
+        tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
+
+        assertThat(exitCode.get()).isEqualTo(1);
+    }
+}
@@ -118,6 +118,32 @@ class InstallTest {
         verify(this.gitConfigService, never()).configureGitAliasGlobal();
     }
 
+    @Test
+    @Tag("integration")
+    void shouldInstallPrePushHook(@TempDir Path tempDir) throws Exception {
+        TestUtils.initTempGitRepo(tempDir);
+
+        doReturn(tempDir)
+            .when(this.gitService)
+            .getRepo();
+
+        String[] args = {
+            "install",
+            "--pre-push"
+        };
+
+        AtomicInteger exitCode = new AtomicInteger();
+        String errText = tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
+
+        assertThat(exitCode.get()).isEqualTo(0);
+        assertThat(errText).isBlank();
+
+        verify(this.gitHookService).setupPrePushHook(false);
+        verify(this.gitHookService, never()).setupCommitWizardHook(anyBoolean());
+        verify(this.gitConfigService, never()).configureGitAliasLocal();
+        verify(this.gitConfigService, never()).configureGitAliasGlobal();
+    }
+
     @Test
     @Tag("integration")
     void shouldFailWhenHookAndGlobalOptionsAreUsedTogether(@TempDir Path tempDir) throws Exception {
@@ -5,7 +5,9 @@ import dev.rafandoo.gitwit.TestUtils;
 import dev.rafandoo.gitwit.di.GuiceExtension;
 import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.mock.CommitMockFactory;
+import dev.rafandoo.gitwit.service.git.CommitStream;
 import dev.rafandoo.gitwit.service.git.GitRepositoryService;
+import dev.rafandoo.gitwit.service.git.IgnoreRules;
 import dev.rafandoo.gitwit.service.I18nService;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.jupiter.api.*;
@@ -19,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static com.github.stefanbirkner.systemlambda.SystemLambda.tapSystemErr;
+import static com.github.stefanbirkner.systemlambda.SystemLambda.withTextFromSystemIn;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -48,13 +51,13 @@ class LintTest {
             CommitMockFactory.mockCommit("eb2b9188883d29508a818129ac7e6ce5584db0c0", ":bug:: Fix bug in feature")
         );
 
-        doReturn(mockCommits)
+        doReturn(CommitStream.of(mockCommits))
             .when(this.gitRepositoryService)
-            .resolveCommits(
+            .streamCommits(
                 anyString(),
                 any(),
                 any(),
-                anyList()
+                any(IgnoreRules.class)
             );
 
         String[] args = {
@@ -75,13 +78,13 @@ class LintTest {
         TestUtils.setupConfig(".lint.repo.gitwit");
 
         RevCommit commit = CommitMockFactory.mockCommit("HEAD", ":sparkles:: Latest commit");
-        doReturn(List.of(commit))
+        doReturn(CommitStream.of(List.of(commit)))
             .when(this.gitRepositoryService)
-            .resolveCommits(
+            .streamCommits(
                 any(),
                 any(),
                 any(),
-                anyList()
+                any(IgnoreRules.class)
             );
 
         String[] args = {
@@ -101,13 +104,13 @@ class LintTest {
         TestUtils.setupConfig(".lint.repo.gitwit");
 
         RevCommit commit = CommitMockFactory.mockCommit("f337727030873b96ead6b5ce75d13fffae931bc6", ":sparkles:: Specific commit");
-        doReturn(List.of(commit))
+        doReturn(CommitStream.of(List.of(commit)))
             .when(this.gitRepositoryService)
-            .resolveCommits(
+            .streamCommits(
                 anyString(),
                 any(),
                 any(),
-                anyList()
+                any(IgnoreRules.class)
             );
 
         String[] args = {
@@ -136,7 +139,7 @@ class LintTest {
             "invalidSHA"
         ))
             .when(this.gitRepositoryService)
-            .resolveCommits(eq("invalidSHA"), any(), any(), anyList());
+            .streamCommits(eq("invalidSHA"), any(), any(), any(IgnoreRules.class));
 
 
         AtomicInteger exitCode = new AtomicInteger();
@@ -159,9 +162,9 @@ class LintTest {
             "f337727030873b96ead6b5ce75d13fffae931bc6..eb2b9188883d29508a818129ac7e6ce5584db0c0"
         };
 
-        doReturn(Collections.emptyList())
+        doReturn(CommitStream.of(List.of()))
             .when(this.gitRepositoryService)
-            .resolveCommits(anyString(), anyString(), anyString(), anyList());
+            .streamCommits(anyString(), anyString(), anyString(), any(IgnoreRules.class));
 
         AtomicInteger exitCode = new AtomicInteger();
         String errText = tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
@@ -174,6 +177,71 @@ class LintTest {
         assertThat(errText).contains(expectedMessage);
     }
 
+    @Test
+    void shouldLintPushedCommits() throws Exception {
+        TestUtils.setupConfig(".lint.repo.gitwit");
+        String local = "f337727030873b96ead6b5ce75d13fffae931bc6";
+        String input = "refs/heads/main " + local + " refs/heads/main eb2b9188883d29508a818129ac7e6ce5584db0c0\n";
+
+        RevCommit commit = CommitMockFactory.mockCommit(local, ":sparkles:: Pushed commit");
+        doReturn(CommitStream.of(List.of(commit)))
+            .when(this.gitRepositoryService)
+            .streamPushedCommits(eq("origin"), eq("https://example.com/repo.git"), anyList(), any(IgnoreRules.class));
+
+        String[] args = {
+            "lint",
+            "--pre-push", "origin",
+            "--push-url", "https://example.com/repo.git"
+        };
+
+        AtomicInteger exitCode = new AtomicInteger();
+        String errText = tapSystemErr(() -> withTextFromSystemIn(input)
+            .execute(() -> exitCode.set(TestUtils.executeCommand(args))));
+
+        assertThat(exitCode.get()).isEqualTo(0);
+        assertThat(errText).isBlank();
+        verify(this.gitRepositoryService).streamPushedCommits(
+            eq("origin"),
+            eq("https://example.com/repo.git"),
+            argThat(updates -> updates.size() == 1 && updates.getFirst().localId().name().equals(local)),
+            any(IgnoreRules.class)
+        );
+    }
+
+    @Test
+    void shouldFailWhenPrePushUsedWithRevSpec() throws Exception {
+        TestUtils.setupConfig(".lint.repo.gitwit");
+        String[] args = {
+            "lint",
+            "--pre-push", "origin",
+            "HEAD~1..HEAD"
+        };
+
+        AtomicInteger exitCode = new AtomicInteger();
+        String errText = tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
+
+        assertThat(exitCode.get()).isEqualTo(1);
+        assertThat(errText).contains(this.i18nService.getMessage("lint.error.conflict"));
+        verify(this.gitRepositoryService, never()).streamPushedCommits(any(), any(), anyList(), any(IgnoreRules.class));
+    }
+
+    @Test
+    void shouldFailWhenPrePushUsedWithRangeOptions() throws Exception {
+        TestUtils.setupConfig(".lint.repo.gitwit");
+        String[] args = {
+            "lint",
+            "--pre-push", "origin",
+            "--from", "HEAD~1"
+        };
+
+        AtomicInteger exitCode = new AtomicInteger();
+        String errText = tapSystemErr(() -> exitCode.set(TestUtils.executeCommand(args)));
+
+        assertThat(exitCode.get()).isEqualTo(1);
+        assertThat(errText).contains(this.i18nService.getMessage("lint.error.conflict"));
+        verify(this.gitRepositoryService, never()).streamPushedCommits(any(), any(), anyList(), any(IgnoreRules.class));
+    }
+
     @ParameterizedTest
     @Tag("integration")
     @MethodSource("messageProvider")
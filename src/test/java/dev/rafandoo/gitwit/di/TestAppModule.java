@@ -2,7 +2,9 @@ package dev.rafandoo.gitwit.di;
 
 import dev.rafandoo.gitwit.service.git.*;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class TestAppModule extends AppModule {
 
@@ -24,5 +26,12 @@ public class TestAppModule extends AppModule {
 
         GitCommitService gitCommitService = mock(GitCommitService.class);
         bind(GitCommitService.class).toInstance(gitCommitService);
+
+        GitIndexService gitIndexService = mock(GitIndexService.class);
+        bind(GitIndexService.class).toInstance(gitIndexService);
+
+        GitLintCacheService gitLintCacheService = mock(GitLintCacheService.class);
+        when(gitLintCacheService.load(any())).thenReturn(LintVerdicts.EMPTY);
+        bind(GitLintCacheService.class).toInstance(gitLintCacheService);
     }
 }
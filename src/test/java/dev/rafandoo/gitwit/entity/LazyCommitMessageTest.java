@@ -0,0 +1,169 @@
+package dev.rafandoo.gitwit.entity;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LazyCommitMessage Tests")
+class LazyCommitMessageTest {
+
+    private static RevCommit commit(String encodingHeader, String author, String message, Charset charset) {
+        String headers = "tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904\n"
+            + "author " + author + " 1735726530 -0300\n"
+            + "committer Rafa <rafa@email.com> 1735726530 +0000\n"
+            + encodingHeader
+            + "\n";
+        byte[] head = headers.getBytes(charset);
+        byte[] body = message.getBytes(charset);
+        byte[] raw = new byte[head.length + body.length];
+        System.arraycopy(head, 0, raw, 0, head.length);
+        System.arraycopy(body, 0, raw, head.length, body.length);
+        return RevCommit.parse(raw);
+    }
+
+    @Test
+    void shouldMatchEagerlyParsedMessage() {
+        RevCommit commit = commit(
+            "",
+            "Rafa Ñandú <rafa@email.com>",
+            "feat(core)!: add parser\n\nDetailed body\n\nBREAKING CHANGE: new API",
+            StandardCharsets.UTF_8
+        );
+
+        LazyCommitMessage lazy = LazyCommitMessage.of(commit);
+
+        assertThat(lazy)
+            .extracting(
+                LazyCommitMessage::type,
+                LazyCommitMessage::scope,
+                LazyCommitMessage::shortDescription,
+                LazyCommitMessage::longDescription,
+                LazyCommitMessage::breakingChanges,
+                LazyCommitMessage::breakingChangesDesc,
+                LazyCommitMessage::hash,
+                LazyCommitMessage::authorIdent
+            )
+            .containsExactly(
+                "feat",
+                "core",
+                "add parser",
+                "Detailed body",
+                true,
+                "new API",
+                commit.getId(),
+                commit.getAuthorIdent()
+            );
+    }
+
+    @Test
+    void shouldDetachHashFromCommit() {
+        RevCommit commit = commit("", "Rafa <rafa@email.com>", "fix: typo", StandardCharsets.UTF_8);
+
+        ObjectId hash = LazyCommitMessage.of(commit).hash();
+
+        assertThat(hash)
+            .isEqualTo(commit.getId())
+            .isNotSameAs(commit)
+            .isExactlyInstanceOf(ObjectId.class);
+    }
+
+    @Test
+    void shouldHonourEncodingHeaderForAuthor() {
+        RevCommit commit = commit(
+            "encoding ISO-8859-1\n",
+            "José <jose@email.com>",
+            "fix: corrección",
+            StandardCharsets.ISO_8859_1
+        );
+
+        LazyCommitMessage lazy = LazyCommitMessage.of(commit);
+
+        assertThat(lazy.shortDescription()).isEqualTo("corrección");
+        assertThat(lazy.authorIdent().getName()).isEqualTo("José");
+    }
+
+    @Test
+    void shouldFormatDateInAuthorTimeZoneOnce() {
+        RevCommit commit = commit("", "Rafa <rafa@email.com>", "docs: readme", StandardCharsets.UTF_8);
+
+        LazyCommitMessage lazy = LazyCommitMessage.of(commit);
+
+        assertThat(lazy.formattedDate())
+            .isEqualTo("2025-01-01 07:15:30")
+            .isSameAs(lazy.formattedDate());
+    }
+
+    @Test
+    void shouldFormatForChangelogLikeCommitMessage() {
+        RevCommit commit = commit(
+            "",
+            "Rafa <rafa@email.com>",
+            "feat(ui)!: new layout\n\nBREAKING CHANGE: removed sidebar",
+            StandardCharsets.UTF_8
+        );
+        String template = "- {type}({scope}){breakingChanges}: {description} [{shortHash}] by {author} on {date}";
+
+        LazyCommitMessage lazy = LazyCommitMessage.of(commit);
+        CommitMessage eager = CommitMessage.of(commit);
+
+        assertThat(lazy.formatForChangelog(template))
+            .isEqualTo(eager.formatForChangelog(template))
+            .isEqualTo("- feat(ui)!: new layout [" + commit.getId().abbreviate(7).name() + "] by Rafa on 2025-01-01 07:15:30");
+    }
+
+    @Test
+    void shouldExposeTrailers() {
+        RevCommit commit = commit(
+            "",
+            "Rafa <rafa@email.com>",
+            "fix: handle nulls\n\nRefs: #7\nCo-authored-by: Jane <jane@email.com>",
+            StandardCharsets.UTF_8
+        );
+
+        LazyCommitMessage lazy = LazyCommitMessage.of(commit);
+
+        assertThat(lazy.trailers()).isSameAs(lazy.trailers());
+        assertThat(lazy.trailers().values("Refs")).containsExactly("#7");
+        assertThat(lazy.longDescription()).isEqualTo("Refs: #7\nCo-authored-by: Jane <jane@email.com>");
+    }
+
+    @Test
+    void shouldFallBackToCommitAccessorsWithoutRawBuffer() {
+        RevCommit commit = mock(RevCommit.class);
+        ObjectId id = ObjectId.fromString("0123456789012345678901234567890123456789");
+        PersonIdent author = new PersonIdent(
+            "Rafa",
+            "rafa@email.com",
+            Instant.parse("2025-01-01T10:15:30Z"),
+            ZoneId.of("UTC")
+        );
+
+        when(commit.getFullMessage()).thenReturn("refactor(cli): simplify options\n\nBody");
+        when(commit.getId()).thenReturn(id);
+        when(commit.getAuthorIdent()).thenReturn(author);
+
+        LazyCommitMessage lazy = LazyCommitMessage.of(commit);
+
+        assertThat(lazy)
+            .extracting(
+                LazyCommitMessage::type,
+                LazyCommitMessage::scope,
+                LazyCommitMessage::shortDescription,
+                LazyCommitMessage::longDescription,
+                LazyCommitMessage::hash,
+                LazyCommitMessage::authorIdent
+            )
+            .containsExactly("refactor", "cli", "simplify options", "Body", id, author);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.rafandoo.gitwit.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SemVer Tests")
+class SemVerTest {
+
+    @Test
+    void shouldParseVersionWithPrefixPreReleaseAndBuild() {
+        SemVer version = SemVer.parse("v1.2.3-rc.1+build.5");
+
+        assertThat(version).isEqualTo(new SemVer("v", 1, 2, 3, "rc.1", "build.5"));
+        assertThat(version.toString()).isEqualTo("v1.2.3-rc.1+build.5");
+    }
+
+    @Test
+    void shouldRejectInvalidVersions() {
+        assertThat(SemVer.parse("release-1")).isNull();
+        assertThat(SemVer.parse("1.2")).isNull();
+        assertThat(SemVer.parse("99999999999.0.0")).isNull();
+        assertThat(SemVer.parse(null)).isNull();
+    }
+
+    @Test
+    void shouldOrderBySemVerPrecedence() {
+        List<String> expected = List.of(
+            "1.0.0-alpha",
+            "1.0.0-alpha.1",
+            "1.0.0-alpha.beta",
+            "1.0.0-beta",
+            "1.0.0-beta.2",
+            "1.0.0-beta.11",
+            "1.0.0-rc.1",
+            "1.0.0",
+            "v1.0.1",
+            "1.2.0",
+            "1.10.0"
+        );
+
+        List<String> sorted = Stream.of(
+                "1.10.0", "1.0.0-rc.1", "1.0.0", "1.0.0-beta.11", "v1.0.1", "1.0.0-alpha.beta",
+                "1.0.0-beta", "1.2.0", "1.0.0-alpha.1", "1.0.0-beta.2", "1.0.0-alpha"
+            )
+            .map(SemVer::parse)
+            .sorted()
+            .map(SemVer::toString)
+            .toList();
+
+        assertThat(sorted).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldIgnorePrefixAndBuildWhenOrdering() {
+        assertThat(SemVer.parse("v1.2.3+build.1").compareTo(SemVer.parse("1.2.3+build.2"))).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.rafandoo.gitwit.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CommitMessageScanner Tests")
+class CommitMessageScannerTest {
+
+    @ParameterizedTest
+    @MethodSource("edgeCaseProvider")
+    void shouldScanEdgeCases(String raw, ParsedCommit expected) {
+        assertThat(CommitMessageScanner.scan(raw)).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> edgeCaseProvider() {
+        return Stream.of(
+            Arguments.of(
+                "feat(core: unclosed scope",
+                new ParsedCommit("feat", null, "(core: unclosed scope", null, false, null)
+            ),
+            Arguments.of(
+                "fix(api)\nsecond header line",
+                new ParsedCommit("fix", "api", "second header line", null, false, null)
+            ),
+            Arguments.of(
+                ":bug without closing colon",
+                new ParsedCommit(null, null, ":bug without closing colon", null, false, null)
+            ),
+            Arguments.of(
+                "feat: subject\r\nwith carriage return",
+                new ParsedCommit(null, null, "feat: subject\r with carriage return", null, false, null)
+            ),
+            Arguments.of(
+                "feat: x\n\nmentions BREAKING CHANGE: inline only",
+                new ParsedCommit("feat", null, "x", "mentions BREAKING CHANGE: inline only", false, null)
+            ),
+            Arguments.of(
+                "feat: x\n\nbody\nBREAKING CHANGE:\n  new api\n",
+                new ParsedCommit("feat", null, "x", "body", true, "new api")
+            ),
+            Arguments.of(
+                "feat: x\n\nbody\n\nBREAKING-CHANGE: hyphenated",
+                new ParsedCommit("feat", null, "x", "body", true, "hyphenated")
+            ),
+            Arguments.of(
+                "\n\nBREAKING CHANGE: only footer",
+                new ParsedCommit(null, null, null, null, true, "only footer")
+            )
+        );
+    }
+
+    @Test
+    void shouldReturnEmptyForBlankMessages() {
+        assertThat(CommitMessageScanner.scan(null)).isSameAs(ParsedCommit.EMPTY);
+        assertThat(CommitMessageScanner.scan(" \n\t")).isSameAs(ParsedCommit.EMPTY);
+    }
+
+    @Test
+    void shouldScanAnyCharSequence() {
+        StringBuilder message = new StringBuilder("refactor(cli)!: rename flags\n\nDetails");
+
+        assertThat(CommitMessageScanner.scan(message))
+            .isEqualTo(CommitMessageScanner.scan(message.toString()))
+            .extracting(ParsedCommit::type, ParsedCommit::scope, ParsedCommit::breaking, ParsedCommit::description)
+            .containsExactly("refactor", "cli", true, "Details");
+    }
+}
@@ -0,0 +1,56 @@
+package dev.rafandoo.gitwit.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LiteralMatcher Tests")
+class LiteralMatcherTest {
+
+    @Test
+    void shouldFindAnyLiteral() {
+        LiteralMatcher matcher = LiteralMatcher.of(List.of("Revert", "Pull request", "fixup!", "squash!"));
+
+        assertThat(find(matcher, "fixup! feat: add feature")).isTrue();
+        assertThat(find(matcher, "feat: add feature (squash!)")).isTrue();
+        assertThat(find(matcher, "Merge Pull request #12")).isTrue();
+        assertThat(find(matcher, "feat: add feature")).isFalse();
+        assertThat(find(matcher, "fixup feat: Pull requests")).isTrue();
+        assertThat(find(matcher, "")).isFalse();
+    }
+
+    @Test
+    void shouldFollowFailureLinksAcrossOverlappingLiterals() {
+        LiteralMatcher matcher = LiteralMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertThat(find(matcher, "ushers")).isTrue();
+        assertThat(find(matcher, "ahishe")).isTrue();
+        assertThat(find(matcher, "shh")).isFalse();
+
+        LiteralMatcher nested = LiteralMatcher.of(List.of("abcd", "bc"));
+        assertThat(find(nested, "xabcx")).isTrue();
+        assertThat(find(nested, "xabx")).isFalse();
+    }
+
+    @Test
+    void shouldSearchOnlyWithinRegion() {
+        LiteralMatcher matcher = LiteralMatcher.of(List.of("fixup!"));
+        String text = "feat: subject\nfixup! body";
+
+        assertThat(matcher.find(text, 0, text.indexOf('\n'))).isFalse();
+        assertThat(matcher.find(text, 0, text.length())).isTrue();
+    }
+
+    @Test
+    void shouldMatchEverythingWithEmptyLiteral() {
+        assertThat(find(LiteralMatcher.of(List.of("")), "")).isTrue();
+        assertThat(find(LiteralMatcher.of(List.of()), "anything")).isFalse();
+    }
+
+    private static boolean find(LiteralMatcher matcher, String text) {
+        return matcher.find(text, 0, text.length());
+    }
+}
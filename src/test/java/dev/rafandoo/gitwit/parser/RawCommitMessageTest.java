@@ -0,0 +1,63 @@
+package dev.rafandoo.gitwit.parser;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RawCommitMessage Tests")
+class RawCommitMessageTest {
+
+    private static final String HEADERS = """
+        tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904
+        author Rafa <rafa@email.com> 1735726530 +0000
+        committer Rafa <rafa@email.com> 1735726530 +0000
+        """;
+
+    private static RevCommit commit(String extraHeaders, String message, Charset charset) {
+        byte[] headers = (HEADERS + extraHeaders + "\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] body = message.getBytes(charset);
+        byte[] raw = new byte[headers.length + body.length];
+        System.arraycopy(headers, 0, raw, 0, headers.length);
+        System.arraycopy(body, 0, raw, headers.length, body.length);
+        return RevCommit.parse(raw);
+    }
+
+    @Test
+    void shouldExposeUtf8MessageWithoutDecodingIt() {
+        RevCommit commit = commit("", "feat(ui): añadir botón\n\nCuerpo\n\nBREAKING CHANGE: API nueva", StandardCharsets.UTF_8);
+
+        CharSequence message = RawCommitMessage.of(commit);
+
+        assertThat(message).isNotInstanceOf(String.class);
+        assertThat(message.toString()).isEqualTo(commit.getFullMessage());
+        assertThat(CommitMessageScanner.scan(message))
+            .isEqualTo(CommitMessageScanner.scan(commit.getFullMessage()))
+            .extracting(ParsedCommit::subject, ParsedCommit::breakingDesc)
+            .containsExactly("añadir botón", "API nueva");
+    }
+
+    @Test
+    void shouldHonourEncodingHeader() {
+        RevCommit commit = commit("encoding ISO-8859-1\n", "fix: corrección", StandardCharsets.ISO_8859_1);
+
+        CharSequence message = RawCommitMessage.of(commit);
+
+        assertThat(message.toString()).isEqualTo(commit.getFullMessage());
+        assertThat(CommitMessageScanner.scan(message).subject()).isEqualTo("corrección");
+    }
+
+    @Test
+    void shouldFallBackToDecodedMessageOnMalformedUtf8() {
+        RevCommit commit = commit("", "fix: broken é", StandardCharsets.ISO_8859_1);
+
+        CharSequence message = RawCommitMessage.of(commit);
+
+        assertThat(message).isInstanceOf(String.class);
+        assertThat(message.toString()).isEqualTo(commit.getFullMessage());
+    }
+}
@@ -0,0 +1,104 @@
+package dev.rafandoo.gitwit.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Trailers Tests")
+class TrailersTest {
+
+    private static final String MESSAGE = """
+        feat(api): add endpoint
+
+        Body text
+        Note: part of the body
+
+        Refs: #12
+        Closes #42
+        Co-authored-by: Jane <jane@email.com>
+        BREAKING CHANGE: first change
+          spanning two lines
+        BREAKING-CHANGE: second change
+        """;
+
+    @Test
+    void shouldTokenizeFootersInOrder() {
+        Trailers trailers = CommitMessageScanner.index(MESSAGE).trailers();
+
+        assertThat(trailers.size()).isEqualTo(5);
+        assertThat(trailers.key(0)).isEqualTo("Refs");
+        assertThat(trailers.value(0)).isEqualTo("#12");
+        assertThat(trailers.key(1)).isEqualTo("Closes");
+        assertThat(trailers.value(1)).isEqualTo("#42");
+        assertThat(trailers.value(2)).isEqualTo("Jane <jane@email.com>");
+        assertThat(trailers.value(3)).isEqualTo("first change spanning two lines");
+    }
+
+    @Test
+    void shouldDecodeNonAsciiValuesOfRawMessage() {
+        String text = "feat: añadir\n\nCo-authored-by: José <jose@email.com>\nRefs: café\n  ação ✓\nNote: 😀\n";
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        Trailers expected = CommitMessageScanner.index(text).trailers();
+
+        Trailers trailers = CommitMessageScanner.index(new Utf8Sequence(raw, 0, raw.length)).trailers();
+
+        assertThat(trailers.size()).isEqualTo(3);
+        assertThat(trailers.value(0)).isEqualTo("José <jose@email.com>");
+        assertThat(trailers.value(1)).isEqualTo("café ação ✓");
+        for (int i = 0; i < trailers.size(); i++) {
+            assertThat(trailers.key(i)).isEqualTo(expected.key(i));
+            assertThat(trailers.value(i)).isEqualTo(expected.value(i));
+        }
+    }
+
+    @Test
+    void shouldDetachFootersFromRawMessage() {
+        String text = "fix: y\n\nBody\nBREAKING CHANGE: nova\n  api\nRefs: #1\n\nNote: ação\n";
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        Trailers trailers = CommitMessageScanner.index(new Utf8Sequence(raw, 0, raw.length)).trailers();
+
+        Trailers detached = trailers.detach();
+
+        assertThat(detached).isNotSameAs(trailers);
+        assertThat(detached.detach()).isSameAs(detached);
+        assertThat(detached.size()).isEqualTo(3);
+        for (int i = 0; i < trailers.size(); i++) {
+            assertThat(detached.key(i)).isEqualTo(trailers.key(i));
+            assertThat(detached.value(i)).isEqualTo(trailers.value(i));
+        }
+    }
+
+    @Test
+    void shouldMatchKeysIgnoringCaseAndBreakingChangeSpelling() {
+        Trailers trailers = CommitMessageScanner.index(MESSAGE).trailers();
+
+        assertThat(trailers.values("co-authored-by")).containsExactly("Jane <jane@email.com>");
+        assertThat(trailers.values("BREAKING CHANGE"))
+            .containsExactly("first change spanning two lines", "second change");
+        assertThat(trailers.values("BREAKING-CHANGE")).hasSize(2);
+        assertThat(trailers.contains("Note")).isFalse();
+        assertThat(trailers.values("Missing")).isEmpty();
+    }
+
+    @Test
+    void shouldAcceptBreakingChangeInsideParagraph() {
+        Trailers trailers = CommitMessageScanner.index("fix: y\n\nbody\nBREAKING CHANGE:\n  new api\n").trailers();
+
+        assertThat(trailers.values("BREAKING CHANGE")).containsExactly("new api");
+    }
+
+    @Test
+    void shouldIgnoreHeaderAndUrls() {
+        Trailers trailers = CommitMessageScanner.index("docs: Refs: #1\n\nhttps://example.com\nsee https://x.y").trailers();
+
+        assertThat(trailers.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldReturnEmptyWithoutBody() {
+        assertThat(CommitMessageScanner.index("fix: typo").trailers()).isSameAs(Trailers.EMPTY);
+    }
+}
@@ -3,6 +3,7 @@ package dev.rafandoo.gitwit.service;
 import dev.rafandoo.gitwit.TestUtils;
 import dev.rafandoo.gitwit.config.GitWitConfig;
 import dev.rafandoo.gitwit.entity.CommitMessage;
+import dev.rafandoo.gitwit.entity.Violation;
 import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.mock.CommitMockFactory;
 import org.eclipse.jgit.revwalk.RevCommit;
@@ -15,13 +16,18 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CommitMessageService Tests")
@@ -42,129 +48,106 @@ class CommitMessageServiceTest {
         this.service = new CommitMessageService(this.messageService, this.i18nService);
     }
 
-    Map<String, CommitMessage> mapCommits(List<RevCommit> commits) {
-        Map<String, CommitMessage> messages = new HashMap<>();
-        commits.forEach(commit -> messages.put(commit.getId().getName(), CommitMessage.of(commit)));
-        return messages;
+    private void assertReported(String id, String message, GitWitConfig config, String expected) {
+        RevCommit commit = CommitMockFactory.mockCommit(id, message);
+        List<Violation> violations = this.service.compile(config).check(CommitMessage.of(commit));
+        doNothing().when(this.messageService).error(anyString(), any(Object[].class));
+
+        this.service.reportCommit(commit.getId().getName(), violations);
+
+        assertThat(violations).isNotEmpty();
+        verify(this.messageService).error(
+            eq("lint.commit_violations"),
+            eq(commit.getId().getName()),
+            argThat(text -> text.toString().contains(expected))
+        );
     }
 
     @Test
     void shouldPassValidationForValidCommits() {
         GitWitConfig config = TestUtils.loadDefaultConfig();
+        LintRuleSet rules = this.service.compile(config);
 
         List<RevCommit> revCommits = List.of(
             CommitMockFactory.mockCommit("abc123", "feat: Add new feature X"),
             CommitMockFactory.mockCommit("def456", "fix: Correct bug in feature Y"),
             CommitMockFactory.mockCommit("ghi789", "docs: Update documentation")
         );
-        Map<String, CommitMessage> commits = this.mapCommits(revCommits);
 
-        assertThatNoException().isThrownBy(
-            () -> this.service.validate(commits, config)
+        assertThat(revCommits).allSatisfy(
+            commit -> assertThat(rules.check(CommitMessage.of(commit))).as(commit.getId().getName()).isEmpty()
         );
     }
 
     @ParameterizedTest
     @MethodSource("invalidCommitProvider")
-    void shouldThrowExceptionForInvalidCommits(String id, String message, String expectedKey, Object param) {
+    void shouldReportViolationsOfInvalidCommits(String id, String message, String expectedKey, Object param) {
         GitWitConfig config = TestUtils.loadDefaultConfig();
-        List<RevCommit> revCommits = List.of(
-            CommitMockFactory.mockCommit(id, message)
-        );
-        Map<String, CommitMessage> commits = this.mapCommits(revCommits);
 
-        assertThatThrownBy(() -> this.service.validate(commits, config))
-            .isInstanceOf(GitWitException.class)
-            .hasMessageContaining(String.format("%040x", id.hashCode()))
-            .hasMessageContaining(this.i18nService.resolve(expectedKey, param));
+        this.assertReported(id, message, config, this.i18nService.resolve(expectedKey, param));
     }
 
     private static Stream<Arguments> invalidCommitProvider() {
         return Stream.of(
-            Arguments.of("invalid", "invalid commit message", "commit.validation.violations", null),
+            Arguments.of("invalid", "invalid commit message", "commit.validation.invalid_type", "null"),
             Arguments.of("type", "abc: Not allowed", "commit.validation.type_not_allowed", "abc"),
             Arguments.of("noShort", "feat:", "commit.validation.short_description_required", null)
         );
     }
 
     @Test
-    void shouldThrowExceptionWhenScopeIsMissing() {
+    void shouldReportMissingScope() {
         GitWitConfig config = TestUtils.loadDefaultConfig();
         config.getScope().setRequired(true);
 
-        List<RevCommit> revCommits = List.of(
-            CommitMockFactory.mockCommit("noScope", "feat: No scope")
-        );
-        Map<String, CommitMessage> commits = this.mapCommits(revCommits);
-
-        assertThatThrownBy(() -> this.service.validate(commits, config))
-            .isInstanceOf(GitWitException.class)
-            .hasMessageContaining(String.format("%040x", "noScope".hashCode()))
-            .hasMessageContaining(
-                this.i18nService.getMessage("commit.validation.scope_required")
-            );
+        this.assertReported("noScope", "feat: No scope", config, this.i18nService.getMessage("commit.validation.scope_required"));
     }
 
     @Test
-    void shouldThrowExceptionWhenLongDescriptionIsMissing() {
+    void shouldReportMissingLongDescription() {
         GitWitConfig config = TestUtils.loadDefaultConfig();
         config.getLongDescription().setRequired(true);
 
-        List<RevCommit> revCommits = List.of(
-            CommitMockFactory.mockCommit("noLong", "feat: No long desc")
+        this.assertReported(
+            "noLong",
+            "feat: No long desc",
+            config,
+            this.i18nService.getMessage("commit.validation.long_description_required")
         );
-        Map<String, CommitMessage> commits = this.mapCommits(revCommits);
-
-        assertThatThrownBy(() -> this.service.validate(commits, config))
-            .isInstanceOf(GitWitException.class)
-            .hasMessageContaining(String.format("%040x", "noLong".hashCode()))
-            .hasMessageContaining(
-                this.i18nService.getMessage("commit.validation.long_description_required")
-            );
     }
 
     @Test
-    void shouldThrowExceptionWhenLongDescriptionIsTooShort() {
+    void shouldReportTooShortLongDescription() {
         GitWitConfig config = TestUtils.loadDefaultConfig();
         config.getLongDescription().setRequired(true);
         config.getLongDescription().setMinLength(20);
 
-        List<RevCommit> revCommits = List.of(
-            CommitMockFactory.mockCommit("shortLong", "feat: Short long desc\n\nToo short")
+        this.assertReported(
+            "shortLong",
+            "feat: Short long desc\n\nToo short",
+            config,
+            this.i18nService.getMessage(
+                "commit.validation.long_description_too_short",
+                config.getLongDescription().getMinLength()
+            )
         );
-        Map<String, CommitMessage> commits = this.mapCommits(revCommits);
-
-        assertThatThrownBy(() -> this.service.validate(commits, config))
-            .isInstanceOf(GitWitException.class)
-            .hasMessageContaining(String.format("%040x", "shortLong".hashCode()))
-            .hasMessageContaining(
-                this.i18nService.getMessage(
-                    "commit.validation.long_description_too_short",
-                    config.getLongDescription().getMinLength()
-                )
-            );
     }
 
     @Test
-    void shouldThrowExceptionWhenLongDescriptionIsTooLong() {
+    void shouldReportTooLongLongDescription() {
         GitWitConfig config = TestUtils.loadDefaultConfig();
         config.getLongDescription().setRequired(true);
         config.getLongDescription().setMaxLength(50);
 
-        List<RevCommit> revCommits = List.of(
-            CommitMockFactory.mockCommit("longLong", "feat: Long long desc\n\nThis long description is way too long and exceeds the maximum length allowed by the configuration.")
+        this.assertReported(
+            "longLong",
+            "feat: Long long desc\n\nThis long description is way too long and exceeds the maximum length allowed by the configuration.",
+            config,
+            this.i18nService.getMessage(
+                "commit.validation.long_description_too_long",
+                config.getLongDescription().getMaxLength()
+            )
         );
-        Map<String, CommitMessage> commits = this.mapCommits(revCommits);
-
-        assertThatThrownBy(() -> this.service.validate(commits, config))
-            .isInstanceOf(GitWitException.class)
-            .hasMessageContaining(String.format("%040x", "longLong".hashCode()))
-            .hasMessageContaining(
-                this.i18nService.getMessage(
-                    "commit.validation.long_description_too_long",
-                    config.getLongDescription().getMaxLength()
-                )
-            );
     }
 
     @Nested
@@ -0,0 +1,67 @@
+package dev.rafandoo.gitwit.service;
+
+import dev.rafandoo.gitwit.TestUtils;
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.CommitMessage;
+import dev.rafandoo.gitwit.entity.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LintRuleSet Tests")
+class LintRuleSetTest {
+
+    I18nService i18nService = new I18nService();
+
+    @Test
+    void shouldReturnSharedEmptyListForPassingMessage() {
+        LintRuleSet rules = LintRuleSet.compile(TestUtils.loadDefaultConfig(), this.i18nService);
+
+        List<Violation> violations = rules.check(CommitMessage.of("feat(core): add new feature"));
+
+        assertThat(violations).isEmpty();
+        assertThat(violations).isSameAs(List.of());
+    }
+
+    @Test
+    void shouldMatchTypesWithEmojisByAlias() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        config.getTypes().setValues(Map.of("✨", "A new feature"));
+        LintRuleSet rules = LintRuleSet.compile(config, this.i18nService);
+
+        assertThat(rules.check(CommitMessage.of(":sparkles:: add new feature"))).isEmpty();
+    }
+
+    @Test
+    void shouldReportViolationsInRuleOrder() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        config.getScope().setRequired(true);
+        LintRuleSet rules = LintRuleSet.compile(config, this.i18nService);
+
+        List<Violation> violations = rules.check(CommitMessage.of("unknown: abc"));
+
+        assertThat(violations)
+            .extracting(Violation::message)
+            .containsExactly(
+                this.i18nService.getMessage("commit.validation.type_not_allowed", "unknown"),
+                this.i18nService.getMessage("commit.validation.scope_required"),
+                this.i18nService.getMessage(
+                    "commit.validation.short_description_too_short",
+                    config.getShortDescription().getMinLength()
+                )
+            );
+    }
+
+    @Test
+    void shouldNotSeeConfigChangesAfterCompiling() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        LintRuleSet rules = LintRuleSet.compile(config, this.i18nService);
+        config.getShortDescription().setMaxLength(3);
+
+        assertThat(rules.check(CommitMessage.of("feat: add new feature"))).isEmpty();
+    }
+}
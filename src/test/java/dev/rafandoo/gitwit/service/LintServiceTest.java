@@ -0,0 +1,201 @@
+package dev.rafandoo.gitwit.service;
+
+import dev.rafandoo.gitwit.TestUtils;
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.git.CommitStream;
+import dev.rafandoo.gitwit.service.git.GitLintCacheService;
+import dev.rafandoo.gitwit.service.git.GitRepositoryService;
+import dev.rafandoo.gitwit.service.git.IgnoreRules;
+import dev.rafandoo.gitwit.service.git.LintVerdicts;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LintService Tests")
+class LintServiceTest {
+
+    private static final int COMMITS = 2_000;
+
+    @Mock
+    TerminalService terminalService;
+
+    @Mock
+    GitRepositoryService gitRepositoryService;
+
+    @Mock
+    GitLintCacheService gitLintCacheService;
+
+    I18nService i18nService = new I18nService();
+
+    @Spy
+    MessageService messageService = new MessageService(terminalService, i18nService);
+
+    LintService service;
+
+    @BeforeEach
+    void setup() {
+        CommitMessageService commitMessageService = new CommitMessageService(this.messageService, this.i18nService);
+        this.service = new LintService(
+            this.messageService,
+            commitMessageService,
+            this.gitRepositoryService,
+            this.gitLintCacheService
+        );
+        lenient().when(this.gitLintCacheService.load(any())).thenReturn(LintVerdicts.EMPTY);
+    }
+
+    private static RevCommit commit(int i, String message) {
+        String raw = "tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904\n"
+            + "author GitWit <gitwit@example.com> " + (1_700_000_000 + i) + " +0000\n"
+            + "committer GitWit <gitwit@example.com> " + (1_700_000_000 + i) + " +0000\n"
+            + "\n"
+            + message + "\n";
+        return RevCommit.parse(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void stubCommits(List<RevCommit> commits) {
+        when(this.gitRepositoryService.streamCommits(any(), any(), any(), any(IgnoreRules.class)))
+            .thenAnswer(invocation -> {
+                RevFilter filter = invocation.<IgnoreRules>getArgument(3).toRevFilter();
+                List<RevCommit> walked = new ArrayList<>();
+                for (RevCommit commit : commits) {
+                    if (filter.include(null, commit)) {
+                        walked.add(commit);
+                    }
+                }
+                return CommitStream.of(walked);
+            });
+    }
+
+    @Test
+    void shouldLintLargeRangeWithoutViolations() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        List<RevCommit> commits = new ArrayList<>();
+        for (int i = 0; i < COMMITS; i++) {
+            commits.add(commit(i, "feat: add feature number " + i));
+        }
+        this.stubCommits(commits);
+
+        assertThatNoException().isThrownBy(() -> this.service.lint("HEAD~2000..HEAD", null, null, null, config));
+    }
+
+    private List<String> reportedCommits() {
+        ArgumentCaptor<Object> ids = ArgumentCaptor.forClass(Object.class);
+        verify(this.messageService, atLeast(0)).error(eq("lint.commit_violations"), ids.capture(), any());
+        return ids.getAllValues().stream().map(String.class::cast).toList();
+    }
+
+    private List<RevCommit> everySeventhFailing(List<String> failing) {
+        List<RevCommit> commits = new ArrayList<>();
+        for (int i = 0; i < COMMITS; i++) {
+            RevCommit commit = commit(i, i % 7 == 0 ? "unknown: invalid commit " + i : "fix: valid commit " + i);
+            commits.add(commit);
+            if (i % 7 == 0) {
+                failing.add(commit.getId().getName());
+            }
+        }
+        return commits;
+    }
+
+    @Test
+    void shouldReportViolationsInWalkOrder() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        List<String> failing = new ArrayList<>();
+        this.stubCommits(this.everySeventhFailing(failing));
+
+        String summary = catchThrowableOfType(
+            GitWitException.class,
+            () -> this.service.lint("HEAD~2000..HEAD", null, null, null, config)
+        ).getMessage();
+
+        assertThat(this.reportedCommits()).containsExactlyElementsOf(failing);
+        assertThat(summary).isEqualTo(this.i18nService.getMessage(
+            "lint.summary.failed",
+            String.valueOf(failing.size()),
+            String.valueOf(COMMITS),
+            String.valueOf(failing.size())
+        ));
+    }
+
+    @Test
+    void shouldStopAtFirstFailingCommit() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        List<String> failing = new ArrayList<>();
+        this.stubCommits(this.everySeventhFailing(failing));
+
+        String summary = catchThrowableOfType(
+            GitWitException.class,
+            () -> this.service.lint("HEAD~2000..HEAD", null, null, null, new LintLimits(true, 0), config)
+        ).getMessage();
+
+        assertThat(this.reportedCommits()).containsExactly(failing.getFirst());
+        assertThat(summary).isEqualTo(this.i18nService.getMessage("lint.summary.stopped", "1", "1", "1"));
+    }
+
+    @Test
+    void shouldStopOnceMaxViolationsReached() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        List<String> failing = new ArrayList<>();
+        this.stubCommits(this.everySeventhFailing(failing));
+
+        String summary = catchThrowableOfType(
+            GitWitException.class,
+            () -> this.service.lint("HEAD~2000..HEAD", null, null, null, new LintLimits(false, 10), config)
+        ).getMessage();
+
+        assertThat(this.reportedCommits()).containsExactlyElementsOf(failing.subList(0, 10));
+        assertThat(summary).isEqualTo(this.i18nService.getMessage("lint.summary.stopped", "10", "64", "10"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSkipCommitsKnownToPass() {
+        GitWitConfig config = TestUtils.loadDefaultConfig();
+        List<String> failing = new ArrayList<>();
+        List<RevCommit> commits = this.everySeventhFailing(failing);
+        this.stubCommits(commits);
+        LintVerdicts known = mock(LintVerdicts.class);
+        when(known.passed(any())).thenAnswer(invocation -> failing.contains(invocation.<RevCommit>getArgument(0).name()));
+        when(this.gitLintCacheService.load(any())).thenReturn(known);
+
+        assertThatNoException().isThrownBy(() -> this.service.lint("HEAD~2000..HEAD", null, null, null, config));
+
+        ArgumentCaptor<List<ObjectId>> passed = ArgumentCaptor.forClass(List.class);
+        verify(this.gitLintCacheService, times(2)).record(eq(known), passed.capture());
+        assertThat(passed.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(1024));
+        assertThat(passed.getAllValues().stream().flatMap(List::stream).toList())
+            .hasSize(COMMITS - failing.size())
+            .extracting(ObjectId::name)
+            .doesNotHaveDuplicates()
+            .doesNotContainAnyElementsOf(failing);
+        assertThat(this.reportedCommits()).isEmpty();
+        verify(this.messageService).debug("lint.cached", failing.size());
+        verify(this.messageService).info("lint.summary.passed", COMMITS);
+    }
+}
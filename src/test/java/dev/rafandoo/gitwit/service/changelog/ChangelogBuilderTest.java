@@ -0,0 +1,100 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.Changelog;
+import dev.rafandoo.gitwit.entity.CommitMessage;
+import dev.rafandoo.gitwit.enums.ChangelogScope;
+import dev.rafandoo.gitwit.mock.CommitMockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("ChangelogBuilder Tests")
+class ChangelogBuilderTest {
+
+    private final GitWitConfig.ChangelogConfig config = new GitWitConfig.ChangelogConfig();
+    private final Map<String, String> types = new LinkedHashMap<>();
+    private final List<ChangelogScope> compiled = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        this.config.setShowBreakingChanges(true);
+        this.config.setShowOtherTypes(true);
+        this.types.put("feat", "Features");
+        this.types.put("fix", "Bug fixes");
+    }
+
+    private ChangelogBuilder builder() {
+        return new ChangelogBuilder(this.config, this.types, scope -> {
+            this.compiled.add(scope);
+            return ChangelogEntryTemplate.compile(scope.name().charAt(0) + " {type}: {description}");
+        });
+    }
+
+    private static CommitMessage message(String text) {
+        return CommitMessage.of(CommitMockFactory.mockCommit(text, text));
+    }
+
+    @Test
+    void shouldRouteEachCommitToItsBucket() {
+        ChangelogBuilder builder = this.builder();
+        List.of(
+            "chore: bump deps",
+            "fix: null check",
+            "feat!: new api",
+            "docs: readme",
+            "feat: login",
+            "chore!: drop java 17",
+            "fix: typo"
+        ).forEach(text -> builder.add(message(text)));
+
+        Changelog changelog = builder.build("Changelog", "v1.0.0");
+
+        assertThat(changelog.title()).isEqualTo("Changelog");
+        assertThat(changelog.subtitle()).isEqualTo("v1.0.0");
+        assertThat(changelog.breakingChanges()).containsExactly("B feat: new api", "B chore: drop java 17");
+        assertThat(changelog.sections()).containsExactly(
+            entry("Features", List.of("S feat: login")),
+            entry("Bug fixes", List.of("S fix: null check", "S fix: typo"))
+        );
+        assertThat(changelog.otherChanges()).containsExactly("O chore: bump deps", "O docs: readme");
+        assertThat(this.compiled).containsExactly(ChangelogScope.OTHER_TYPES, ChangelogScope.SECTION, ChangelogScope.BREAKING_CHANGES);
+    }
+
+    @Test
+    void shouldKeepBreakingChangesInSectionsWhenHidden() {
+        this.config.setShowBreakingChanges(false);
+        this.config.setShowOtherTypes(false);
+        ChangelogBuilder builder = this.builder();
+
+        builder.add(message("feat!: new api"));
+        builder.add(message("chore: bump deps"));
+        Changelog changelog = builder.build("Changelog", null);
+
+        assertThat(changelog.breakingChanges()).isEmpty();
+        assertThat(changelog.sections()).containsExactly(entry("Features", List.of("S feat: new api")));
+        assertThat(changelog.otherChanges()).isEmpty();
+        assertThat(this.compiled).containsExactly(ChangelogScope.SECTION);
+        assertThat(builder.isEmpty()).isFalse();
+    }
+
+    @Test
+    void shouldOmitEmptySections() {
+        ChangelogBuilder builder = this.builder();
+
+        builder.add(message("fix!: remove flag"));
+        Changelog changelog = builder.build("Changelog", null);
+
+        assertThat(changelog.breakingChanges()).containsExactly("B fix: remove flag");
+        assertThat(changelog.sections()).isEmpty();
+        assertThat(this.builder().isEmpty()).isTrue();
+    }
+}
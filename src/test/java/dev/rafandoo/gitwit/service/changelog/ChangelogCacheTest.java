@@ -0,0 +1,198 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.Changelog;
+import dev.rafandoo.gitwit.service.MessageService;
+import dev.rafandoo.gitwit.service.git.GitService;
+import dev.rafandoo.gitwit.service.git.GitSession;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangelogCache Tests")
+class ChangelogCacheTest {
+
+    private static final ObjectId FROM = ObjectId.fromString("1111111111111111111111111111111111111111");
+    private static final ObjectId TO = ObjectId.fromString("2222222222222222222222222222222222222222");
+
+    @Mock
+    GitService gitService;
+
+    @Mock
+    MessageService messageService;
+
+    @Mock
+    GitSession session;
+
+    @Mock
+    Repository repository;
+
+    ChangelogCache cache;
+
+    @TempDir
+    Path gitDir;
+
+    @BeforeEach
+    void setup() {
+        this.cache = new ChangelogCache(this.gitService, this.messageService);
+    }
+
+    private void stubRepo() {
+        when(this.gitService.session()).thenReturn(this.session);
+        when(this.session.repository()).thenReturn(this.repository);
+        when(this.repository.getDirectory()).thenReturn(this.gitDir.toFile());
+    }
+
+    @Test
+    void shouldRoundTripEntries() {
+        this.stubRepo();
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        sections.put("Features", List.of("✨ add feature (a1)", "add other (b2)"));
+        sections.put("Fixes", List.of("fix crash (c3)"));
+        Changelog changelog = new Changelog("Title", "v1.1.0", List.of("breaking (d4)"), sections, List.of("chore (e5)"));
+        ChangelogCache.Key key = ChangelogCache.Key.range(FROM, TO, "fingerprint");
+
+        assertThat(this.cache.get(key)).isNull();
+
+        this.cache.put(key, changelog);
+
+        assertThat(this.cache.get(key))
+            .isEqualTo(new Changelog(null, null, List.of("breaking (d4)"), sections, List.of("chore (e5)")));
+    }
+
+    @Test
+    void shouldKeyEntriesByKindRangeAndFingerprint() {
+        this.stubRepo();
+        Changelog changelog = new Changelog(null, null, List.of(), Map.of(), List.of("entry"));
+        this.cache.put(ChangelogCache.Key.range(FROM, TO, "fingerprint"), changelog);
+
+        assertThat(this.cache.get(ChangelogCache.Key.range(FROM, TO, "other"))).isNull();
+        assertThat(this.cache.get(ChangelogCache.Key.releases(List.of(FROM, TO), "fingerprint")[1])).isNull();
+        assertThat(this.cache.get(ChangelogCache.Key.range(TO, FROM, "fingerprint"))).isNull();
+    }
+
+    @Test
+    void shouldKeyReleasesByEveryLowerRelease() {
+        ObjectId other = ObjectId.fromString("3333333333333333333333333333333333333333");
+        ObjectId last = ObjectId.fromString("4444444444444444444444444444444444444444");
+
+        ChangelogCache.Key[] keys = ChangelogCache.Key.releases(List.of(FROM, TO, last), "fingerprint");
+
+        assertThat(keys[0].from()).isEqualTo(ObjectId.zeroId());
+        assertThat(ChangelogCache.Key.releases(List.of(FROM, TO), "fingerprint")).containsExactly(keys[0], keys[1]);
+        assertThat(ChangelogCache.Key.releases(List.of(other, TO, last), "fingerprint")[2]).isNotEqualTo(keys[2]);
+        assertThat(ChangelogCache.Key.releases(List.of(FROM, other, TO, last), "fingerprint")[3]).isNotEqualTo(keys[2]);
+    }
+
+    @Test
+    void shouldDiscardInvalidEntries() throws IOException {
+        this.stubRepo();
+        ChangelogCache.Key key = ChangelogCache.Key.releases(List.of(TO), "fingerprint")[0];
+        this.cache.put(key, new Changelog(null, null, List.of(), Map.of(), List.of("entry")));
+        Path entry = this.entries().getFirst();
+        Files.write(entry, new byte[]{1, 2, 3});
+
+        assertThat(this.cache.get(key)).isNull();
+        assertThat(entry).doesNotExist();
+        verify(this.messageService).debug(eq("changelog.cache.invalid"), any(), any());
+    }
+
+    @Test
+    void shouldDiscardEntriesWithInvalidLengths() throws IOException {
+        this.stubRepo();
+        ChangelogCache.Key key = ChangelogCache.Key.range(FROM, TO, "fingerprint");
+        this.cache.put(key, new Changelog(null, null, List.of(), Map.of(), List.of("entry")));
+        Path entry = this.entries().getFirst();
+
+        for (int length : new int[]{-1, Integer.MAX_VALUE}) {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(entry))) {
+                out.writeInt(0x4757434C);
+                out.writeByte(1);
+                out.writeInt(1);
+                out.writeInt(length);
+            }
+
+            assertThat(this.cache.get(key)).isNull();
+            assertThat(entry).doesNotExist();
+        }
+        verify(this.messageService, times(2)).debug(eq("changelog.cache.invalid"), any(), any());
+    }
+
+    @Test
+    void shouldStoreEntriesInGitDirectoryOfRepository() throws IOException {
+        this.stubRepo();
+        ChangelogCache.Key key = ChangelogCache.Key.range(FROM, TO, "fingerprint");
+
+        this.cache.put(key, new Changelog(null, null, List.of(), Map.of(), List.of("entry")));
+
+        assertThat(this.entries()).hasSize(1);
+        assertThat(this.cache.get(key).otherChanges()).containsExactly("entry");
+        verify(this.gitService, never()).getRepo();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() throws IOException {
+        this.stubRepo();
+        String large = "x".repeat(1024 * 1024);
+        Changelog changelog = new Changelog(null, null, List.of(), Map.of(), List.of(large));
+        for (int i = 1; i <= 5; i++) {
+            List<Path> before = this.entries();
+            this.cache.put(ChangelogCache.Key.range(FROM, TO, String.valueOf(i)), changelog);
+            for (Path entry : this.entries()) {
+                if (!before.contains(entry)) {
+                    Files.setLastModifiedTime(entry, FileTime.fromMillis(i * 1000L));
+                }
+            }
+        }
+
+        assertThat(this.entries()).hasSize(3);
+        assertThat(this.cache.get(ChangelogCache.Key.range(FROM, TO, "1"))).isNull();
+        assertThat(this.cache.get(ChangelogCache.Key.range(FROM, TO, "2"))).isNull();
+        assertThat(this.cache.get(ChangelogCache.Key.range(FROM, TO, "5"))).isNotNull();
+    }
+
+    @Test
+    void shouldFingerprintChangelogConfiguration() {
+        GitWitConfig.ChangelogConfig config = new GitWitConfig.ChangelogConfig();
+        Map<String, String> types = new LinkedHashMap<>();
+        types.put("feat", "Features");
+        types.put("fix", "Fixes");
+        String fingerprint = ChangelogCache.fingerprint(config, types);
+
+        config.setTitle("Other title");
+        assertThat(ChangelogCache.fingerprint(config, types)).isEqualTo(fingerprint);
+
+        config.setShowBreakingChanges(true);
+        assertThat(ChangelogCache.fingerprint(config, types)).isNotEqualTo(fingerprint);
+    }
+
+    private List<Path> entries() throws IOException {
+        Path directory = this.gitDir.resolve("gitwit/changelog");
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".bin")).toList();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import dev.rafandoo.gitwit.entity.CommitMessage;
+import dev.rafandoo.gitwit.exception.GitWitException;
+import dev.rafandoo.gitwit.service.I18nService;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChangelogEntryTemplate Tests")
+class ChangelogEntryTemplateTest {
+
+    private static final ObjectId ID = ObjectId.fromString("0123456789012345678901234567890123456789");
+
+    private static final PersonIdent AUTHOR = new PersonIdent(
+        "Rafa",
+        "rafa@email.com",
+        Instant.parse("2025-01-01T10:15:30Z"),
+        ZoneId.of("America/Sao_Paulo")
+    );
+
+    I18nService i18nService = new I18nService();
+
+    private static CommitMessage message(String type, String scope, String description, boolean breaking) {
+        return new CommitMessage(type, scope, description, null, breaking, null, ID, AUTHOR);
+    }
+
+    @Test
+    void shouldRenderAllPlaceholders() {
+        ChangelogEntryTemplate template = ChangelogEntryTemplate.compile(
+            "- {type}({scope}){breakingChanges}: {description} [{shortHash}] {hash} by {author} on {date}"
+        );
+
+        assertThat(template.render(message("feat", "core", "add engine", true)))
+            .isEqualTo("- feat(core)!: add engine [0123456] " + ID.name() + " by Rafa on 2025-01-01 07:15:30");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{scope}: {description} ({shortHash})    | ''    | fix | fix (0123456)",
+        "- {type}({scope}): {description}         | ''    | fix | - feat: fix",
+        "{scope}: {description}                   | ui    | fix | ui: fix",
+        "'  {type} {description}'                 | ''    | fix | feat fix",
+        "{description} ()()                       | ''    | x   | x",
+        "{unknown} {description}                  | ''    | x   | {unknown} x",
+        "{{type}}                                 | ''    | x   | {feat}"
+    })
+    void shouldApplyCleanupRules(String source, String scope, String description, String expected) {
+        ChangelogEntryTemplate template = ChangelogEntryTemplate.compile(source);
+
+        assertThat(template.render(message("feat", scope, description, false)))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldReuseTemplateAcrossEntries() {
+        ChangelogEntryTemplate template = ChangelogEntryTemplate.compile("{type}: {description}");
+
+        String first = template.render(message("feat", null, "first entry", false));
+        String second = template.render(message("fix", null, "second", false));
+
+        assertThat(first).isEqualTo("feat: first entry");
+        assertThat(second).isEqualTo("fix: second");
+    }
+
+    @Test
+    void shouldFormatDateWithCustomPattern() {
+        ChangelogEntryTemplate template = ChangelogEntryTemplate.compile("{description} ({date:yyyy-MM-dd})");
+
+        assertThat(template.render(message("feat", null, "release", false)))
+            .isEqualTo("release (2025-01-01)");
+    }
+
+    @Test
+    void shouldRenderEmptyDateWithoutAuthor() {
+        CommitMessage message = new CommitMessage("fix", null, "bug", null, false, null, null, null);
+
+        assertThat(ChangelogEntryTemplate.compile("{description} {date:dd/MM/yyyy}{hash}").render(message))
+            .isEqualTo("bug ");
+    }
+
+    @Test
+    void shouldKeepOptionsOfOtherPlaceholdersAsLiteral() {
+        ChangelogEntryTemplate template = ChangelogEntryTemplate.compile("{type:upper} {description}");
+
+        assertThat(template.render(message("feat", null, "x", false)))
+            .isEqualTo("{type:upper} x");
+    }
+
+    @Test
+    void shouldRenderTrailerValues() {
+        CommitMessage message = CommitMessage.of("fix(api): handle nulls\n\nDetails\n\nRefs: #1\nRefs: #2\nCloses #3");
+        ChangelogEntryTemplate template = ChangelogEntryTemplate.compile(
+            "{description} ({trailer:Refs}) ({trailer:closes}) ({trailer:Co-authored-by}) {trailer}"
+        );
+
+        assertThat(template.render(message))
+            .isEqualTo("handle nulls (#1, #2) (#3) {trailer}");
+    }
+
+    @Test
+    void shouldThrowOnInvalidDatePattern() {
+        assertThatThrownBy(() -> ChangelogEntryTemplate.compile("{date:yyyy-MM-dd'}"))
+            .isInstanceOf(GitWitException.class)
+            .hasMessage(this.i18nService.getMessage("changelog.error.invalid_date_pattern", "yyyy-MM-dd'"));
+    }
+}
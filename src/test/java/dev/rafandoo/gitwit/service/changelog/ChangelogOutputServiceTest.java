@@ -6,17 +6,21 @@ import dev.rafandoo.gitwit.service.I18nService;
 import dev.rafandoo.gitwit.service.MessageService;
 import dev.rafandoo.gitwit.service.TerminalService;
 import dev.rafandoo.gitwit.util.ClipboardUtil;
+import dev.rafandoo.gitwit.util.ContentWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -37,6 +41,11 @@ class ChangelogOutputServiceTest {
 
     TerminalService terminalService = new TerminalService();
 
+    ContentWriter content = out -> out.append("content");
+
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setup() {
         this.service = new ChangelogOutputService(this.writer, this.messageService, this.terminalService);
@@ -45,10 +54,10 @@ class ChangelogOutputServiceTest {
     @Test
     void shouldCopyToClipboardSuccessfully() {
         try (MockedStatic<ClipboardUtil> clipboardMock = mockStatic(ClipboardUtil.class)) {
-            clipboardMock.when(() -> ClipboardUtil.copyToClipboard("content"))
+            clipboardMock.when(() -> ClipboardUtil.copyToClipboard(this.content))
                 .thenReturn(true);
 
-            this.service.output("content", true, false, new GitWitConfig(), false);
+            this.service.output(this.content, true, false, new GitWitConfig(), false);
 
             verify(this.messageService).info("changelog.copied");
             verifyNoInteractions(this.writer);
@@ -58,11 +67,11 @@ class ChangelogOutputServiceTest {
     @Test
     void shouldThrowExceptionWhenClipboardCopyFails() {
         try (MockedStatic<ClipboardUtil> clipboardMock = mockStatic(ClipboardUtil.class)) {
-            clipboardMock.when(() -> ClipboardUtil.copyToClipboard("content"))
+            clipboardMock.when(() -> ClipboardUtil.copyToClipboard(this.content))
                 .thenReturn(false);
 
             assertThatThrownBy(() ->
-                this.service.output("content", true, false, new GitWitConfig(), false)
+                this.service.output(this.content, true, false, new GitWitConfig(), false)
             )
                 .isInstanceOf(GitWitException.class)
                 .hasMessage(this.i18nService.getMessage("changelog.error.clipboard"));
@@ -75,21 +84,21 @@ class ChangelogOutputServiceTest {
     @Test
     void shouldWriteChangelogToFileSuccessfully() throws IOException {
         Path path = Path.of("CHANGELOG.md");
-        when(this.writer.write(eq("content"), eq(true), any(GitWitConfig.class))).thenReturn(path);
+        when(this.writer.write(eq(this.content), eq(true), any(GitWitConfig.class))).thenReturn(path);
 
-        this.service.output("content", false, true, new GitWitConfig(), false);
+        this.service.output(this.content, false, true, new GitWitConfig(), false);
 
-        verify(this.writer).write(eq("content"), eq(true), any(GitWitConfig.class));
+        verify(this.writer).write(eq(this.content), eq(true), any(GitWitConfig.class));
         verify(this.messageService).success("changelog.written", path);
     }
 
     @Test
     void shouldThrowExceptionWhenWriteFails() throws IOException {
-        when(this.writer.write(anyString(), anyBoolean(), any(GitWitConfig.class)))
+        when(this.writer.write(any(ContentWriter.class), anyBoolean(), any(GitWitConfig.class)))
             .thenThrow(new IOException("disk error"));
 
         assertThatThrownBy(() ->
-            this.service.output("content", false, false, new GitWitConfig(), false)
+            this.service.output(this.content, false, false, new GitWitConfig(), false)
         )
             .isInstanceOf(GitWitException.class)
             .hasMessage(this.i18nService.getMessage("changelog.error.write"));
@@ -100,9 +109,42 @@ class ChangelogOutputServiceTest {
     @Test
     void shouldWriteChangelogToStdoutSuccessfully() {
         assertThatNoException()
-            .isThrownBy(() -> this.service.output("content", false, false, new GitWitConfig(), true));
+            .isThrownBy(() -> this.service.output(this.content, false, false, new GitWitConfig(), true));
 
         verifyNoInteractions(this.writer);
         verifyNoInteractions(this.messageService);
     }
+
+    @Test
+    void shouldReturnNullHeaderWhenChangelogFileDoesNotExist() throws IOException {
+        GitWitConfig config = new GitWitConfig();
+        when(this.writer.resolveFile(config)).thenReturn(this.tempDir.resolve("CHANGELOG.md"));
+
+        assertThat(this.service.readHeader(config)).isNull();
+
+        verify(this.writer, never()).readHeader(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNoReleaseIsDocumented() throws IOException {
+        GitWitConfig config = new GitWitConfig();
+        Path file = Files.writeString(this.tempDir.resolve("CHANGELOG.md"), "# Changelog\n");
+        when(this.writer.resolveFile(config)).thenReturn(file);
+        when(this.writer.readHeader(file)).thenReturn(null);
+
+        assertThatThrownBy(() -> this.service.readHeader(config))
+            .isInstanceOf(GitWitException.class)
+            .hasMessage(this.i18nService.getMessage("changelog.error.no_release", file.toString()));
+    }
+
+    @Test
+    void shouldInsertChangelogAboveLastRelease() throws IOException {
+        Path path = Path.of("CHANGELOG.md");
+        ChangelogHeader header = new ChangelogHeader(path, "v1.0.0", 13);
+        when(this.writer.insert(this.content, header)).thenReturn(path);
+
+        this.service.insert(this.content, header);
+
+        verify(this.messageService).success("changelog.written", path);
+    }
 }
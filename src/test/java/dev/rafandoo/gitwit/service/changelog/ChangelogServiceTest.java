@@ -8,20 +8,31 @@ import dev.rafandoo.gitwit.entity.CommitMessage;
 import dev.rafandoo.gitwit.enums.ChangelogScope;
 import dev.rafandoo.gitwit.exception.GitWitException;
 import dev.rafandoo.gitwit.mock.CommitMockFactory;
+import dev.rafandoo.gitwit.service.git.CommitRange;
+import dev.rafandoo.gitwit.service.git.CommitStream;
 import dev.rafandoo.gitwit.service.git.GitRepositoryService;
+import dev.rafandoo.gitwit.service.git.IgnoreRules;
+import dev.rafandoo.gitwit.service.git.ReleaseTag;
 import dev.rafandoo.gitwit.service.I18nService;
 import dev.rafandoo.gitwit.service.MessageService;
 import dev.rafandoo.gitwit.service.changelog.render.Renderer;
+import dev.rafandoo.gitwit.util.ContentWriter;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,6 +57,9 @@ class ChangelogServiceTest {
     @Mock
     ChangelogVersionResolver versionResolver;
 
+    @Mock
+    ChangelogCache cache;
+
     ChangelogService service;
 
     I18nService i18nService = new I18nService();
@@ -57,7 +71,8 @@ class ChangelogServiceTest {
             this.gitRepositoryService,
             this.renderer,
             this.outputService,
-            this.versionResolver
+            this.versionResolver,
+            this.cache
         );
     }
 
@@ -66,7 +81,7 @@ class ChangelogServiceTest {
     class Handle {
 
         @Test
-        void shouldGenerateRenderAndOutputChangelog() {
+        void shouldGenerateRenderAndOutputChangelog() throws IOException {
             TestUtils.setupConfig(".changelog.gitwit");
             GitWitConfig config = GitWitConfig.load();
             ChangelogOptions options = new ChangelogOptions(
@@ -88,11 +103,8 @@ class ChangelogServiceTest {
                 CommitMockFactory.mockCommit("b2", "fix: bug fix")
             );
 
-            when(gitRepositoryService.resolveCommits(eq("HEAD"), any(), any(), anyList()))
-                .thenReturn(new ArrayList<>(commits));
-
-            when(renderer.render(any(Changelog.class), eq(false)))
-                .thenReturn("rendered");
+            when(gitRepositoryService.streamCommits(eq("HEAD"), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(commits));
 
             service.handle(
                 "HEAD",
@@ -100,9 +112,13 @@ class ChangelogServiceTest {
                 config
             );
 
-            verify(renderer).render(any(Changelog.class), eq(false));
-            verify(outputService).output("rendered", false, false, config, false);
+            ArgumentCaptor<ContentWriter> content = ArgumentCaptor.forClass(ContentWriter.class);
+            verify(outputService).output(content.capture(), eq(false), eq(false), eq(config), eq(false));
             verify(messageService).success("changelog.generated");
+
+            StringBuilder out = new StringBuilder();
+            content.getValue().writeTo(out);
+            verify(renderer).render(any(Changelog.class), eq(false), same(out));
         }
 
         @Test
@@ -122,8 +138,8 @@ class ChangelogServiceTest {
                 new ChangelogOptions.VersionOptions()
             );
 
-            when(gitRepositoryService.resolveCommits(eq("HEAD"), any(), any(), anyList()))
-                .thenReturn(new ArrayList<>());
+            when(gitRepositoryService.streamCommits(eq("HEAD"), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(List.of()));
 
             service.handle(
                 "HEAD",
@@ -188,11 +204,8 @@ class ChangelogServiceTest {
                 CommitMockFactory.mockCommit("a1", "feat: test")
             );
 
-            when(gitRepositoryService.resolveCommits(anyString(), any(), any(), anyList()))
-                .thenReturn(commits);
-
-            when(renderer.render(any(Changelog.class), anyBoolean()))
-                .thenReturn("rendered");
+            when(gitRepositoryService.streamCommits(anyString(), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(commits));
 
             service.handle("HEAD", options, config);
 
@@ -204,7 +217,7 @@ class ChangelogServiceTest {
             TestUtils.setupConfig(".changelog.gitwit");
             GitWitConfig config = GitWitConfig.load();
 
-            ChangelogOptions.OutputOptions outputOptions = new ChangelogOptions.OutputOptions(false, true);
+            ChangelogOptions.OutputOptions outputOptions = new ChangelogOptions.OutputOptions(false, true, false);
 
             ChangelogOptions options = new ChangelogOptions(
                 null,
@@ -220,16 +233,253 @@ class ChangelogServiceTest {
                 CommitMockFactory.mockCommit("a1", "feat: test")
             );
 
-            when(gitRepositoryService.resolveCommits(anyString(), any(), any(), anyList()))
-                .thenReturn(commits);
-
-            when(renderer.render(any(Changelog.class), anyBoolean()))
-                .thenReturn("rendered");
+            when(gitRepositoryService.streamCommits(anyString(), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(commits));
 
             service.handle("HEAD", options, config);
 
             verify(messageService, never()).success(anyString());
         }
+
+        @Test
+        void shouldInsertChangesSinceLastDocumentedRelease() throws IOException {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            ChangelogOptions options = new ChangelogOptions(
+                null,
+                null,
+                false,
+                new ChangelogOptions.SubtitleOptions("v1.1.0", false),
+                new ChangelogOptions.OutputOptions(false, false, true),
+                new ChangelogOptions.TagOptions(),
+                new ChangelogOptions.VersionOptions()
+            );
+            ChangelogHeader header = new ChangelogHeader(Path.of("CHANGELOG.md"), "1.0.0", 13);
+            ObjectId release = ObjectId.fromString("1111111111111111111111111111111111111111");
+            ObjectId head = ObjectId.fromString("2222222222222222222222222222222222222222");
+            String range = release.name() + "..HEAD";
+
+            when(outputService.readHeader(config)).thenReturn(header);
+            when(gitRepositoryService.findCommit("1.0.0")).thenReturn(null);
+            when(gitRepositoryService.findCommit("v1.0.0")).thenReturn(release);
+            when(gitRepositoryService.resolveRange(range)).thenReturn(new CommitRange(release, head));
+            when(versionResolver.resolveSubtitle(options)).thenReturn("v1.1.0");
+            when(gitRepositoryService.streamCommits(eq(range), isNull(), isNull(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(List.of(CommitMockFactory.mockCommit("a1", "feat: test"))));
+
+            service.handle(null, options, config);
+
+            ArgumentCaptor<ContentWriter> content = ArgumentCaptor.forClass(ContentWriter.class);
+            verify(outputService).insert(content.capture(), same(header));
+            verify(outputService, never()).output(any(), anyBoolean(), anyBoolean(), any(), anyBoolean());
+            verify(messageService).success("changelog.generated");
+
+            StringBuilder out = new StringBuilder();
+            content.getValue().writeTo(out);
+            assertThat(out).hasToString("<!-- gitwit:release " + head.name() + " -->\n");
+            verify(renderer).render(any(Changelog.class), eq(true), any(Appendable.class));
+        }
+
+        @Test
+        void shouldRejectUnknownDocumentedRelease() throws IOException {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            ChangelogOptions options = new ChangelogOptions(
+                null,
+                null,
+                false,
+                new ChangelogOptions.SubtitleOptions(),
+                new ChangelogOptions.OutputOptions(false, false, true),
+                new ChangelogOptions.TagOptions(),
+                new ChangelogOptions.VersionOptions()
+            );
+
+            when(outputService.readHeader(config))
+                .thenReturn(new ChangelogHeader(Path.of("CHANGELOG.md"), "Unreleased", 13));
+
+            assertThatThrownBy(() -> service.handle(null, options, config))
+                .isInstanceOf(GitWitException.class);
+            verify(gitRepositoryService, never()).streamCommits(any(), any(), any(), any(IgnoreRules.class));
+        }
+
+        @Test
+        void shouldRejectRangeWhenChangelogDocumentsRelease() throws IOException {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            ChangelogOptions options = new ChangelogOptions(
+                null,
+                null,
+                false,
+                new ChangelogOptions.SubtitleOptions(),
+                new ChangelogOptions.OutputOptions(false, false, true),
+                new ChangelogOptions.TagOptions(false, "v1.1.0", false),
+                new ChangelogOptions.VersionOptions()
+            );
+
+            when(outputService.readHeader(config))
+                .thenReturn(new ChangelogHeader(Path.of("CHANGELOG.md"), "1.0.0", 13));
+
+            assertThatThrownBy(() -> service.handle(null, options, config))
+                .isInstanceOf(GitWitException.class)
+                .hasMessage(i18nService.getMessage("changelog.error.incremental_range", "CHANGELOG.md", "1.0.0"));
+            assertThatThrownBy(() -> service.handle("v1.0.0..HEAD", new ChangelogOptions(
+                null,
+                null,
+                false,
+                new ChangelogOptions.SubtitleOptions(),
+                new ChangelogOptions.OutputOptions(false, false, true),
+                new ChangelogOptions.TagOptions(),
+                new ChangelogOptions.VersionOptions()
+            ), config))
+                .isInstanceOf(GitWitException.class)
+                .hasMessage(i18nService.getMessage("changelog.error.incremental_range", "CHANGELOG.md", "1.0.0"));
+            verify(gitRepositoryService, never()).findCommit(any());
+            verify(gitRepositoryService, never()).streamCommits(any(), any(), any(), any(IgnoreRules.class));
+        }
+
+        @Test
+        void shouldRejectIncrementalAppend() throws IOException {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            ChangelogOptions options = new ChangelogOptions(
+                null,
+                null,
+                true,
+                new ChangelogOptions.SubtitleOptions(),
+                new ChangelogOptions.OutputOptions(false, false, true),
+                new ChangelogOptions.TagOptions(),
+                new ChangelogOptions.VersionOptions()
+            );
+
+            assertThatThrownBy(() -> service.handle(null, options, config))
+                .isInstanceOf(GitWitException.class)
+                .hasMessage(i18nService.getMessage("changelog.error.conflict"));
+            verify(outputService, never()).readHeader(any());
+        }
+
+        @Test
+        void shouldMarkFirstIncrementalRelease() throws IOException {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            ChangelogOptions options = new ChangelogOptions(
+                null,
+                null,
+                false,
+                new ChangelogOptions.SubtitleOptions(null, true),
+                new ChangelogOptions.OutputOptions(false, false, true),
+                new ChangelogOptions.TagOptions(),
+                new ChangelogOptions.VersionOptions()
+            );
+            ObjectId head = ObjectId.fromString("2222222222222222222222222222222222222222");
+
+            when(gitRepositoryService.findCommit("HEAD")).thenReturn(head);
+            when(gitRepositoryService.streamCommits(eq("HEAD"), isNull(), isNull(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(List.of(CommitMockFactory.mockCommit("a1", "feat: test"))));
+
+            service.handle("HEAD", options, config);
+
+            ArgumentCaptor<ContentWriter> content = ArgumentCaptor.forClass(ContentWriter.class);
+            verify(outputService).output(content.capture(), eq(false), eq(false), same(config), eq(false));
+
+            StringBuilder out = new StringBuilder();
+            content.getValue().writeTo(out);
+            assertThat(out.toString()).endsWith("<!-- gitwit:release " + head.name() + " -->\n");
+            verify(renderer).render(any(Changelog.class), eq(true), any(Appendable.class));
+        }
+
+        @Test
+        void shouldGenerateOneChangelogPerReleaseNewestFirst() throws IOException {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            ChangelogOptions options = new ChangelogOptions(
+                null,
+                null,
+                false,
+                new ChangelogOptions.SubtitleOptions(),
+                new ChangelogOptions.OutputOptions(),
+                new ChangelogOptions.TagOptions(false, null, true),
+                new ChangelogOptions.VersionOptions()
+            );
+
+            List<ReleaseTag> releases = List.of(
+                new ReleaseTag("v1.0.0", ObjectId.fromString("1111111111111111111111111111111111111111")),
+                new ReleaseTag("v1.1.0", ObjectId.fromString("2222222222222222222222222222222222222222")),
+                new ReleaseTag("v2.0.0", ObjectId.fromString("3333333333333333333333333333333333333333"))
+            );
+            Changelog cached = new Changelog(null, null, List.of(), Map.of("Features", List.of("cached")), List.of());
+
+            when(gitRepositoryService.listReleases()).thenReturn(releases);
+            when(cache.get(any(ChangelogCache.Key.class))).thenAnswer(invocation -> {
+                ChangelogCache.Key key = invocation.getArgument(0);
+                return key.to().equals(releases.get(1).commitId()) ? cached : null;
+            });
+            doAnswer(invocation -> {
+                IntPredicate included = invocation.getArgument(1);
+                assertThat(included.test(1)).isFalse();
+                ObjIntConsumer<RevCommit> consumer = invocation.getArgument(3);
+                consumer.accept(CommitMockFactory.mockCommit("c3", "feat: new release feature"), 2);
+                consumer.accept(CommitMockFactory.mockCommit("a1", "feat: first feature"), 0);
+                return null;
+            }).when(gitRepositoryService).walkReleases(eq(releases), any(), any(IgnoreRules.class), any());
+
+            service.handle(null, options, config);
+
+            ArgumentCaptor<ContentWriter> content = ArgumentCaptor.forClass(ContentWriter.class);
+            verify(outputService).output(content.capture(), eq(false), eq(false), eq(config), eq(false));
+            verify(messageService).success("changelog.generated");
+            verify(cache, times(2)).put(any(ChangelogCache.Key.class), any(Changelog.class));
+            verifyNoInteractions(versionResolver);
+
+            content.getValue().writeTo(new StringBuilder());
+            ArgumentCaptor<Changelog> changelogs = ArgumentCaptor.forClass(Changelog.class);
+            verify(renderer, times(3)).render(changelogs.capture(), eq(false), any(Appendable.class));
+            assertThat(changelogs.getAllValues())
+                .extracting(Changelog::subtitle)
+                .containsExactly("v2.0.0", "v1.1.0", "v1.0.0");
+            assertThat(changelogs.getAllValues().get(1).sections()).isEqualTo(cached.sections());
+            assertThat(changelogs.getAllValues().get(1).title()).isNull();
+        }
+
+        @Test
+        void shouldReuseCachedEntriesOfRange() {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            CommitRange range = new CommitRange(
+                ObjectId.fromString("1111111111111111111111111111111111111111"),
+                ObjectId.fromString("2222222222222222222222222222222222222222")
+            );
+            Changelog cached = new Changelog(null, null, List.of(), Map.of("Features", List.of("cached")), List.of());
+
+            when(gitRepositoryService.resolveRange("v1.0.0..v1.1.0")).thenReturn(range);
+            when(cache.get(any(ChangelogCache.Key.class))).thenReturn(cached);
+
+            service.handle("v1.0.0..v1.1.0", new ChangelogOptions(), config);
+
+            verify(gitRepositoryService, never()).streamCommits(any(), any(), any(), any(IgnoreRules.class));
+            verify(cache, never()).put(any(), any());
+            verify(outputService).output(any(ContentWriter.class), eq(false), eq(false), eq(config), eq(false));
+        }
+
+        @Test
+        void shouldCacheEntriesOfWalkedRange() {
+            TestUtils.setupConfig(".changelog.gitwit");
+            GitWitConfig config = GitWitConfig.load();
+            CommitRange range = new CommitRange(
+                ObjectId.fromString("1111111111111111111111111111111111111111"),
+                ObjectId.fromString("2222222222222222222222222222222222222222")
+            );
+
+            when(gitRepositoryService.resolveRange("v1.0.0..v1.1.0")).thenReturn(range);
+            when(gitRepositoryService.streamCommits(eq("v1.0.0..v1.1.0"), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(List.of(CommitMockFactory.mockCommit("a1", "feat: test"))));
+
+            service.handle("v1.0.0..v1.1.0", new ChangelogOptions(), config);
+
+            ArgumentCaptor<ChangelogCache.Key> key = ArgumentCaptor.forClass(ChangelogCache.Key.class);
+            verify(cache).put(key.capture(), any(Changelog.class));
+            assertThat(key.getValue().from()).isEqualTo(range.from());
+            assertThat(key.getValue().to()).isEqualTo(range.to());
+        }
     }
 
     @Nested
@@ -368,7 +618,7 @@ class ChangelogServiceTest {
             TestUtils.setupConfig(".changelog.gitwit");
             GitWitConfig config = GitWitConfig.load();
 
-            ChangelogOptions.TagOptions tagOptions = new ChangelogOptions.TagOptions(true, null);
+            ChangelogOptions.TagOptions tagOptions = new ChangelogOptions.TagOptions(true, null, false);
 
             ChangelogOptions options = new ChangelogOptions(
                 null,
@@ -387,16 +637,13 @@ class ChangelogServiceTest {
                 CommitMockFactory.mockCommit("a1", "feat: test")
             );
 
-            when(gitRepositoryService.resolveCommits(anyString(), any(), any(), anyList()))
-                .thenReturn(commits);
-
-            when(renderer.render(any(Changelog.class), anyBoolean()))
-                .thenReturn("rendered");
+            when(gitRepositoryService.streamCommits(anyString(), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(commits));
 
             service.handle("HEAD", options, config);
 
             verify(gitRepositoryService)
-                .resolveCommits(eq("v1.0.0..HEAD"), any(), any(), anyList());
+                .streamCommits(eq("v1.0.0..HEAD"), any(), any(), any(IgnoreRules.class));
         }
 
         @Test
@@ -404,7 +651,7 @@ class ChangelogServiceTest {
             TestUtils.setupConfig(".changelog.gitwit");
             GitWitConfig config = GitWitConfig.load();
 
-            ChangelogOptions.TagOptions tagOptions = new ChangelogOptions.TagOptions(false, "v2.0.0");
+            ChangelogOptions.TagOptions tagOptions = new ChangelogOptions.TagOptions(false, "v2.0.0", false);
 
             ChangelogOptions options = new ChangelogOptions(
                 null,
@@ -423,11 +670,8 @@ class ChangelogServiceTest {
                 CommitMockFactory.mockCommit("a1", "feat: test")
             );
 
-            when(gitRepositoryService.resolveCommits(anyString(), any(), any(), anyList()))
-                .thenReturn(commits);
-
-            when(renderer.render(any(Changelog.class), anyBoolean()))
-                .thenReturn("rendered");
+            when(gitRepositoryService.streamCommits(anyString(), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(commits));
 
             service.handle("HEAD", options, config);
 
@@ -435,7 +679,7 @@ class ChangelogServiceTest {
                 .warn("changelog.warn.no_previous_tag", "v2.0.0");
 
             verify(gitRepositoryService)
-                .resolveCommits(eq("v2.0.0^..v2.0.0"), any(), any(), anyList());
+                .streamCommits(eq("v2.0.0^..v2.0.0"), any(), any(), any(IgnoreRules.class));
         }
 
         @Test
@@ -447,8 +691,8 @@ class ChangelogServiceTest {
                 CommitMockFactory.mockCommit("a1", ".")
             );
 
-            when(gitRepositoryService.resolveCommits(anyString(), any(), any(), anyList()))
-                .thenReturn(commit);
+            when(gitRepositoryService.streamCommits(anyString(), any(), any(), any(IgnoreRules.class)))
+                .thenReturn(CommitStream.of(commit));
 
             service.handle("HEAD", new ChangelogOptions(), config);
 
@@ -1,11 +1,17 @@
 package dev.rafandoo.gitwit.service.changelog;
 
 import dev.rafandoo.gitwit.config.GitWitConfig;
+import dev.rafandoo.gitwit.entity.Changelog;
 import dev.rafandoo.gitwit.enums.ConfigPaths;
+import dev.rafandoo.gitwit.service.I18nService;
+import dev.rafandoo.gitwit.service.changelog.render.ChangelogMarkdownRenderer;
 import dev.rafandoo.gitwit.service.git.GitService;
+import dev.rafandoo.gitwit.util.ContentWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
@@ -14,6 +20,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.*;
@@ -30,6 +40,10 @@ class ChangelogWriterTest {
     @TempDir
     Path repoDir;
 
+    private static ContentWriter content(String text) {
+        return out -> out.append(text);
+    }
+
     @BeforeEach
     void setup() {
         when(this.gitService.getRepo())
@@ -39,7 +53,7 @@ class ChangelogWriterTest {
 
     @Test
     void shouldWriteChangelogOverwritingExistingFile() throws IOException {
-        Path result = this.writer.write("first content", false, new GitWitConfig());
+        Path result = this.writer.write(content("first content"), false, new GitWitConfig());
 
         assertThat(Files.exists(result)).isTrue();
         assertThat(result.getFileName().toString())
@@ -51,7 +65,7 @@ class ChangelogWriterTest {
 
     @Test
     void shouldAppendWithoutSeparatorWhenFileDoesNotExist() throws IOException {
-        Path result = this.writer.write("initial content", true, new GitWitConfig());
+        Path result = this.writer.write(content("initial content"), true, new GitWitConfig());
 
         String fileContent = Files.readString(result);
         assertThat(fileContent).isEqualTo("initial content");
@@ -62,13 +76,28 @@ class ChangelogWriterTest {
         Path file = this.repoDir.resolve(ConfigPaths.CHANGELOG_FILE.get().asString());
         Files.writeString(file, "existing content");
 
-        this.writer.write("new content", true, new GitWitConfig());
+        this.writer.write(content("new content"), true, new GitWitConfig());
 
         String fileContent = Files.readString(file);
         assertThat(fileContent)
             .isEqualTo("existing content\n\nnew content");
     }
 
+    @Test
+    void shouldSeparateAppendedChangelogsByOneBlankLine() throws IOException {
+        ChangelogMarkdownRenderer renderer = new ChangelogMarkdownRenderer(new I18nService());
+        Changelog first = new Changelog("Changelog", "v1.0.0", List.of(), Map.of("Features", List.of("a")), List.of());
+        Changelog second = new Changelog("Changelog", "v1.1.0", List.of(), Map.of("Fixes", List.of("b")), List.of());
+
+        Path file = this.writer.write(out -> renderer.render(first, false, out), false, new GitWitConfig());
+        this.writer.write(out -> renderer.render(second, true, out), true, new GitWitConfig());
+
+        assertThat(Files.readString(file)).isEqualTo(
+            "# Changelog\n\n## v1.0.0\n\n### Features\n\n- a"
+                + "\n\n## v1.1.0\n\n### Fixes\n\n- b"
+        );
+    }
+
     @Test
     void shouldUseCustomFilePathWhenConfiguredPathIsFile() throws IOException {
         Path customFile = this.repoDir.resolve("my-changelog.md");
@@ -76,7 +105,7 @@ class ChangelogWriterTest {
         GitWitConfig config = new GitWitConfig();
         config.getChangelog().setFilepath(customFile.toString());
 
-        Path result = this.writer.write("custom content", false, config);
+        Path result = this.writer.write(content("custom content"), false, config);
 
         assertThat(result).isEqualTo(customFile);
         assertThat(Files.readString(result)).isEqualTo("custom content");
@@ -90,7 +119,7 @@ class ChangelogWriterTest {
         GitWitConfig config = new GitWitConfig();
         config.getChangelog().setFilepath(customDir.toString());
 
-        Path result = this.writer.write("dir content", false, config);
+        Path result = this.writer.write(content("dir content"), false, config);
 
         Path expected = customDir.resolve(
             ConfigPaths.CHANGELOG_FILE.get().asString()
@@ -108,9 +137,81 @@ class ChangelogWriterTest {
         GitWitConfig config = new GitWitConfig();
         config.getChangelog().setFilepath(customFile.toString());
 
-        Path result = this.writer.write("new", false, config);
+        Path result = this.writer.write(content("new"), false, config);
 
         assertThat(result).isEqualTo(customFile);
         assertThat(Files.readString(customFile)).isEqualTo("new");
     }
+
+    @Test
+    void shouldStreamLargeContent() throws IOException {
+        String line = "- entry with some text\n";
+
+        Path result = this.writer.write(out -> {
+            for (int i = 0; i < 10_000; i++) {
+                out.append(line);
+            }
+        }, false, new GitWitConfig());
+
+        assertThat(Files.size(result)).isEqualTo(10_000L * line.length());
+    }
+
+    @Test
+    void shouldReadLastReleaseFromHeading() throws IOException {
+        Path file = this.writer.resolveFile(new GitWitConfig());
+        Files.writeString(file, "# Changelog\n\n## [1.2.0] - 2024-01-01\n\n### Features\n\n- a\n");
+
+        ChangelogHeader header = this.writer.readHeader(file);
+
+        assertThat(header).isEqualTo(new ChangelogHeader(file, "1.2.0", 13));
+    }
+
+    @Test
+    void shouldReadLastReleaseFromMarker() throws IOException {
+        Path file = this.writer.resolveFile(new GitWitConfig());
+        Files.writeString(file, "# Changelog\n\n<!-- gitwit:release v1.2.0 -->\n## Summer release\n");
+
+        ChangelogHeader header = this.writer.readHeader(file);
+
+        assertThat(header).isEqualTo(new ChangelogHeader(file, "v1.2.0", 13));
+    }
+
+    @Test
+    void shouldOnlyScanFileHeader() throws IOException {
+        Path file = this.writer.resolveFile(new GitWitConfig());
+        Files.writeString(file, "# Changelog\n\n" + "text\n".repeat(100_000) + "## v1.0.0\n");
+
+        assertThat(this.writer.readHeader(file)).isNull();
+    }
+
+    @Test
+    void shouldInsertContentAboveLastRelease() throws IOException {
+        Path file = this.writer.resolveFile(new GitWitConfig());
+        Files.writeString(file, "# Changelog\n\n## v1.0.0\n\n- a\n");
+
+        Path result = this.writer.insert(content("## v1.1.0\n\n- b"), this.writer.readHeader(file));
+
+        assertThat(result).isEqualTo(file);
+        assertThat(Files.readString(file))
+            .isEqualTo("# Changelog\n\n## v1.1.0\n\n- b\n\n## v1.0.0\n\n- a\n");
+        try (Stream<Path> files = Files.list(this.repoDir)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void shouldInsertThroughSymlinkKeepingPermissions() throws IOException {
+        Path target = Files.createDirectory(this.repoDir.resolve("docs")).resolve("CHANGELOG.md");
+        Files.writeString(target, "## v1.0.0\n\n- a\n");
+        Files.setPosixFilePermissions(target, PosixFilePermissions.fromString("rw-rw-r--"));
+        Path link = Files.createSymbolicLink(this.writer.resolveFile(new GitWitConfig()), target);
+
+        Path result = this.writer.insert(content("## v1.1.0\n\n- b"), this.writer.readHeader(link));
+
+        assertThat(result).isEqualTo(link);
+        assertThat(Files.isSymbolicLink(link)).isTrue();
+        assertThat(Files.readString(target)).isEqualTo("## v1.1.0\n\n- b\n\n## v1.0.0\n\n- a\n");
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(target))).isEqualTo("rw-rw-r--");
+    }
 }
@@ -0,0 +1,28 @@
+package dev.rafandoo.gitwit.service.changelog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SymbolTable Tests")
+class SymbolTableTest {
+
+    @Test
+    void shouldAssignDenseIdsInFirstSeenOrder() {
+        SymbolTable table = new SymbolTable();
+
+        assertThat(table.intern("feat")).isZero();
+        assertThat(table.intern("fix")).isEqualTo(1);
+        assertThat(table.intern(new String("feat"))).isZero();
+        assertThat(table.intern("docs")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMapNullToNone() {
+        SymbolTable table = new SymbolTable();
+
+        assertThat(table.intern(null)).isEqualTo(SymbolTable.NONE);
+        assertThat(table.intern("feat")).isZero();
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -100,4 +102,25 @@ class ChangelogMarkdownRendererTest {
         assertThat(result).doesNotContain("Breaking Changes");
         assertThat(result).doesNotContain("Other");
     }
+
+    @Test
+    void shouldStreamMarkdownIntoAppendable() throws IOException {
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        sections.put("Features", List.of("New login flow", "Dark mode"));
+        Changelog changelog = new Changelog("Release", "v1.0.0", List.of("API change"), sections, List.of());
+
+        StringBuilder out = new StringBuilder();
+        this.renderer.render(changelog, false, out);
+
+        assertThat(out).hasToString(
+            "# Release\n\n"
+                + "## v1.0.0\n\n"
+                + "### Breaking Changes\n\n"
+                + "- API change\n\n"
+                + "### Features\n\n"
+                + "- New login flow\n"
+                + "- Dark mode"
+        );
+        assertThat(this.renderer.render(changelog, false)).isEqualTo(out.toString());
+    }
 }
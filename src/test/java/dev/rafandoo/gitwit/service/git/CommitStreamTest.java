@@ -0,0 +1,69 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.mock.CommitMockFactory;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CommitStream Tests")
+class CommitStreamTest {
+
+    @TempDir
+    Path repoDir;
+
+    @Test
+    void shouldStreamWalkedCommitsAndDisposeConsumedBodies() throws Exception {
+        try (Git git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+            for (String message : List.of("feat: one", "chore: two", "fix: three")) {
+                git.commit().setMessage(message).setAllowEmpty(true).setSign(false).call();
+            }
+
+            RevWalk walk = new RevWalk(git.getRepository());
+            walk.markStart(walk.parseCommit(git.getRepository().resolve("HEAD")));
+
+            List<String> messages = new ArrayList<>();
+            List<RevCommit> consumed = new ArrayList<>();
+            try (CommitStream commits = CommitStream.of(walk, walk.iterator(), c -> !c.getShortMessage().startsWith("chore"))) {
+                for (RevCommit commit : commits) {
+                    consumed.forEach(previous -> assertThat(previous.getRawBuffer()).isNull());
+                    assertThat(commit.getRawBuffer()).isNotNull();
+                    messages.add(commit.getShortMessage());
+                    consumed.add(commit);
+                }
+            }
+
+            assertThat(messages).containsExactly("fix: three", "feat: one");
+            assertThat(consumed).allSatisfy(commit -> assertThat(commit.getRawBuffer()).isNull());
+        }
+    }
+
+    @Test
+    void shouldLeaveBodiesOfCallerCommitsUntouched() {
+        RevCommit commit = CommitMockFactory.mockCommit("a1", "feat: test");
+
+        try (CommitStream commits = CommitStream.of(List.of(commit))) {
+            assertThat(commits).containsExactly(commit);
+        }
+    }
+
+    @Test
+    void shouldOnlyBeIteratedOnce() {
+        try (CommitStream commits = CommitStream.of(List.of())) {
+            Iterator<RevCommit> iterator = commits.iterator();
+
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(commits::iterator).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
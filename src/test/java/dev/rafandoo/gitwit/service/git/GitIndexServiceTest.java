@@ -0,0 +1,85 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.service.MessageService;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraph;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraphLoader;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitIndexService Tests")
+class GitIndexServiceTest {
+
+    @Mock
+    GitService gitService;
+
+    @Mock
+    MessageService messageService;
+
+    @TempDir
+    Path repoDir;
+
+    Git git;
+    GitSession session;
+    GitIndexService service;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.git = Git.init().setDirectory(this.repoDir.toFile()).call();
+        this.session = new GitSession().open(this.repoDir.resolve(".git"));
+        lenient().when(this.gitService.session()).thenReturn(this.session);
+        this.service = new GitIndexService(this.gitService, this.messageService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.session.close();
+        this.git.close();
+    }
+
+    @Test
+    void shouldWriteCommitGraphReadableByJGit() throws Exception {
+        List<RevCommit> commits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            commits.add(this.git.commit().setMessage("feat: commit " + i).setAllowEmpty(true).call());
+        }
+        this.git.tag().setName("v1.0.0").setObjectId(commits.get(2)).setAnnotated(true).setMessage("v1.0.0").call();
+
+        int written = this.service.writeCommitGraph();
+
+        File file = this.repoDir.resolve(".git").resolve(Constants.OBJECTS).resolve(Constants.INFO_COMMIT_GRAPH).toFile();
+        CommitGraph graph = CommitGraphLoader.open(file);
+        assertThat(written).isEqualTo(commits.size());
+        assertThat(graph.getCommitCnt()).isEqualTo(commits.size());
+        for (int i = 0; i < commits.size(); i++) {
+            RevCommit commit = commits.get(i);
+            int position = graph.findGraphPosition(commit);
+            assertThat(position).isNotNegative();
+
+            CommitGraph.CommitData data = graph.getCommitData(position);
+            assertThat(data.getTree()).isEqualTo(commit.getTree().getId());
+            assertThat(data.getCommitTime()).isEqualTo(commit.getCommitTime());
+            assertThat(data.getGeneration()).isEqualTo(i + 1);
+            if (i > 0) {
+                assertThat(graph.getObjectId(data.getParents()[0])).isEqualTo(commits.get(i - 1).getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.service.MessageService;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitLintCacheService Tests")
+class GitLintCacheServiceTest {
+
+    private static final ObjectId RULES = ObjectId.fromString("0123456789abcdef0123456789abcdef01234567");
+    private static final ObjectId OTHER_RULES = ObjectId.fromString("76543210fedcba9876543210fedcba9876543210");
+
+    @Mock
+    GitService gitService;
+
+    @Mock
+    MessageService messageService;
+
+    @TempDir
+    Path repoDir;
+
+    Git git;
+    GitSession session;
+    GitLintCacheService service;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.git = Git.init().setDirectory(this.repoDir.toFile()).call();
+        this.session = new GitSession().open(this.repoDir.resolve(".git"));
+        lenient().when(this.gitService.session()).thenReturn(this.session);
+        this.service = new GitLintCacheService(this.gitService, this.messageService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.session.close();
+        this.git.close();
+    }
+
+    private static List<ObjectId> ids(int from, int to) {
+        List<ObjectId> ids = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            ids.add(ObjectId.fromString(String.format("%040x", (long) i * 2_654_435_761L)));
+        }
+        return ids;
+    }
+
+    private File cacheFile() {
+        return this.repoDir.resolve(".git").resolve(GitLintCacheService.CACHE_FILE).toFile();
+    }
+
+    @Test
+    void shouldLoadEmptyVerdictsWithoutCache() {
+        LintVerdicts verdicts = this.service.load(RULES);
+
+        assertThat(verdicts.size()).isZero();
+        assertThat(verdicts.passed(ids(0, 1).getFirst())).isFalse();
+    }
+
+    @Test
+    void shouldRecordAndAppendPassingCommits() {
+        List<ObjectId> first = ids(0, 100);
+        this.service.record(this.service.load(RULES), first);
+        long compacted = this.cacheFile().length();
+
+        List<ObjectId> second = ids(100, 150);
+        this.service.record(this.service.load(RULES), second);
+
+        assertThat(this.cacheFile().length()).isEqualTo(compacted + 50L * 20);
+        LintVerdicts verdicts = this.service.load(RULES);
+        assertThat(verdicts.size()).isEqualTo(150);
+        assertThat(first).allMatch(verdicts::passed);
+        assertThat(second).allMatch(verdicts::passed);
+        assertThat(ids(150, 200)).noneMatch(verdicts::passed);
+    }
+
+    @Test
+    void shouldCompactOnceAppendedCommitsOutnumberSortedOnes() {
+        this.service.record(this.service.load(RULES), ids(0, 10));
+        this.service.record(this.service.load(RULES), ids(10, 5_000));
+
+        LintVerdicts verdicts = this.service.load(RULES);
+        assertThat(verdicts.sortedCount()).isEqualTo(5_000);
+        assertThat(verdicts.appendedCount()).isZero();
+        assertThat(ids(0, 5_000)).allMatch(verdicts::passed);
+    }
+
+    @Test
+    void shouldIgnoreCacheOfOtherRules() {
+        this.service.record(this.service.load(OTHER_RULES), ids(0, 10));
+
+        LintVerdicts verdicts = this.service.load(RULES);
+        assertThat(verdicts.size()).isZero();
+
+        this.service.record(verdicts, ids(10, 20));
+        assertThat(this.service.load(OTHER_RULES).size()).isZero();
+        assertThat(this.service.load(RULES).size()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotAppendToCacheCompactedForOtherRulesSinceLoad() {
+        this.service.record(this.service.load(RULES), ids(0, 10));
+        LintVerdicts verdicts = this.service.load(RULES);
+        this.service.record(this.service.load(OTHER_RULES), ids(100, 110));
+
+        this.service.record(verdicts, ids(10, 20));
+
+        assertThat(this.service.load(OTHER_RULES).size()).isZero();
+        LintVerdicts recorded = this.service.load(RULES);
+        assertThat(recorded.size()).isEqualTo(10);
+        assertThat(ids(10, 20)).allMatch(recorded::passed);
+    }
+
+    @Test
+    void shouldSkipRecordingWhileCacheIsLocked() throws Exception {
+        this.service.record(this.service.load(RULES), ids(0, 10));
+        long length = this.cacheFile().length();
+        File lock = new File(this.cacheFile().getPath() + ".lock");
+        Files.createFile(lock.toPath());
+
+        this.service.record(this.service.load(RULES), ids(10, 20));
+
+        assertThat(this.cacheFile().length()).isEqualTo(length);
+        verify(this.messageService).debug(eq("git.lint_cache.error.locked"), any(File.class));
+    }
+
+    @Test
+    void shouldRecoverFromTornAppend() throws Exception {
+        this.service.record(this.service.load(RULES), ids(0, 10));
+        Files.write(this.cacheFile().toPath(), new byte[7], StandardOpenOption.APPEND);
+
+        LintVerdicts verdicts = this.service.load(RULES);
+        assertThat(verdicts.size()).isEqualTo(10);
+
+        this.service.record(verdicts, ids(10, 20));
+        LintVerdicts recovered = this.service.load(RULES);
+        assertThat(recovered.appendedCount()).isZero();
+        assertThat(ids(0, 20)).allMatch(recovered::passed);
+    }
+}
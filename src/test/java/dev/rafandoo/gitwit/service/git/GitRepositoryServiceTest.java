@@ -0,0 +1,203 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.service.MessageService;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitRepositoryService Tests")
+class GitRepositoryServiceTest {
+
+    @Mock
+    GitService gitService;
+
+    @Mock
+    MessageService messageService;
+
+    @TempDir
+    Path repoDir;
+
+    Git git;
+    RevCommit major;
+    RevCommit backport;
+    RevCommit patch;
+    GitSession session;
+    GitRepositoryService service;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.git = Git.init().setDirectory(this.repoDir.toFile()).setInitialBranch("main").call();
+
+        // main: v2.3.0 (t=100) -> v3.0.0 (t=200); maint: v2.3.0 -> v2.3.1 (t=300)
+        RevCommit base = this.commit("feat: base", 100);
+        this.git.tag().setName("v2.3.0-rc.1").setObjectId(base).setAnnotated(false).call();
+        this.git.tag().setName("v2.3.0").setObjectId(base).setMessage("v2.3.0").call();
+        this.major = this.commit("feat!: major", 200);
+        this.git.tag().setName("v3.0.0").setObjectId(this.major).setMessage("v3.0.0").call();
+
+        this.git.checkout().setCreateBranch(true).setName("maint").setStartPoint(base).call();
+        this.backport = this.commit("fix: back-port", 250);
+        this.patch = this.commit("fix: patch", 300);
+        this.git.tag().setName("v2.3.1").setObjectId(this.patch).setAnnotated(false).call();
+
+        this.session = new GitSession().open(this.repoDir.resolve(".git"));
+        lenient().when(this.gitService.session()).thenReturn(this.session);
+        this.service = new GitRepositoryService(this.gitService, this.messageService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.session.close();
+        this.git.close();
+    }
+
+    private RevCommit commit(String message, long time) throws Exception {
+        PersonIdent ident = new PersonIdent("GitWit", "gitwit@example.com", Instant.ofEpochSecond(time), ZoneOffset.UTC);
+        return this.git.commit()
+            .setMessage(message)
+            .setAllowEmpty(true)
+            .setAuthor(ident)
+            .setCommitter(ident)
+            .call();
+    }
+
+    @Test
+    void shouldResolvePreviousTagByAncestry() {
+        assertThat(this.service.getPreviousTag("v2.3.1")).isEqualTo("v2.3.0");
+        assertThat(this.service.getPreviousTag("v3.0.0")).isEqualTo("v2.3.0");
+    }
+
+    @Test
+    void shouldSkipTagsOnSameCommit() throws Exception {
+        this.git.tag().setName("v3.0.0-rc.1").setObjectId(this.major).setAnnotated(false).call();
+        this.session.invalidate();
+
+        assertThat(this.service.getPreviousTag("v3.0.0")).isEqualTo("v2.3.0");
+        assertThat(this.service.getPreviousTag("v3.0.0-rc.1")).isEqualTo("v2.3.0");
+        assertThat(this.service.getPreviousTag("v2.3.0")).isNull();
+        assertThat(this.service.getPreviousTag("v2.3.0-rc.1")).isNull();
+    }
+
+    @Test
+    void shouldResolvePreviousTagOfAnyRevSpec() {
+        assertThat(this.service.getPreviousTag("maint~1")).isEqualTo("v2.3.0");
+        assertThat(this.service.getPreviousTag("main")).isEqualTo("v2.3.0");
+    }
+
+    @Test
+    void shouldResolveLatestTagReachableFromHead() throws Exception {
+        assertThat(this.service.getLatestTag()).isEqualTo("v2.3.1");
+
+        this.git.checkout().setName("main").call();
+        this.session.invalidate();
+
+        assertThat(this.service.getLatestTag()).isEqualTo("v3.0.0");
+    }
+
+    @Test
+    void shouldListReleasesBySemVerPrecedence() {
+        assertThat(this.service.listReleases())
+            .extracting(ReleaseTag::name)
+            .containsExactly("v2.3.0-rc.1", "v2.3.0", "v2.3.1", "v3.0.0");
+    }
+
+    @Test
+    void shouldStreamOnlyCommitsNewToRemote() throws Exception {
+        RefUpdate remoteMain = this.git.getRepository().updateRef("refs/remotes/origin/main");
+        remoteMain.setNewObjectId(this.major);
+        remoteMain.update();
+        List<PushUpdate> updates = List.of(
+            PushUpdate.parse("refs/heads/maint " + this.patch.name() + " refs/heads/maint " + ObjectId.zeroId().name()),
+            PushUpdate.parse("(delete) " + ObjectId.zeroId().name() + " refs/heads/old " + this.major.name())
+        );
+
+        List<String> pushed = new ArrayList<>();
+        try (CommitStream commits = this.service.streamPushedCommits("origin", null, updates, IgnoreRules.NONE)) {
+            commits.iterator().forEachRemaining(commit -> pushed.add(commit.getShortMessage()));
+        }
+
+        assertThat(pushed).containsExactly("fix: patch", "fix: back-port");
+    }
+
+    @Test
+    void shouldStreamNothingWhenRemoteHasPushedCommits() throws Exception {
+        RefUpdate remoteMaint = this.git.getRepository().updateRef("refs/remotes/origin/maint");
+        remoteMaint.setNewObjectId(this.patch);
+        remoteMaint.update();
+        List<PushUpdate> updates = List.of(
+            PushUpdate.parse("refs/heads/release " + this.backport.name() + " refs/heads/release " + ObjectId.zeroId().name())
+        );
+
+        try (CommitStream commits = this.service.streamPushedCommits("origin", null, updates, IgnoreRules.NONE)) {
+            assertThat(commits.iterator().hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldMapPushUrlToConfiguredRemote() throws Exception {
+        this.configureRemote("origin", "https://example.com/repo.git");
+        this.configureRemote("mirror", "https://example.com/mirror.git");
+        RefUpdate remoteMaint = this.git.getRepository().updateRef("refs/remotes/origin/maint");
+        remoteMaint.setNewObjectId(this.backport);
+        remoteMaint.update();
+        RefUpdate mirrorMaint = this.git.getRepository().updateRef("refs/remotes/mirror/maint");
+        mirrorMaint.setNewObjectId(this.patch);
+        mirrorMaint.update();
+        List<PushUpdate> updates = List.of(
+            PushUpdate.parse("refs/heads/maint " + this.patch.name() + " refs/heads/maint " + ObjectId.zeroId().name())
+        );
+
+        List<String> pushed = new ArrayList<>();
+        String url = "https://example.com/repo.git";
+        try (CommitStream commits = this.service.streamPushedCommits(url, url, updates, IgnoreRules.NONE)) {
+            commits.iterator().forEachRemaining(commit -> pushed.add(commit.getShortMessage()));
+        }
+
+        assertThat(pushed).containsExactly("fix: patch");
+    }
+
+    @Test
+    void shouldExcludeEveryRemoteWhenPushUrlIsUnknown() throws Exception {
+        RefUpdate remoteMaint = this.git.getRepository().updateRef("refs/remotes/mirror/maint");
+        remoteMaint.setNewObjectId(this.backport);
+        remoteMaint.update();
+        List<PushUpdate> updates = List.of(
+            PushUpdate.parse("refs/heads/maint " + this.patch.name() + " refs/heads/maint " + ObjectId.zeroId().name())
+        );
+
+        List<String> pushed = new ArrayList<>();
+        String url = "https://example.com/other.git";
+        try (CommitStream commits = this.service.streamPushedCommits(url, url, updates, IgnoreRules.NONE)) {
+            commits.iterator().forEachRemaining(commit -> pushed.add(commit.getShortMessage()));
+        }
+
+        assertThat(pushed).containsExactly("fix: patch");
+    }
+
+    private void configureRemote(String name, String url) throws Exception {
+        StoredConfig config = this.session.repository().getConfig();
+        config.setString("remote", name, "url", url);
+        config.save();
+    }
+}
@@ -0,0 +1,106 @@
+package dev.rafandoo.gitwit.service.git;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IgnoreRules Tests")
+class IgnoreRulesTest {
+
+    private static final List<String> DEFAULT_RULES = List.of("Merge", "Revert", "Pull request", "fixup!", "squash!");
+
+    @Test
+    void shouldIgnoreMergeCommitsByParentCount() {
+        IgnoreRules rules = IgnoreRules.compile(DEFAULT_RULES, false);
+
+        assertThat(rules.ignores(commit("feat: integrate side branch", 2))).isTrue();
+        assertThat(rules.ignores(commit("feat: Merge sort implementation", 1))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreCommitsMatchingLiteralRules() {
+        IgnoreRules rules = IgnoreRules.compile(DEFAULT_RULES, false);
+
+        assertThat(rules.ignores(commit("fixup! feat: add feature", 1))).isTrue();
+        assertThat(rules.ignores(commit("Revert \"feat: add feature\"", 1))).isTrue();
+        assertThat(rules.ignores(commit("feat: add feature", 1))).isFalse();
+    }
+
+    @Test
+    void shouldKeepMessageRulesOutOfRevFilter() {
+        IgnoreRules rules = IgnoreRules.compile(DEFAULT_RULES, false);
+
+        assertThat(rules.toRevFilter()).isSameAs(RevFilter.NO_MERGES);
+        assertThat(rules.toRevFilter().requiresCommitBody()).isFalse();
+        assertThat(rules.ignoresMessage(commit("fixup! feat: add feature", 1))).isTrue();
+        assertThat(rules.ignoresMessage(commit("feat: integrate side branch", 2))).isFalse();
+    }
+
+    @Test
+    void shouldMatchSubjectLineByDefault() {
+        RevCommit commit = commit("feat: add feature\n\nPull request #12", 1);
+
+        assertThat(IgnoreRules.compile(DEFAULT_RULES, false).ignores(commit)).isFalse();
+        assertThat(IgnoreRules.compile(DEFAULT_RULES, true).ignores(commit)).isTrue();
+    }
+
+    @Test
+    void shouldCheckAnchoredRulesAsPrefixes() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("^chore"), false);
+
+        assertThat(rules.ignores(commit("chore: bump version", 1))).isTrue();
+        assertThat(rules.ignores(commit("feat: add chore command", 1))).isFalse();
+    }
+
+    @Test
+    void shouldFallBackToRegularExpressions() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("^(docs|test)(\\(.+\\))?:"), false);
+
+        assertThat(rules.ignores(commit("docs(readme): update", 1))).isTrue();
+        assertThat(rules.ignores(commit("test: add cases", 1))).isTrue();
+        assertThat(rules.ignores(commit("feat: add docs", 1))).isFalse();
+    }
+
+    @Test
+    void shouldMatchEmojiRulesAgainstAliases() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("✨"), false);
+
+        assertThat(rules.ignores(commit("✨ add feature", 1))).isTrue();
+        assertThat(rules.ignores(commit(":sparkles: add feature", 1))).isTrue();
+        assertThat(rules.ignores(commit("🐛 fix bug", 1))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreNoCommitWithoutRules() {
+        IgnoreRules rules = IgnoreRules.compile(List.of(), false);
+
+        assertThat(rules).isSameAs(IgnoreRules.NONE);
+        assertThat(rules.ignores(commit("Merge branch 'main'", 2))).isFalse();
+        assertThat(rules.toRevFilter().requiresCommitBody()).isFalse();
+    }
+
+    @Test
+    void shouldNotRequireBodyForMergeRuleOnly() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("Merge"), false);
+
+        assertThat(rules.toRevFilter().requiresCommitBody()).isFalse();
+        assertThat(rules.ignores(commit("Merge branch 'main'", 1))).isFalse();
+    }
+
+    private static RevCommit commit(String message, int parents) {
+        StringBuilder raw = new StringBuilder("tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904\n");
+        for (int i = 1; i <= parents; i++) {
+            raw.append("parent ").append(String.format("%040x", i)).append('\n');
+        }
+        raw.append("author Jane <jane@example.com> 1700000000 +0000\n")
+            .append("committer Jane <jane@example.com> 1700000000 +0000\n\n")
+            .append(message);
+        return RevCommit.parse(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,50 @@
+package dev.rafandoo.gitwit.service.git;
+
+import dev.rafandoo.gitwit.exception.GitWitException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PushUpdate Tests")
+class PushUpdateTest {
+
+    private static final String LOCAL = "f337727030873b96ead6b5ce75d13fffae931bc6";
+    private static final String REMOTE = "eb2b9188883d29508a818129ac7e6ce5584db0c0";
+    private static final String ZERO = ObjectId.zeroId().name();
+
+    @Test
+    void shouldReadRefUpdates() {
+        String input = "refs/heads/main " + LOCAL + " refs/heads/main " + REMOTE + "\n"
+            + "\n"
+            + "(delete) " + ZERO + " refs/heads/old " + REMOTE + "\n";
+
+        List<PushUpdate> updates = PushUpdate.readAll(new BufferedReader(new StringReader(input)));
+
+        assertThat(updates).containsExactly(
+            new PushUpdate("refs/heads/main", ObjectId.fromString(LOCAL), "refs/heads/main", ObjectId.fromString(REMOTE)),
+            new PushUpdate("(delete)", ObjectId.zeroId(), "refs/heads/old", ObjectId.fromString(REMOTE))
+        );
+        assertThat(updates.get(0).isDelete()).isFalse();
+        assertThat(updates.get(1).isDelete()).isTrue();
+    }
+
+    @Test
+    void shouldReadNoRefUpdates() {
+        assertThat(PushUpdate.readAll(new BufferedReader(new StringReader("")))).isEmpty();
+    }
+
+    @Test
+    void shouldFailOnMalformedLine() {
+        assertThatThrownBy(() -> PushUpdate.parse("refs/heads/main " + LOCAL))
+            .isInstanceOf(GitWitException.class);
+        assertThatThrownBy(() -> PushUpdate.parse("refs/heads/main HEAD refs/heads/main " + REMOTE))
+            .isInstanceOf(GitWitException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package dev.rafandoo.gitwit.service.git;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TagIndex Tests")
+class TagIndexTest {
+
+    private static final ObjectId COMMIT_A = ObjectId.fromString("f337727030873b96ead6b5ce75d13fffae931bc6");
+    private static final ObjectId COMMIT_B = ObjectId.fromString("eb2b9188883d29508a818129ac7e6ce5584db0c0");
+
+    private static final TagIndex INDEX = TagIndex.of(List.of(
+        TagIndex.Entry.of("v3.0.0", COMMIT_A, 300),
+        TagIndex.Entry.of("v2.3.1", COMMIT_B, 400),
+        TagIndex.Entry.of("v2.3.0", COMMIT_A, 200),
+        TagIndex.Entry.of("v2.3.0-rc.1", COMMIT_A, 200),
+        TagIndex.Entry.of("nightly", COMMIT_B, 500)
+    ));
+
+    @Test
+    void shouldOrderTagsBySemVerPrecedence() {
+        assertThat(names(INDEX.releases())).containsExactly("nightly", "v2.3.0-rc.1", "v2.3.0", "v2.3.1", "v3.0.0");
+    }
+
+    @Test
+    void shouldLookUpTagsByCommit() {
+        assertThat(INDEX.commits()).containsExactlyInAnyOrder(COMMIT_A, COMMIT_B);
+        assertThat(INDEX.latestOn(COMMIT_A).name()).isEqualTo("v3.0.0");
+        assertThat(INDEX.latestOn(ObjectId.zeroId())).isNull();
+        assertThat(INDEX.get("v2.3.1").commitId()).isEqualTo(COMMIT_B);
+    }
+
+    @Test
+    void shouldHandleEmptyIndex() {
+        assertThat(TagIndex.EMPTY.releases()).isEmpty();
+        assertThat(TagIndex.EMPTY.commits()).isEmpty();
+        assertThat(TagIndex.EMPTY.get("v1.0.0")).isNull();
+    }
+
+    private static List<String> names(List<ReleaseTag> tags) {
+        return tags.stream().map(ReleaseTag::name).toList();
+    }
+}
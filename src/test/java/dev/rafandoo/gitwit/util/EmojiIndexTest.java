@@ -0,0 +1,54 @@
+package dev.rafandoo.gitwit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmojiIndex Tests")
+class EmojiIndexTest {
+
+    private final EmojiIndex index = EmojiIndex.get();
+
+    @Test
+    void shouldReplaceEmojisWithFirstGithubAlias() {
+        assertThat(this.index.replaceEmojis("🐛 fix crash, 🚀 ship it"))
+            .isEqualTo(":bug: fix crash, :rocket: ship it");
+    }
+
+    @Test
+    void shouldMatchLongestEmojiSequence() {
+        assertThat(this.index.replaceEmojis("❤️ it, 1️⃣ step"))
+            .isEqualTo(":heart: it, :one: step");
+    }
+
+    @Test
+    void shouldReplaceAliasesWithEmojis() {
+        assertThat(this.index.replaceAliases(":sparkles: feat and :bug: fix"))
+            .isEqualTo("✨ feat and 🐛 fix");
+        assertThat(this.index.emojiForAlias(":rocket:")).isEqualTo("🚀");
+    }
+
+    @Test
+    void shouldKeepUnknownAliasesAndPlainColons() {
+        String text = "feat: keep :not_an_emoji_alias: and 10:30:00";
+
+        assertThat(this.index.replaceAliases(text)).isSameAs(text);
+    }
+
+    @Test
+    void shouldReturnSameInstanceForAsciiText() {
+        String text = "fix(core): plain ascii message";
+
+        assertThat(EmojiIndex.isAscii(text)).isTrue();
+        assertThat(EmojiUtil.replaceEmojiWithAlias(text)).isSameAs(text);
+        assertThat(this.index.replaceEmojis("café sem emoji")).isEqualTo("café sem emoji");
+    }
+
+    @Test
+    void shouldRoundTripAliases() {
+        String text = ":bug: fix :rocket:";
+
+        assertThat(EmojiUtil.replaceEmojiWithAlias(EmojiUtil.processEmojis(text))).isEqualTo(text);
+    }
+}